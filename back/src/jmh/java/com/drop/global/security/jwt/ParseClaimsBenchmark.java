@@ -0,0 +1,69 @@
+package com.drop.global.security.jwt;
+
+import com.drop.global.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 서명 검증과 디코딩을 하던 방식(verifyEveryTime)과 검증된 Claims 캐시(parseClaims)를 비교합니다.
+ * 필터가 여러 요청 스레드에서 동시에 호출하므로 캐시의 락 경합이 드러나도록 4개 스레드로 측정합니다.
+ * <pre>./gradlew jmh</pre> 결과는 build/results/jmh/results.json에, 요약표는 build/results/jmh/human.txt에 남습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class ParseClaimsBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-for-jwt-token-provider-must-be-long-enough-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtParser jwtParser;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenProvider = new JwtTokenProvider();
+        setField("secretKey", SECRET_KEY);
+        setField("accessTokenExpirationMillis", 3_600_000L);
+        setField("refreshTokenExpirationMillis", 259_200_000L);
+        jwtTokenProvider.init();
+
+        String base64EncodedSecretKey = jwtTokenProvider.encodeBase64SecretKey(SECRET_KEY);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey)))
+                .build();
+        accessToken = jwtTokenProvider.generateTokenDto(CustomUserDetails.of(1L, "bench@email.com", "ROLE_MEMBER"))
+                .getAccessToken();
+    }
+
+    @Benchmark
+    public Claims verifyEveryTime() {
+        return jwtParser.parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.parseClaims(accessToken);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
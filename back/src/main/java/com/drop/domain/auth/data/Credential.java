@@ -0,0 +1,56 @@
+package com.drop.domain.auth.data;
+
+import com.drop.domain.base.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 회원/박스 공통 인증 정보(비밀번호, 토큰).
+ * 목록 조회가 많은 CROSSFIT_BOX/MEMBER 행과 분리해, 로그인 시 토큰 갱신이 이 테이블에만 쓰이도록 합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "USER_CREDENTIAL")
+public class Credential extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "CREDENTIAL_ID")
+    private Long id;
+
+    @Column(name = "PASSWORD")
+    private String password;
+
+    @Column(name = "ACCESS_TOKEN", length = 2000)
+    private String accessToken;
+
+    @Column(name = "REFRESH_TOKEN", length = 2000)
+    private String refreshToken;
+
+    public static Credential of(String password) {
+        return Credential.builder()
+                .password(password)
+                .build();
+    }
+
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
+    public void updateTokens(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public void clearTokens() {
+        this.accessToken = null;
+        this.refreshToken = null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.drop.domain.auth.service;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.auth.dto.GoogleUserInfo;
 import com.drop.domain.auth.dto.TokenDto;
 import com.drop.domain.member.data.Member;
@@ -112,7 +113,7 @@ public class GoogleAuthService {
         Member member = Member.builder()
                 .email(userInfo.getEmail())
                 .username(userInfo.getName())
-                .password(UUID.randomUUID().toString())
+                .credential(Credential.of(UUID.randomUUID().toString()))
                 .role(UserRole.MEMBER)
                 .build();
 
@@ -1,15 +1,30 @@
 package com.drop.domain.crossfitbox.controller;
 
+import com.drop.domain.crossfitbox.dto.CrossfitBoxChangesDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterListDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchPageDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxTileDto;
+import com.drop.domain.crossfitbox.service.CrossfitBoxChangeService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxMapPayloadService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxSearchService;
 import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxTileService;
 import com.drop.domain.schedule.dto.ScheduleListDto;
+import com.drop.domain.schedule.dto.UpcomingClassDto;
+import com.drop.domain.schedule.service.ScheduleCacheService;
 import com.drop.domain.schedule.service.ScheduleService;
+import com.drop.domain.schedule.service.UpcomingClassService;
 import com.drop.global.code.result.ResultCode;
 import com.drop.global.code.result.ResultResponse;
+import com.drop.global.enums.DayOfWeek;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "CrossfitBox", description = "크로스핏박스 API")
@@ -26,17 +42,48 @@ import java.util.List;
 public class CrossfitBoxController {
 
     private final CrossfitBoxService crossfitBoxService;
+    private final CrossfitBoxTileService crossfitBoxTileService;
+    private final CrossfitBoxChangeService crossfitBoxChangeService;
+    private final CrossfitBoxMapPayloadService crossfitBoxMapPayloadService;
+    private final CrossfitBoxSearchService crossfitBoxSearchService;
     private final ScheduleService scheduleService;
+    private final ScheduleCacheService scheduleCacheService;
+    private final UpcomingClassService upcomingClassService;
 
-    @Operation(summary = "크로스핏박스 이름 검색", description = "크로스핏박스 이름으로 검색합니다.")
+    @Operation(summary = "크로스핏박스 이름 검색", description = "크로스핏박스 이름으로 검색합니다. 이름 전체/접두 일치가 먼저 오도록 정렬됩니다.")
     @GetMapping("/search")
     public ResponseEntity<ResultResponse> searchCrossfitBoxes(
-            @Parameter(description = "검색 키워드") @RequestParam String keyword
+            @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "최대 조회 개수 (1~50)") @RequestParam(defaultValue = "20") Integer limit
     ) {
-        List<CrossfitBoxDto> crossfitBoxes = crossfitBoxService.searchByName(keyword);
+        List<CrossfitBoxDto> crossfitBoxes = crossfitBoxService.searchByName(keyword, limit);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, crossfitBoxes));
     }
 
+    @Operation(summary = "크로스핏박스 통합 검색", description = "이름, 주소, 행정구역(예: 강남, 역삼동)을 함께 검색합니다. "
+            + "전체 일치 > 이름 접두 > 토큰 > 오타 순으로 점수를 매기고, 좌표를 보내면 가까운 박스에 가산점을 줍니다. 커서 기반으로 페이지를 나눕니다.")
+    @GetMapping("/unified-search")
+    public ResponseEntity<ResultResponse> unifiedSearchCrossfitBoxes(
+            @Parameter(description = "검색어 (예: 강남 크로스핏)") @RequestParam String keyword,
+            @Parameter(description = "기준 위도 (선택)") @RequestParam(required = false) Double lat,
+            @Parameter(description = "기준 경도 (선택)") @RequestParam(required = false) Double lng,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~50)") @RequestParam(defaultValue = "20") Integer size
+    ) {
+        CrossfitBoxSearchPageDto page = crossfitBoxSearchService.search(keyword, lat, lng, cursor, size);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, page));
+    }
+
+    @Operation(summary = "크로스핏박스 이름 자동완성", description = "입력 중인 이름의 접두어로 자동완성합니다. 초성(예: ㅋㄹㅅㅍ)과 오타 1~2자를 허용합니다.")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ResultResponse> autocompleteCrossfitBoxes(
+            @Parameter(description = "입력 중인 키워드") @RequestParam String keyword,
+            @Parameter(description = "최대 조회 개수 (1~10)") @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        List<CrossfitBoxSuggestionDto> suggestions = crossfitBoxService.autocomplete(keyword, limit);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, suggestions));
+    }
+
     @Operation(summary = "전체 크로스핏박스 목록 조회 (지도용)", description = "위치 정보가 있는 모든 크로스핏박스를 조회합니다.")
     @GetMapping("/map")
     public ResponseEntity<ResultResponse> getAllCrossfitBoxesForMap() {
@@ -44,6 +91,25 @@ public class CrossfitBoxController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, crossfitBoxes));
     }
 
+    @Operation(summary = "전체 크로스핏박스 목록 조회 (지도용, columnar JSON)", description = "Accept: " + CrossfitBoxMapPayloadService.COLUMNAR_JSON + " 요청 시 ids/lat/lng/names 병렬 배열로 응답합니다.")
+    @GetMapping(value = "/map", produces = CrossfitBoxMapPayloadService.COLUMNAR_JSON)
+    public ResponseEntity<byte[]> getAllCrossfitBoxesForMapColumnar() {
+        return mapPayload(crossfitBoxMapPayloadService.getColumnarJson(), CrossfitBoxMapPayloadService.COLUMNAR_JSON);
+    }
+
+    @Operation(summary = "전체 크로스핏박스 목록 조회 (지도용, binary)", description = "Accept: " + CrossfitBoxMapPayloadService.BINARY + " 요청 시 델타/고정소수점 인코딩된 바이너리로 응답합니다.")
+    @GetMapping(value = "/map", produces = CrossfitBoxMapPayloadService.BINARY)
+    public ResponseEntity<byte[]> getAllCrossfitBoxesForMapBinary() {
+        return mapPayload(crossfitBoxMapPayloadService.getBinary(), CrossfitBoxMapPayloadService.BINARY);
+    }
+
+    private ResponseEntity<byte[]> mapPayload(CrossfitBoxMapPayloadService.MapPayload payload, String contentType) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .eTag(payload.etag())
+                .body(payload.body());
+    }
+
     @Operation(summary = "영역 내 크로스핏박스 목록 조회", description = "지정된 영역(bounds) 내의 크로스핏박스를 조회합니다.")
     @GetMapping("/map/bounds")
     public ResponseEntity<ResultResponse> getCrossfitBoxesByBounds(
@@ -56,6 +122,72 @@ public class CrossfitBoxController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, crossfitBoxes));
     }
 
+    @Operation(summary = "줌 레벨별 크로스핏박스 클러스터 조회", description = "지정된 영역(bounds)과 줌 레벨에 맞춰 미리 계산된 클러스터를 조회합니다. 높은 줌 레벨에서는 개별 크로스핏박스를 반환합니다.")
+    @GetMapping("/map/clusters")
+    public ResponseEntity<ResultResponse> getCrossfitBoxClusters(
+            @Parameter(description = "남서쪽 위도") @RequestParam Double swLat,
+            @Parameter(description = "남서쪽 경도") @RequestParam Double swLng,
+            @Parameter(description = "북동쪽 위도") @RequestParam Double neLat,
+            @Parameter(description = "북동쪽 경도") @RequestParam Double neLng,
+            @Parameter(description = "지도 줌 레벨") @RequestParam Integer zoom
+    ) {
+        CrossfitBoxClusterListDto clusters = crossfitBoxService.getCrossfitBoxClusters(swLat, swLng, neLat, neLng, zoom);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_CLUSTER_SUCCESS, clusters));
+    }
+
+    @Operation(summary = "지도 타일 내 크로스핏박스 목록 조회", description = "XYZ 타일 좌표(z/x/y)에 해당하는 영역의 크로스핏박스를 조회합니다. 타일 단위로 캐싱됩니다.")
+    @GetMapping("/map/tiles/{z}/{x}/{y}")
+    public ResponseEntity<ResultResponse> getCrossfitBoxTile(
+            @Parameter(description = "타일 줌 레벨 (0~18)") @PathVariable Integer z,
+            @Parameter(description = "타일 X 좌표") @PathVariable Integer x,
+            @Parameter(description = "타일 Y 좌표") @PathVariable Integer y
+    ) {
+        CrossfitBoxTileDto tile = crossfitBoxTileService.getTile(z, x, y);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, tile));
+    }
+
+    @Operation(summary = "지도 데이터 변경 내역 조회", description = "since 버전 이후 추가/수정/제거된 크로스핏박스만 조회합니다. since가 없거나 유효하지 않으면 전체 목록을 반환합니다.")
+    @GetMapping("/map/changes")
+    public ResponseEntity<ResultResponse> getCrossfitBoxChanges(
+            @Parameter(description = "클라이언트가 마지막으로 받은 버전") @RequestParam(required = false) Long since
+    ) {
+        CrossfitBoxChangesDto changes = crossfitBoxChangeService.getChanges(since);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_CHANGES_SUCCESS, changes));
+    }
+
+    @Operation(summary = "가까운 크로스핏박스 조회", description = "기준 좌표에서 가장 가까운 크로스핏박스 k개를 거리순으로 조회합니다.")
+    @GetMapping("/nearest")
+    public ResponseEntity<ResultResponse> getNearestCrossfitBoxes(
+            @Parameter(description = "기준 위도") @RequestParam Double lat,
+            @Parameter(description = "기준 경도") @RequestParam Double lng,
+            @Parameter(description = "조회 개수 (1~50)") @RequestParam(defaultValue = "10") Integer k
+    ) {
+        List<CrossfitBoxDistanceDto> crossfitBoxes = crossfitBoxService.getNearestCrossfitBoxes(lat, lng, k);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, crossfitBoxes));
+    }
+
+    @Operation(summary = "곧 수업이 있는 주변 크로스핏박스 조회", description = "기준 좌표 반경 내에서 지금(Asia/Seoul)부터 within분 안에 수업이 시작하는 박스를 첫 수업 시작 순으로 조회합니다. 휴무일은 제외됩니다.")
+    @GetMapping("/upcoming-classes")
+    public ResponseEntity<ResultResponse> getUpcomingClasses(
+            @Parameter(description = "기준 위도") @RequestParam Double lat,
+            @Parameter(description = "기준 경도") @RequestParam Double lng,
+            @Parameter(description = "반경(km, 최대 50)") @RequestParam(defaultValue = "5") Double radiusKm,
+            @Parameter(description = "조회 시간 범위(분, 1~1440)") @RequestParam(defaultValue = "90") Integer within
+    ) {
+        List<UpcomingClassDto> crossfitBoxes = upcomingClassService.getUpcomingClasses(lat, lng, radiusKm, within);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_LIST_SUCCESS, crossfitBoxes));
+    }
+
+    @Operation(summary = "여러 크로스핏박스 시간표 일괄 조회", description = "최대 50개 크로스핏박스의 시간표를 요청한 id 순서대로 한 번에 조회합니다. day를 지정하면 해당 요일만 조회합니다.")
+    @GetMapping("/schedules")
+    public ResponseEntity<ResultResponse> getCrossfitBoxSchedules(
+            @Parameter(description = "크로스핏박스 ID 목록 (예: 1,2,3)") @RequestParam List<Long> ids,
+            @Parameter(description = "요일 (선택, 예: MONDAY)") @RequestParam(required = false) DayOfWeek day
+    ) {
+        List<ScheduleListDto> schedules = scheduleService.getSchedules(ids, day);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.SCHEDULE_GET_SUCCESS, schedules));
+    }
+
     @Operation(summary = "크로스핏박스 상세 조회", description = "크로스핏박스 ID로 상세 정보를 조회합니다.")
     @GetMapping("/{crossfitBoxId}")
     public ResponseEntity<ResultResponse> getCrossfitBoxById(
@@ -65,12 +197,14 @@ public class CrossfitBoxController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_DETAIL_SUCCESS, crossfitBox));
     }
 
-    @Operation(summary = "크로스핏박스 시간표 조회", description = "크로스핏박스의 시간표를 조회합니다.")
-    @GetMapping("/{crossfitBoxId}/schedule")
-    public ResponseEntity<ResultResponse> getCrossfitBoxSchedule(
+    @Operation(summary = "크로스핏박스 시간표 조회", description = "크로스핏박스의 시간표를 조회합니다. 미리 직렬화해 캐싱한 응답을 그대로 내려줍니다.")
+    @GetMapping(value = "/{crossfitBoxId}/schedule", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCrossfitBoxSchedule(
             @Parameter(description = "크로스핏박스 ID") @PathVariable Long crossfitBoxId
     ) {
-        ScheduleListDto schedule = scheduleService.getSchedule(crossfitBoxId);
-        return ResponseEntity.ok(ResultResponse.of(ResultCode.SCHEDULE_GET_SUCCESS, schedule));
+        String schedule = scheduleCacheService.getScheduleResponse(crossfitBoxId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(schedule.getBytes(StandardCharsets.UTF_8));
     }
 }
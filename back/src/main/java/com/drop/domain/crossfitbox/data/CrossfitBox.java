@@ -1,9 +1,11 @@
 package com.drop.domain.crossfitbox.data;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.base.Address;
 import com.drop.domain.base.BaseEntity;
 import com.drop.domain.schedule.data.CrossfitBoxSchedule;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxCreateDto;
+import com.drop.domain.crossfitbox.index.GeoHash;
 import com.drop.global.enums.UserRole;
 import com.drop.global.security.Authenticatable;
 import lombok.AllArgsConstructor;
@@ -21,7 +23,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@Table(name = "CROSSFIT_BOX")
+@Table(name = "CROSSFIT_BOX", indexes = @Index(name = "IDX_CROSSFIT_BOX_GEOHASH", columnList = "GEOHASH"))
 @EntityListeners(AuditingEntityListener.class)
 public class CrossfitBox extends BaseEntity implements Authenticatable {
 
@@ -36,19 +38,27 @@ public class CrossfitBox extends BaseEntity implements Authenticatable {
     @Column(name = "EMAIL", unique = true, nullable = false)
     private String email;
 
-    @Column(name = "PASSWORD")
-    private String password;
-
     @Column(name = "ROLE")
     @Enumerated(value = EnumType.STRING)
     @Builder.Default
     private UserRole role = UserRole.GYM;
 
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "CREDENTIAL_ID", unique = true)
+    private Credential credential;
+
+    /**
+     * 이전 버전 파드가 읽고 쓰는 기존 인증 컬럼. 롤링 배포 중에는 {@link Credential}과 함께 갱신하며,
+     * 모든 파드가 이 버전으로 바뀐 뒤 다음 릴리스에서 매핑과 컬럼을 삭제합니다.
+     */
+    @Column(name = "PASSWORD")
+    private String legacyPassword;
+
     @Column(name = "ACCESS_TOKEN", length = 2000)
-    private String accessToken;
+    private String legacyAccessToken;
 
     @Column(name = "REFRESH_TOKEN", length = 2000)
-    private String refreshToken;
+    private String legacyRefreshToken;
 
     // CrossfitBox-specific fields
     private String name;
@@ -71,23 +81,23 @@ public class CrossfitBox extends BaseEntity implements Authenticatable {
     private Double latitude;
     private Double longitude;
 
+    /**
+     * 위경도로부터 계산한 geohash. 경계/반경 조회가 이 컬럼의 인덱스 범위 스캔으로 후보를 좁힙니다.
+     */
+    @Column(name = "GEOHASH", length = GeoHash.PRECISION)
+    private String geohash;
+
     @Embedded
     private UsageInfo usageInfo;
 
     @OneToMany(mappedBy = "crossfitBox", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<CrossfitBoxSchedule> schedules;
 
-    @Override
-    public void setTokens(String accessToken, String refreshToken) {
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
-    }
-
     public static CrossfitBox create(CrossfitBoxCreateDto crossfitBoxDto) {
         return CrossfitBox.builder()
                 .username(crossfitBoxDto.getUsername())
                 .email(crossfitBoxDto.getEmail())
-                .password(crossfitBoxDto.getPassword())
+                .credential(Credential.of(crossfitBoxDto.getPassword()))
                 .role(crossfitBoxDto.getRole() != null ? crossfitBoxDto.getRole() : UserRole.GYM)
                 .name(crossfitBoxDto.getName())
                 .phoneNumber(crossfitBoxDto.getPhoneNumber())
@@ -97,6 +107,62 @@ public class CrossfitBox extends BaseEntity implements Authenticatable {
                 .build();
     }
 
+    @Override
+    public String getPassword() {
+        return obtainCredential().getPassword();
+    }
+
+    @Override
+    public String getAccessToken() {
+        return obtainCredential().getAccessToken();
+    }
+
+    @Override
+    public String getRefreshToken() {
+        return obtainCredential().getRefreshToken();
+    }
+
+    @Override
+    public void setTokens(String accessToken, String refreshToken) {
+        obtainCredential().updateTokens(accessToken, refreshToken);
+        this.legacyAccessToken = accessToken;
+        this.legacyRefreshToken = refreshToken;
+    }
+
+    public void updatePassword(String password) {
+        obtainCredential().updatePassword(password);
+        this.legacyPassword = password;
+    }
+
+    public void clearTokens() {
+        obtainCredential().clearTokens();
+        this.legacyAccessToken = null;
+        this.legacyRefreshToken = null;
+    }
+
+    /**
+     * 이전 버전 파드가 만든 행은 이관 전까지 인증 정보가 없으므로 기존 컬럼 값으로 만들어 연결합니다(cascade로 함께 저장).
+     */
+    private Credential obtainCredential() {
+        if (credential == null) {
+            credential = Credential.builder()
+                    .password(legacyPassword)
+                    .accessToken(legacyAccessToken)
+                    .refreshToken(legacyRefreshToken)
+                    .build();
+        }
+        return credential;
+    }
+
+    @PrePersist
+    private void copyCredentialToLegacyColumns() {
+        if (credential != null) {
+            this.legacyPassword = credential.getPassword();
+            this.legacyAccessToken = credential.getAccessToken();
+            this.legacyRefreshToken = credential.getRefreshToken();
+        }
+    }
+
     public void updateAddress(Address address) {
         this.address = address;
     }
@@ -104,6 +170,13 @@ public class CrossfitBox extends BaseEntity implements Authenticatable {
     public void updateCoordinates(Double latitude, Double longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
+        syncGeohash();
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void syncGeohash() {
+        this.geohash = latitude != null && longitude != null ? GeoHash.encode(latitude, longitude) : null;
     }
 
     public void updateInfo(String name, String phoneNumber, String etcInfo, Integer dropInFee) {
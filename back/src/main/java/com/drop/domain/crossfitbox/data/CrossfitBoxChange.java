@@ -0,0 +1,36 @@
+package com.drop.domain.crossfitbox.data;
+
+import com.drop.domain.base.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 크로스핏박스 변경 로그. ID가 곧 지도 데이터의 변경 버전(단조 증가)이며,
+ * 클라이언트는 마지막으로 받은 버전 이후의 변경만 동기화합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "CROSSFIT_BOX_CHANGE")
+public class CrossfitBoxChange extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "CROSSFIT_BOX_CHANGE_ID")
+    private Long id;
+
+    @Column(name = "CROSSFIT_BOX_ID", nullable = false)
+    private Long crossfitBoxId;
+
+    public static CrossfitBoxChange of(Long crossfitBoxId) {
+        return CrossfitBoxChange.builder()
+                .crossfitBoxId(crossfitBoxId)
+                .build();
+    }
+}
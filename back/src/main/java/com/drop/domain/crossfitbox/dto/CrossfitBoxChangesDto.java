@@ -0,0 +1,30 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 데이터 변경 내역 응답 DTO")
+public class CrossfitBoxChangesDto {
+
+    @Schema(description = "현재 데이터 버전 (다음 요청의 since 값)", example = "1024")
+    private Long version;
+
+    @Schema(description = "전체 동기화 여부 (true면 로컬 데이터를 upserts로 교체)")
+    private Boolean fullSync;
+
+    @Schema(description = "추가/수정된 크로스핏박스 목록")
+    @Builder.Default
+    private List<CrossfitBoxDto> upserts = new ArrayList<>();
+
+    @Schema(description = "지도에서 제거된 크로스핏박스 ID 목록")
+    @Builder.Default
+    private List<Long> deletions = new ArrayList<>();
+}
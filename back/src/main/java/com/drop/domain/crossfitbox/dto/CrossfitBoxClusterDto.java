@@ -0,0 +1,27 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 마커 클러스터 DTO")
+public class CrossfitBoxClusterDto {
+
+    @Schema(description = "클러스터 중심 위도")
+    private Double latitude;
+
+    @Schema(description = "클러스터 중심 경도")
+    private Double longitude;
+
+    @Schema(description = "클러스터에 포함된 크로스핏박스 수")
+    private Integer count;
+
+    @Schema(description = "대표 크로스핏박스 ID 목록 (최대 3개)")
+    private List<Long> crossfitBoxIds;
+}
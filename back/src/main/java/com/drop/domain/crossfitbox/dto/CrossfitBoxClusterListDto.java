@@ -0,0 +1,27 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "줌 레벨별 지도 클러스터 응답 DTO")
+public class CrossfitBoxClusterListDto {
+
+    @Schema(description = "요청 줌 레벨")
+    private Integer zoom;
+
+    @Schema(description = "클러스터 목록 (클러스터링 줌 레벨 이하일 때)")
+    @Builder.Default
+    private List<CrossfitBoxClusterDto> clusters = new ArrayList<>();
+
+    @Schema(description = "개별 크로스핏박스 목록 (클러스터링 줌 레벨을 넘을 때)")
+    @Builder.Default
+    private List<CrossfitBoxDto> crossfitBoxes = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "거리 포함 크로스핏박스 응답 DTO")
+public class CrossfitBoxDistanceDto {
+
+    @Schema(description = "크로스핏박스 정보")
+    private CrossfitBoxDto crossfitBox;
+
+    @Schema(description = "기준 좌표로부터의 대원 거리(km)", example = "1.23")
+    private Double distanceKm;
+}
@@ -0,0 +1,25 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "통합 검색 결과 항목 DTO")
+public class CrossfitBoxSearchHitDto {
+
+    @Schema(description = "크로스핏박스 정보")
+    private CrossfitBoxDto crossfitBox;
+
+    @Schema(description = "검색 점수 (높을수록 우선)", example = "87.0")
+    private Double score;
+
+    @Schema(description = "일치 유형 (EXACT, PREFIX, TOKEN, FUZZY)", example = "PREFIX")
+    private String matchType;
+
+    @Schema(description = "기준 좌표로부터의 대원 거리(km). 좌표를 보내지 않으면 null", example = "1.23")
+    private Double distanceKm;
+}
@@ -0,0 +1,24 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "통합 검색 페이지 응답 DTO")
+public class CrossfitBoxSearchPageDto {
+
+    @Schema(description = "점수순 검색 결과")
+    private List<CrossfitBoxSearchHitDto> results;
+
+    @Schema(description = "다음 페이지 커서. 마지막 페이지면 null")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "크로스핏박스 자동완성 응답 DTO")
+public class CrossfitBoxSuggestionDto {
+
+    @Schema(description = "크로스핏박스 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "크로스핏박스 이름", example = "크로스핏 강남")
+    private String name;
+}
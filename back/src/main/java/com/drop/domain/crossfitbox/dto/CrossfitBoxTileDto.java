@@ -0,0 +1,29 @@
+package com.drop.domain.crossfitbox.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지도 타일 내 크로스핏박스 응답 DTO")
+public class CrossfitBoxTileDto {
+
+    @Schema(description = "타일 줌 레벨", example = "14")
+    private Integer z;
+
+    @Schema(description = "타일 X 좌표", example = "13972")
+    private Integer x;
+
+    @Schema(description = "타일 Y 좌표", example = "6346")
+    private Integer y;
+
+    @Schema(description = "타일 내 크로스핏박스 목록")
+    @Builder.Default
+    private List<CrossfitBoxDto> crossfitBoxes = new ArrayList<>();
+}
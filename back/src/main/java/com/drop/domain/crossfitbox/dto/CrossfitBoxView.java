@@ -0,0 +1,74 @@
+package com.drop.domain.crossfitbox.dto;
+
+import com.drop.domain.base.Address;
+import com.drop.domain.base.AddressDto;
+import com.drop.global.enums.UserRole;
+
+/**
+ * 조회 전용 크로스핏박스 projection.
+ * JPQL 생성자 표현식으로 필요한 컬럼만 읽어오며, 비밀번호/토큰 컬럼과 시간표 연관관계는 포함하지 않습니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않습니다.
+ */
+public record CrossfitBoxView(
+        Long id,
+        String username,
+        String email,
+        UserRole role,
+        String name,
+        String phoneNumber,
+        String etcInfo,
+        Integer dropInFee,
+        String countryCode,
+        String postalCode,
+        String addressLine1,
+        String addressLine2,
+        String jibunAddress,
+        String buildingName,
+        Address.AddressSource addressSource,
+        Double latitude,
+        Double longitude,
+        Boolean parking,
+        Boolean wear,
+        Boolean locker
+) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public CrossfitBoxDto toDto() {
+        return CrossfitBoxDto.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .role(role)
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .etcInfo(etcInfo)
+                .dropInFee(dropInFee)
+                .address(toAddressDto())
+                .latitude(latitude)
+                .longitude(longitude)
+                .usageInfo(parking == null && wear == null && locker == null
+                        ? null
+                        : new CrossfitBoxDto.CrossfitBoxUsageInfoDto(parking, wear, locker))
+                .build();
+    }
+
+    // 임베디드 컬럼이 모두 null이면 엔티티 매핑과 마찬가지로 주소 없음으로 취급
+    private AddressDto toAddressDto() {
+        if (countryCode == null && postalCode == null && addressLine1 == null && addressLine2 == null
+                && jibunAddress == null && buildingName == null && addressSource == null) {
+            return null;
+        }
+        return AddressDto.builder()
+                .countryCode(countryCode)
+                .postalCode(postalCode)
+                .addressLine1(addressLine1)
+                .addressLine2(addressLine2)
+                .jibunAddress(jibunAddress)
+                .buildingName(buildingName)
+                .addressSource(addressSource)
+                .build();
+    }
+}
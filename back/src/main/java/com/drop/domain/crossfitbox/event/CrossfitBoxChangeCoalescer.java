@@ -0,0 +1,81 @@
+package com.drop.domain.crossfitbox.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋된 크로스핏박스 변경을 COALESCE_MILLIS 동안 모아 {@link CrossfitBoxesChangedEvent} 하나로 발행합니다.
+ * 체육관 동기화처럼 한 트랜잭션에서 박스 수백 개가 바뀌어도 인덱스마다 조회와 스냅샷 교체가 한 번만 일어납니다.
+ * 로컬 변경과 다른 파드에서 전달된 변경은 따로 모아 remote 여부를 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxChangeCoalescer {
+
+    static final long COALESCE_MILLIS = 200;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "crossfit-box-change");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Set<Long> pendingLocal = new LinkedHashSet<>();
+    private Set<Long> pendingRemote = new LinkedHashSet<>();
+    private boolean scheduled;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCrossfitBoxChanged(CrossfitBoxChangedEvent event) {
+        (event.remote() ? pendingRemote : pendingLocal).add(event.crossfitBoxId());
+        if (!scheduled) {
+            scheduled = true;
+            scheduler.schedule(this::flush, COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 모인 변경을 발행합니다. 발행 중에 들어온 변경은 다음 구간으로 넘어갑니다.
+     */
+    public void flush() {
+        Set<Long> local;
+        Set<Long> remote;
+        synchronized (this) {
+            local = pendingLocal;
+            remote = pendingRemote;
+            pendingLocal = new LinkedHashSet<>();
+            pendingRemote = new LinkedHashSet<>();
+            scheduled = false;
+        }
+        publish(local, false);
+        publish(remote, true);
+    }
+
+    private void publish(Set<Long> crossfitBoxIds, boolean remote) {
+        if (crossfitBoxIds.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new CrossfitBoxesChangedEvent(Set.copyOf(crossfitBoxIds), remote));
+        } catch (Exception e) {
+            log.error("크로스핏박스 변경 반영 실패 - {}개, remote: {}", crossfitBoxIds.size(), remote, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,20 @@
+package com.drop.domain.crossfitbox.event;
+
+import com.drop.global.redis.RelayableEvent;
+
+/**
+ * 크로스핏박스 정보(좌표, 이름, 주소 등)가 생성/수정되었을 때 발행되는 이벤트.
+ * 인메모리 인덱스들은 트랜잭션 커밋 이후 {@link CrossfitBoxChangeCoalescer}가 묶어 발행한 {@link CrossfitBoxesChangedEvent}로 갱신합니다.
+ * remote가 true이면 다른 파드에서 발생한 변경을 {@link com.drop.global.redis.RedisEventRelay}가 전달한 것입니다.
+ */
+public record CrossfitBoxChangedEvent(Long crossfitBoxId, boolean remote) implements RelayableEvent {
+
+    public CrossfitBoxChangedEvent(Long crossfitBoxId) {
+        this(crossfitBoxId, false);
+    }
+
+    @Override
+    public Long relayId() {
+        return crossfitBoxId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.drop.domain.crossfitbox.event;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+
+import java.util.List;
+
+/**
+ * 공간 인덱스에 변경 묶음이 반영된 뒤 발행되는 이벤트.
+ * changes의 previous/current는 각각 변경 전후의 인덱스 항목이며, 위치 정보가 없으면 null입니다.
+ * remote가 true이면 다른 파드에서 발생한 변경을 반영한 것입니다.
+ */
+public record CrossfitBoxIndexedEvent(List<Change> changes, boolean remote) {
+
+    public record Change(CrossfitBoxDto previous, CrossfitBoxDto current) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.drop.domain.crossfitbox.event;
+
+import java.util.Set;
+
+/**
+ * 짧은 구간 동안 발생한 {@link CrossfitBoxChangedEvent}를 {@link CrossfitBoxChangeCoalescer}가 모아 한 번에 발행하는 이벤트.
+ * 인메모리 인덱스들은 이 이벤트를 받아 변경된 박스를 한 번의 조회와 한 번의 스냅샷 교체로 반영합니다.
+ */
+public record CrossfitBoxesChangedEvent(Set<Long> crossfitBoxIds, boolean remote) {
+}
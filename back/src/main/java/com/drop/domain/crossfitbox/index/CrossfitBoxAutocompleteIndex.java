@@ -0,0 +1,255 @@
+package com.drop.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import com.drop.global.util.Hangul;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 크로스핏박스 이름 자동완성용 자모 트라이.
+ * 이름(과 각 단어로 시작하는 접미부)을 자모로 풀어 한 트라이에, 초성만 모아 다른 트라이에 넣고,
+ * 노드마다 하위 이름 중 상위 {@link #TOP_PER_NODE}개를 미리 골라 두어 접두어 조회가 검색어 길이에만 비례하게 합니다.
+ * 일치하는 접두어가 부족하면 편집 거리 1~2 이내의 접두어를 방문 노드 수 한도 안에서 찾습니다.
+ * 쓰기는 드물기 때문에 변경 묶음마다 트라이를 새로 만들어 교체하고, 읽기는 락 없이 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxAutocompleteIndex {
+
+    public static final int TOP_PER_NODE = 10;
+    private static final int MAX_QUERY_JAMO = 64;
+    private static final int MIN_FUZZY_JAMO = 3;
+    private static final int MAX_VISITED_NODES = 20_000;
+
+    private final CrossfitBoxRepository crossfitBoxRepository;
+
+    private final Map<Long, CrossfitBoxSuggestionDto> boxesById = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            List<CrossfitBoxView> views = crossfitBoxRepository.findAllViews();
+
+            boxesById.clear();
+            for (CrossfitBoxView view : views) {
+                put(view);
+            }
+            snapshot = Snapshot.of(boxesById.values());
+            ready = true;
+
+            log.info("크로스핏박스 자동완성 색인 구축 완료 - {}개", boxesById.size());
+        } catch (Exception e) {
+            log.error("크로스핏박스 자동완성 색인 구축 실패", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onCrossfitBoxesChanged(CrossfitBoxesChangedEvent event) {
+        List<CrossfitBoxView> changed = crossfitBoxRepository.findViewsByIdIn(event.crossfitBoxIds());
+        boxesById.keySet().removeAll(event.crossfitBoxIds());
+        for (CrossfitBoxView view : changed) {
+            put(view);
+        }
+        snapshot = Snapshot.of(boxesById.values());
+    }
+
+    private void put(CrossfitBoxView view) {
+        if (view.name() != null && !view.name().isBlank()) {
+            boxesById.put(view.id(), CrossfitBoxSuggestionDto.builder().id(view.id()).name(view.name()).build());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 초성만 입력하면 초성 트라이에서, 그 외에는 자모 트라이에서 접두어 일치 결과를 먼저 채우고,
+     * 모자라면 편집 거리 순으로 보충합니다.
+     */
+    public List<CrossfitBoxSuggestionDto> suggest(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+
+        if (Hangul.isChosungOnly(query)) {
+            return current.chosungRoot.prefix(query, limit);
+        }
+
+        String jamo = Hangul.toJamo(query);
+        if (jamo.length() > MAX_QUERY_JAMO) {
+            jamo = jamo.substring(0, MAX_QUERY_JAMO);
+        }
+        List<CrossfitBoxSuggestionDto> result = current.jamoRoot.prefix(jamo, limit);
+        if (result.size() >= limit || jamo.length() < MIN_FUZZY_JAMO) {
+            return result;
+        }
+
+        int maxDistance = jamo.length() >= 8 ? 2 : 1;
+        Map<Long, Ranked> fuzzy = new HashMap<>();
+        new FuzzySearch(jamo.toCharArray(), maxDistance, fuzzy).run(current.jamoRoot);
+
+        Set<Long> seen = new HashSet<>();
+        for (CrossfitBoxSuggestionDto box : result) {
+            seen.add(box.getId());
+        }
+        List<Ranked> ranked = new ArrayList<>(fuzzy.values());
+        ranked.sort(Comparator.comparingInt(Ranked::distance).thenComparingInt(r -> r.entry().rank()));
+        List<CrossfitBoxSuggestionDto> merged = new ArrayList<>(result);
+        for (Ranked candidate : ranked) {
+            if (merged.size() >= limit) {
+                break;
+            }
+            if (seen.add(candidate.entry().box().getId())) {
+                merged.add(candidate.entry().box());
+            }
+        }
+        return merged;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이름 전체와, 두 번째 단어부터 시작하는 접미부를 키로 씁니다. 예: "크로스핏 강남" → "크로스핏강남", "강남"
+     */
+    private static List<String> keys(String name) {
+        String[] words = name.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        List<String> keys = new ArrayList<>(words.length);
+        for (int i = 0; i < words.length; i++) {
+            keys.add(String.join("", Arrays.copyOfRange(words, i, words.length)));
+        }
+        return keys;
+    }
+
+    private record Entry(int rank, CrossfitBoxSuggestionDto box) {
+    }
+
+    private record Ranked(Entry entry, int distance) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Entry> top = new ArrayList<>(TOP_PER_NODE);
+
+        void insert(String key, Entry entry) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                // 순위 순으로 삽입하므로 먼저 들어온 항목이 곧 상위 항목
+                if (node.top.size() < TOP_PER_NODE && !node.top.contains(entry)) {
+                    node.top.add(entry);
+                }
+            }
+        }
+
+        List<CrossfitBoxSuggestionDto> prefix(String key, int limit) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<CrossfitBoxSuggestionDto> result = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (int i = 0; i < node.top.size() && i < limit; i++) {
+                result.add(node.top.get(i).box());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 트라이를 따라 내려가며 Levenshtein 행을 갱신합니다.
+     * 현재 접두어와 검색어의 거리가 maxDistance 이하이면 그 노드의 상위 항목을 후보로 담고,
+     * 행의 최솟값이 maxDistance를 넘으면 하위 노드는 볼 필요가 없어 가지치기합니다.
+     */
+    private static final class FuzzySearch {
+        private final char[] query;
+        private final int maxDistance;
+        private final Map<Long, Ranked> result;
+        private int visited;
+
+        FuzzySearch(char[] query, int maxDistance, Map<Long, Ranked> result) {
+            this.query = query;
+            this.maxDistance = maxDistance;
+            this.result = result;
+        }
+
+        void run(Node root) {
+            int[] row = new int[query.length + 1];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = j;
+            }
+            descend(root, row);
+        }
+
+        private void descend(Node node, int[] previous) {
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                if (++visited > MAX_VISITED_NODES) {
+                    return;
+                }
+                char c = child.getKey();
+                int[] row = new int[previous.length];
+                row[0] = previous[0] + 1;
+                int min = row[0];
+                for (int j = 1; j < row.length; j++) {
+                    int substitution = previous[j - 1] + (query[j - 1] == c ? 0 : 1);
+                    row[j] = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), substitution);
+                    min = Math.min(min, row[j]);
+                }
+
+                int distance = row[row.length - 1];
+                if (distance <= maxDistance) {
+                    for (Entry entry : child.getValue().top) {
+                        result.merge(entry.box().getId(), new Ranked(entry, distance),
+                                (a, b) -> a.distance() <= b.distance() ? a : b);
+                    }
+                }
+                if (min <= maxDistance) {
+                    descend(child.getValue(), row);
+                }
+            }
+        }
+    }
+
+    private record Snapshot(Node jamoRoot, Node chosungRoot) {
+
+        private static final Snapshot EMPTY = new Snapshot(new Node(), new Node());
+
+        private static Snapshot of(Collection<CrossfitBoxSuggestionDto> boxes) {
+            List<CrossfitBoxSuggestionDto> sorted = new ArrayList<>(boxes);
+            sorted.sort(Comparator
+                    .comparingInt((CrossfitBoxSuggestionDto box) -> box.getName().length())
+                    .thenComparingLong(CrossfitBoxSuggestionDto::getId));
+
+            Node jamoRoot = new Node();
+            Node chosungRoot = new Node();
+            for (int rank = 0; rank < sorted.size(); rank++) {
+                Entry entry = new Entry(rank, sorted.get(rank));
+                for (String key : keys(entry.box().getName())) {
+                    jamoRoot.insert(Hangul.toJamo(key), entry);
+                    chosungRoot.insert(Hangul.toChosung(key), entry);
+                }
+            }
+            return new Snapshot(jamoRoot, chosungRoot);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.drop.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 줌 레벨별로 미리 계산된 지도 마커 클러스터.
+ * Web Mercator 좌표를 줌마다 CLUSTER_CELL_PX 크기의 격자로 나누고, 최대 줌의 격자를 한 단계씩 합쳐
+ * 상위 줌의 클러스터를 만듭니다(줌 z의 한 칸은 줌 z+1의 2x2 칸). 공간 인덱스 버전이 바뀌면 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxClusterIndex {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_CLUSTER_ZOOM = 16;
+
+    private static final int TILE_SIZE_PX = 256;
+    private static final int CLUSTER_CELL_PX = 64;
+    private static final int REPRESENTATIVE_LIMIT = 3;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    private volatile Levels levels;
+
+    public List<CrossfitBoxClusterDto> getClusters(double swLat, double swLng, double neLat, double neLng, int zoom) {
+        Level level = currentLevels().byZoom[Math.max(MIN_ZOOM, Math.min(zoom, MAX_CLUSTER_ZOOM))];
+        List<CrossfitBoxClusterDto> result = new ArrayList<>();
+        if (level.keys.length == 0 || swLat > neLat || swLng > neLng) {
+            return result;
+        }
+
+        long dim = level.dim;
+        long colMin = cell(mercatorX(swLng), dim);
+        long colMax = cell(mercatorX(neLng), dim);
+        long rowMin = cell(mercatorY(neLat), dim);
+        long rowMax = cell(mercatorY(swLat), dim);
+        for (long r = rowMin; r <= rowMax; r++) {
+            long toKey = r * dim + colMax;
+            for (int i = level.lowerBound(r * dim + colMin); i < level.keys.length && level.keys[i] <= toKey; i++) {
+                double lat = level.lats[i];
+                double lng = level.lngs[i];
+                if (lat >= swLat && lat <= neLat && lng >= swLng && lng <= neLng) {
+                    result.add(CrossfitBoxClusterDto.builder()
+                            .latitude(lat)
+                            .longitude(lng)
+                            .count(level.counts[i])
+                            .crossfitBoxIds(level.representativeIds[i])
+                            .build());
+                }
+            }
+        }
+        return result;
+    }
+
+    private Levels currentLevels() {
+        Levels current = levels;
+        long version = crossfitBoxSpatialIndex.getVersion();
+        if (current == null || current.version != version) {
+            current = build(version);
+        }
+        return current;
+    }
+
+    private synchronized Levels build(long version) {
+        Levels current = levels;
+        if (current != null && current.version == version) {
+            return current;
+        }
+
+        Level[] byZoom = new Level[MAX_CLUSTER_ZOOM + 1];
+        long dim = cellsPerAxis(MAX_CLUSTER_ZOOM);
+        TreeMap<Long, Accumulator> cells = new TreeMap<>();
+        for (CrossfitBoxDto box : crossfitBoxSpatialIndex.findAll()) {
+            long key = cell(mercatorY(box.getLatitude()), dim) * dim + cell(mercatorX(box.getLongitude()), dim);
+            cells.computeIfAbsent(key, k -> new Accumulator()).add(box);
+        }
+        byZoom[MAX_CLUSTER_ZOOM] = Level.of(dim, cells);
+
+        for (int zoom = MAX_CLUSTER_ZOOM - 1; zoom >= MIN_ZOOM; zoom--) {
+            long childDim = dim;
+            dim = cellsPerAxis(zoom);
+            TreeMap<Long, Accumulator> parents = new TreeMap<>();
+            for (Map.Entry<Long, Accumulator> entry : cells.entrySet()) {
+                long row = entry.getKey() / childDim;
+                long col = entry.getKey() % childDim;
+                long parentKey = (row >> 1) * dim + (col >> 1);
+                parents.computeIfAbsent(parentKey, k -> new Accumulator()).merge(entry.getValue());
+            }
+            byZoom[zoom] = Level.of(dim, parents);
+            cells = parents;
+        }
+
+        current = new Levels(version, byZoom);
+        levels = current;
+        log.debug("크로스핏박스 클러스터 재계산 완료 - version: {}", version);
+        return current;
+    }
+
+    private static long cellsPerAxis(int zoom) {
+        return (1L << zoom) * TILE_SIZE_PX / CLUSTER_CELL_PX;
+    }
+
+    private static long cell(double normalized, long dim) {
+        return Math.max(0, Math.min((long) Math.floor(normalized * dim), dim - 1));
+    }
+
+    private static double mercatorX(double longitude) {
+        return (longitude + 180) / 360;
+    }
+
+    private static double mercatorY(double latitude) {
+        double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(latitude, MAX_MERCATOR_LAT));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private record Levels(long version, Level[] byZoom) {
+    }
+
+    private static final class Level {
+        private final long dim;
+        private final long[] keys;
+        private final double[] lats;
+        private final double[] lngs;
+        private final int[] counts;
+        private final List<Long>[] representativeIds;
+
+        @SuppressWarnings("unchecked")
+        private Level(long dim, int size) {
+            this.dim = dim;
+            this.keys = new long[size];
+            this.lats = new double[size];
+            this.lngs = new double[size];
+            this.counts = new int[size];
+            this.representativeIds = new List[size];
+        }
+
+        private static Level of(long dim, TreeMap<Long, Accumulator> cells) {
+            Level level = new Level(dim, cells.size());
+            int i = 0;
+            for (Map.Entry<Long, Accumulator> entry : cells.entrySet()) {
+                Accumulator acc = entry.getValue();
+                level.keys[i] = entry.getKey();
+                level.lats[i] = acc.sumLat / acc.count;
+                level.lngs[i] = acc.sumLng / acc.count;
+                level.counts[i] = acc.count;
+                level.representativeIds[i] = List.copyOf(acc.ids);
+                i++;
+            }
+            return level;
+        }
+
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Accumulator {
+        private int count;
+        private double sumLat;
+        private double sumLng;
+        private final List<Long> ids = new ArrayList<>(REPRESENTATIVE_LIMIT);
+
+        private void add(CrossfitBoxDto box) {
+            count++;
+            sumLat += box.getLatitude();
+            sumLng += box.getLongitude();
+            if (ids.size() < REPRESENTATIVE_LIMIT) {
+                ids.add(box.getId());
+            }
+        }
+
+        private void merge(Accumulator other) {
+            count += other.count;
+            sumLat += other.sumLat;
+            sumLng += other.sumLng;
+            for (Long id : other.ids) {
+                if (ids.size() >= REPRESENTATIVE_LIMIT) {
+                    break;
+                }
+                ids.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.drop.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 크로스핏박스 이름의 인메모리 n-gram 역색인.
+ * 공백을 제거하고 소문자로 정규화한 이름의 unigram/bigram마다 박스 id 집합을 보관하고,
+ * 검색어의 bigram posting을 작은 것부터 교집합한 뒤 실제 포함 여부를 확인합니다.
+ * 박스가 변경되면 변경 묶음에 속한 박스의 n-gram만 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxNameIndex {
+
+    private final CrossfitBoxRepository crossfitBoxRepository;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 전체 조회는 락 밖에서 하므로, 조회 중에 반영된 변경이 오래된 조회 결과로 덮일 수 있습니다.
+     * 재구축 중에 들어온 변경 id를 모아 두었다가 교체 직후 다시 조회해 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            synchronized (changedDuringRebuild) {
+                rebuilding = true;
+                changedDuringRebuild.clear();
+            }
+            List<CrossfitBoxView> views = crossfitBoxRepository.findAllViews();
+
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                for (CrossfitBoxView view : views) {
+                    add(view.toDto());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            replayChangedDuringRebuild();
+            ready = true;
+
+            log.info("크로스핏박스 이름 색인 구축 완료 - {}개, n-gram {}개", views.size(), postings.size());
+        } catch (Exception e) {
+            synchronized (changedDuringRebuild) {
+                rebuilding = false;
+            }
+            log.error("크로스핏박스 이름 색인 구축 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onCrossfitBoxesChanged(CrossfitBoxesChangedEvent event) {
+        synchronized (changedDuringRebuild) {
+            if (rebuilding) {
+                changedDuringRebuild.addAll(event.crossfitBoxIds());
+            }
+        }
+        apply(event.crossfitBoxIds());
+    }
+
+    private void replayChangedDuringRebuild() {
+        Set<Long> replay;
+        synchronized (changedDuringRebuild) {
+            replay = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.clear();
+            rebuilding = false;
+        }
+        if (!replay.isEmpty()) {
+            apply(replay);
+        }
+    }
+
+    private void apply(Set<Long> crossfitBoxIds) {
+        List<CrossfitBoxView> changed = crossfitBoxRepository.findViewsByIdIn(crossfitBoxIds);
+
+        lock.writeLock().lock();
+        try {
+            for (Long crossfitBoxId : crossfitBoxIds) {
+                remove(crossfitBoxId);
+            }
+            for (CrossfitBoxView view : changed) {
+                add(view.toDto());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 정규화한 이름에 검색어가 포함된 박스를 순위순으로 최대 limit개 반환합니다.
+     * 순위: 이름 전체 일치 → 접두 일치 → 일치 위치가 앞선 순 → 이름이 짧은 순.
+     */
+    public List<CrossfitBoxDto> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(query)) {
+                Document document = documents.get(id);
+                int position = document.normalizedName().indexOf(query);
+                if (position >= 0) {
+                    matches.add(new Match(document, position, document.normalizedName().length() == query.length()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator
+                .comparing((Match match) -> !match.exact())
+                .thenComparingInt(Match::position)
+                .thenComparingInt(match -> match.document().normalizedName().length())
+                .thenComparingLong(match -> match.document().box().getId()));
+
+        List<CrossfitBoxDto> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).document().box());
+        }
+        return result;
+    }
+
+    private Collection<Long> candidates(String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(query, Set.of());
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : bigrams(query)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void add(CrossfitBoxDto box) {
+        String normalizedName = normalize(box.getName());
+        documents.put(box.getId(), new Document(box, normalizedName));
+        for (String gram : grams(normalizedName)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(box.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        Document removed = documents.remove(id);
+        if (removed == null) {
+            return;
+        }
+        for (String gram : grams(removed.normalizedName())) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = bigrams(normalized);
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record Document(CrossfitBoxDto box, String normalizedName) {
+    }
+
+    private record Match(Document document, int position, boolean exact) {
+    }
+}
@@ -0,0 +1,425 @@
+package com.drop.domain.crossfitbox.index;
+
+import com.drop.domain.base.AddressDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.annotation.PostConstruct;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 이름/주소/행정구역을 함께 검색하는 인메모리 통합 검색 색인.
+ * 박스마다 이름 토큰(과 그 접미부), 주소 토큰(도로명/지번/건물명), 주소에서 찾은 행정구역 이름과 그 약칭(예: 강남구 → 강남)을
+ * 정렬된 용어 사전에 넣어 두고, 검색어 토큰별로 일치/접두/오타 용어를 찾아 모든 토큰이 맞는 박스만 점수를 매깁니다.
+ * 쓰기는 드물기 때문에 변경 묶음마다 사전을 새로 만들어 교체하고, 읽기는 락 없이 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxSearchIndex {
+
+    private static final String DIVISIONS_PATH = "config/administrative-divisions.yml";
+    private static final String[] REGION_SUFFIXES = {"특별자치시", "특별자치도", "특별시", "광역시", "도", "시", "군", "구", "동"};
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MIN_FUZZY_LENGTH = 2;
+
+    private static final double EXACT_TERM = 1.0;
+    private static final double PREFIX_TERM = 0.7;
+    private static final double FUZZY_TERM = 0.4;
+    private static final double TOKEN_SCORE_SCALE = 10;
+    private static final double PROXIMITY_BOOST = 15;
+    private static final double PROXIMITY_HALF_KM = 5;
+
+    private final CrossfitBoxRepository crossfitBoxRepository;
+
+    /**
+     * 행정구역 이름(및 약칭) → 상위 구역을 포함한 정식 이름 목록. 같은 이름이 여러 곳에 있으면 자기 자신만 담습니다.
+     */
+    private Map<String, List<String>> regions = Map.of();
+
+    private final Map<Long, CrossfitBoxDto> boxesById = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    public enum MatchType {
+        EXACT(100), PREFIX(80), TOKEN(50), FUZZY(20);
+
+        private final double base;
+
+        MatchType(double base) {
+            this.base = base;
+        }
+    }
+
+    private enum Field {
+        NAME(1.0), REGION(0.8), NAME_INFIX(0.7), ADDRESS(0.6);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Hit(CrossfitBoxDto box, double score, MatchType matchType, Double distanceKm) {
+    }
+
+    @PostConstruct
+    public void loadRegions() {
+        try (InputStream inputStream = new ClassPathResource(DIVISIONS_PATH).getInputStream()) {
+            Map<String, Object> root = new Yaml().load(inputStream);
+            Map<String, List<String>> paths = new HashMap<>();
+            Set<String> duplicated = new HashSet<>();
+            collectRegions(root.get("divisions"), new ArrayDeque<>(), paths, duplicated);
+
+            Map<String, List<String>> loaded = new HashMap<>();
+            Map<String, List<String>> aliases = new HashMap<>();
+            Set<String> ambiguousAliases = new HashSet<>();
+            paths.forEach((name, path) -> {
+                List<String> labels = duplicated.contains(name) ? List.of(name) : path;
+                loaded.put(name, labels);
+                String alias = shortName(name);
+                if (alias != null && aliases.putIfAbsent(alias, labels) != null) {
+                    ambiguousAliases.add(alias);
+                }
+            });
+            aliases.keySet().removeAll(ambiguousAliases);
+            aliases.forEach(loaded::putIfAbsent);
+            regions = loaded;
+            log.info("통합 검색 행정구역 로드 완료 - {}개", regions.size());
+        } catch (Exception e) {
+            log.error("{} 로드 실패", DIVISIONS_PATH, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectRegions(Object node, Deque<String> ancestors,
+                                       Map<String, List<String>> paths, Set<String> duplicated) {
+        if (node instanceof Map<?, ?> map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+                String name = entry.getKey();
+                if ("level".equals(name)) {
+                    continue;
+                }
+                if ("children".equals(name)) {
+                    collectRegions(entry.getValue(), ancestors, paths, duplicated);
+                    continue;
+                }
+                addRegion(name, ancestors, paths, duplicated);
+                ancestors.addLast(name);
+                collectRegions(entry.getValue(), ancestors, paths, duplicated);
+                ancestors.removeLast();
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object child : list) {
+                addRegion(String.valueOf(child), ancestors, paths, duplicated);
+            }
+        }
+    }
+
+    private static void addRegion(String name, Deque<String> ancestors,
+                                  Map<String, List<String>> paths, Set<String> duplicated) {
+        List<String> path = new ArrayList<>(ancestors);
+        path.add(name);
+        if (paths.putIfAbsent(name, path) != null) {
+            duplicated.add(name);
+        }
+    }
+
+    /**
+     * 행정구역 접미사를 뗀 약칭. 두 글자 미만이 되면 약칭을 만들지 않습니다. 예: 서울특별시 → 서울, 역삼동 → 역삼
+     */
+    static String shortName(String name) {
+        for (String suffix : REGION_SUFFIXES) {
+            if (name.endsWith(suffix) && name.length() - suffix.length() >= 2) {
+                return name.substring(0, name.length() - suffix.length());
+            }
+        }
+        return null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            List<CrossfitBoxView> views = crossfitBoxRepository.findAllViews();
+
+            boxesById.clear();
+            for (CrossfitBoxView view : views) {
+                boxesById.put(view.id(), view.toDto());
+            }
+            snapshot = Snapshot.of(boxesById.values(), regions);
+            ready = true;
+
+            log.info("크로스핏박스 통합 검색 색인 구축 완료 - {}개, 용어 {}개", boxesById.size(), snapshot.terms.size());
+        } catch (Exception e) {
+            log.error("크로스핏박스 통합 검색 색인 구축 실패", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onCrossfitBoxesChanged(CrossfitBoxesChangedEvent event) {
+        List<CrossfitBoxView> changed = crossfitBoxRepository.findViewsByIdIn(event.crossfitBoxIds());
+        boxesById.keySet().removeAll(event.crossfitBoxIds());
+        for (CrossfitBoxView view : changed) {
+            boxesById.put(view.id(), view.toDto());
+        }
+        snapshot = Snapshot.of(boxesById.values(), regions);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어의 모든 토큰이 이름/행정구역/주소 중 하나에 맞는 박스를 점수 내림차순(동점은 id 오름차순)으로 반환합니다.
+     * 점수 = 일치 유형 기본점(전체 일치 > 이름 접두 > 토큰 > 오타) + 토큰 점수 + 좌표가 주어지면 거리 가산점.
+     */
+    public List<Hit> search(String keyword, Double latitude, Double longitude) {
+        Snapshot current = snapshot;
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+        String normalizedQuery = String.join("", tokens);
+
+        Map<Long, double[]> matched = null;
+        Set<Long> fuzzyMatched = new HashSet<>();
+        for (String token : tokens) {
+            Map<Long, Double> tokenScores = current.match(token, fuzzyMatched);
+            if (matched == null) {
+                matched = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : tokenScores.entrySet()) {
+                    matched.put(entry.getKey(), new double[]{entry.getValue()});
+                }
+            } else {
+                matched.keySet().retainAll(tokenScores.keySet());
+                for (Map.Entry<Long, double[]> entry : matched.entrySet()) {
+                    entry.getValue()[0] += tokenScores.get(entry.getKey());
+                }
+            }
+            if (matched.isEmpty()) {
+                break;
+            }
+        }
+
+        // 띄어쓰기가 다른 이름 접두 일치("강남크로" → "강남 크로스핏")도 후보에 포함
+        for (Long id : current.namePrefixMatches(normalizedQuery)) {
+            matched.putIfAbsent(id, new double[]{tokens.size() * EXACT_TERM});
+        }
+
+        List<Hit> hits = new ArrayList<>(matched.size());
+        for (Map.Entry<Long, double[]> entry : matched.entrySet()) {
+            Document document = current.documents.get(entry.getKey());
+            MatchType matchType;
+            if (document.normalizedName.equals(normalizedQuery)) {
+                matchType = MatchType.EXACT;
+            } else if (document.normalizedName.startsWith(normalizedQuery)) {
+                matchType = MatchType.PREFIX;
+            } else if (fuzzyMatched.contains(entry.getKey())) {
+                matchType = MatchType.FUZZY;
+            } else {
+                matchType = MatchType.TOKEN;
+            }
+
+            double score = matchType.base + entry.getValue()[0] / tokens.size() * TOKEN_SCORE_SCALE;
+            Double distanceKm = null;
+            CrossfitBoxDto box = document.box;
+            if (latitude != null && longitude != null && box.getLatitude() != null && box.getLongitude() != null) {
+                distanceKm = GeoDistance.haversineKm(latitude, longitude, box.getLatitude(), box.getLongitude());
+                score += PROXIMITY_BOOST / (1 + distanceKm / PROXIMITY_HALF_KM);
+            }
+            hits.add(new Hit(box, score, matchType, distanceKm));
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparingLong(hit -> hit.box().getId()));
+        return hits;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[\\s,()]+")) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            int min = row[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), substitution);
+                min = Math.min(min, row[j]);
+            }
+            if (min > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = row;
+            row = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private record Posting(long id, Field field) {
+    }
+
+    private record Document(CrossfitBoxDto box, String normalizedName) {
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), new TreeMap<>(), new TreeMap<>(), Map.of());
+
+        private final Map<Long, Document> documents;
+        private final NavigableMap<String, List<Posting>> terms;
+        private final NavigableMap<String, List<Long>> fullNames;
+
+        /**
+         * 용어와 그 용어에서 한 글자를 뺀 변형 → 원래 용어 목록. 편집 거리 1 이내의 두 문자열은
+         * 각자 한 글자 이하를 뺀 변형 중 공통된 것이 있으므로, 오타 후보를 사전 전체를 훑지 않고 찾을 수 있습니다.
+         */
+        private final Map<String, List<String>> deletions;
+
+        private Snapshot(Map<Long, Document> documents, NavigableMap<String, List<Posting>> terms,
+                         NavigableMap<String, List<Long>> fullNames, Map<String, List<String>> deletions) {
+            this.documents = documents;
+            this.terms = terms;
+            this.fullNames = fullNames;
+            this.deletions = deletions;
+        }
+
+        private static Snapshot of(Collection<CrossfitBoxDto> boxes, Map<String, List<String>> regions) {
+            Map<Long, Document> documents = new HashMap<>();
+            NavigableMap<String, List<Posting>> terms = new TreeMap<>();
+            NavigableMap<String, List<Long>> fullNames = new TreeMap<>();
+
+            for (CrossfitBoxDto box : boxes) {
+                List<String> nameTokens = tokenize(box.getName());
+                String normalizedName = String.join("", nameTokens);
+                documents.put(box.getId(), new Document(box, normalizedName));
+                if (!normalizedName.isEmpty()) {
+                    fullNames.computeIfAbsent(normalizedName, n -> new ArrayList<>()).add(box.getId());
+                }
+
+                Map<String, Field> boxTerms = new HashMap<>();
+                for (String token : nameTokens) {
+                    boxTerms.put(token, Field.NAME);
+                }
+                // 붙여 쓴 이름("강남크로스핏")의 뒷부분도 찾을 수 있도록 두 글자 이상 접미부를 따로 넣음
+                for (String token : nameTokens) {
+                    for (int i = 1; i + 2 <= token.length(); i++) {
+                        boxTerms.putIfAbsent(token.substring(i), Field.NAME_INFIX);
+                    }
+                }
+                AddressDto address = box.getAddress();
+                if (address != null) {
+                    List<String> addressTokens = new ArrayList<>();
+                    addressTokens.addAll(tokenize(address.getAddressLine1()));
+                    addressTokens.addAll(tokenize(address.getJibunAddress()));
+                    addressTokens.addAll(tokenize(address.getBuildingName()));
+                    for (String token : addressTokens) {
+                        List<String> labels = regions.get(token);
+                        if (labels != null) {
+                            for (String label : labels) {
+                                boxTerms.putIfAbsent(label, Field.REGION);
+                                String alias = shortName(label);
+                                if (alias != null) {
+                                    boxTerms.putIfAbsent(alias, Field.REGION);
+                                }
+                            }
+                        }
+                        boxTerms.putIfAbsent(token, Field.ADDRESS);
+                    }
+                }
+                boxTerms.forEach((term, field) ->
+                        terms.computeIfAbsent(term, t -> new ArrayList<>()).add(new Posting(box.getId(), field)));
+            }
+
+            Map<String, List<String>> deletions = new HashMap<>();
+            for (String term : terms.keySet()) {
+                for (String variant : deletionVariants(term)) {
+                    deletions.computeIfAbsent(variant, v -> new ArrayList<>(1)).add(term);
+                }
+            }
+            return new Snapshot(documents, terms, fullNames, deletions);
+        }
+
+        private static Set<String> deletionVariants(String term) {
+            Set<String> variants = new HashSet<>(term.length() + 1);
+            variants.add(term);
+            for (int i = 0; i < term.length(); i++) {
+                variants.add(term.substring(0, i) + term.substring(i + 1));
+            }
+            return variants;
+        }
+
+        /**
+         * 토큰 하나에 대한 박스별 점수. 일치 용어와 접두 용어를 모두 보고, 둘 다 없을 때만 편집 거리 1 이내의 용어를 봅니다.
+         */
+        private Map<Long, Double> match(String token, Set<Long> fuzzyMatched) {
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<String, List<Posting>> entry
+                    : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                double quality = entry.getKey().equals(token) ? EXACT_TERM : PREFIX_TERM;
+                for (Posting posting : entry.getValue()) {
+                    scores.merge(posting.id(), quality * posting.field().weight, Math::max);
+                }
+            }
+            if (!scores.isEmpty() || token.length() < MIN_FUZZY_LENGTH) {
+                return scores;
+            }
+
+            Set<String> candidates = new HashSet<>();
+            for (String variant : deletionVariants(token)) {
+                candidates.addAll(deletions.getOrDefault(variant, List.of()));
+            }
+            for (String term : candidates) {
+                if (editDistance(token, term, 1) <= 1) {
+                    for (Posting posting : terms.get(term)) {
+                        scores.merge(posting.id(), FUZZY_TERM * posting.field().weight, Math::max);
+                        fuzzyMatched.add(posting.id());
+                    }
+                }
+            }
+            return scores;
+        }
+
+        private List<Long> namePrefixMatches(String normalizedQuery) {
+            List<Long> ids = new ArrayList<>();
+            for (List<Long> matches
+                    : fullNames.subMap(normalizedQuery, true, normalizedQuery + Character.MAX_VALUE, false).values()) {
+                ids.addAll(matches);
+            }
+            return ids;
+        }
+    }
+}
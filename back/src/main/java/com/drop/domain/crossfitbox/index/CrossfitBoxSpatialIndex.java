@@ -0,0 +1,368 @@
+package com.drop.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxIndexedEvent;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 위치 정보가 있는 크로스핏박스의 인메모리 공간 인덱스.
+ * 위경도를 고정 크기 격자(cell)로 나누고, cell key 순으로 정렬된 primitive 배열에 좌표를 보관합니다.
+ * 쓰기는 드물기 때문에 변경 묶음마다 스냅샷을 새로 만들어 교체하고, 읽기는 락 없이 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES);
+    private static final int COLS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final int MAX_NEAREST_RING = 200;
+
+    private final CrossfitBoxRepository crossfitBoxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, CrossfitBoxDto> boxesById = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long version;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            List<CrossfitBoxDto> boxes = crossfitBoxRepository.findAllViewsWithLocation().stream()
+                    .map(CrossfitBoxView::toDto)
+                    .collect(Collectors.toList());
+
+            boxesById.clear();
+            for (CrossfitBoxDto box : boxes) {
+                boxesById.put(box.getId(), box);
+            }
+            publish();
+            ready = true;
+
+            log.info("크로스핏박스 공간 인덱스 구축 완료 - {}개", snapshot.size());
+        } catch (Exception e) {
+            log.error("크로스핏박스 공간 인덱스 구축 실패", e);
+        }
+    }
+
+    /**
+     * 변경 묶음을 한 번에 조회해 반영합니다. 스냅샷은 전체를 다시 정렬하지 않고,
+     * 바뀐 박스만 뺀 기존 배열에 정렬한 변경분을 병합해 O(n + k log k)로 만듭니다.
+     */
+    @EventListener
+    public synchronized void onCrossfitBoxesChanged(CrossfitBoxesChangedEvent event) {
+        Map<Long, CrossfitBoxDto> changed = new HashMap<>();
+        for (CrossfitBoxView view : crossfitBoxRepository.findViewsByIdIn(event.crossfitBoxIds())) {
+            if (view.hasLocation()) {
+                changed.put(view.id(), view.toDto());
+            }
+        }
+
+        List<CrossfitBoxIndexedEvent.Change> changes = new ArrayList<>();
+        for (Long crossfitBoxId : event.crossfitBoxIds()) {
+            CrossfitBoxDto current = changed.get(crossfitBoxId);
+            CrossfitBoxDto previous = current != null
+                    ? boxesById.put(crossfitBoxId, current)
+                    : boxesById.remove(crossfitBoxId);
+            if (previous != null || current != null) {
+                changes.add(new CrossfitBoxIndexedEvent.Change(previous, current));
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        snapshot = snapshot.patch(event.crossfitBoxIds(), changed.values());
+        version++;
+        eventPublisher.publishEvent(new CrossfitBoxIndexedEvent(changes, event.remote()));
+    }
+
+    private void publish() {
+        snapshot = Snapshot.of(boxesById.values());
+        version++;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 스냅샷이 교체될 때마다 증가하는 버전. 인덱스에서 파생된 구조(클러스터 등)의 재구축 판단에 사용합니다.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<CrossfitBoxDto> findAll() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.boxes));
+    }
+
+    public List<CrossfitBoxDto> findByBounds(double swLat, double swLng, double neLat, double neLng) {
+        Snapshot current = snapshot;
+        List<CrossfitBoxDto> result = new ArrayList<>();
+        current.forEachInBounds(swLat, swLng, neLat, neLng, i -> result.add(current.boxes[i]));
+        return result;
+    }
+
+    public int countByBounds(double swLat, double swLng, double neLat, double neLng) {
+        int[] count = {0};
+        snapshot.forEachInBounds(swLat, swLng, neLat, neLng, i -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 중심 좌표에서 radiusKm 이내(대원 거리)에 있는 박스 수. DTO를 만들지 않고 좌표 배열만 순회합니다.
+     */
+    public int countWithinRadius(double latitude, double longitude, double radiusKm) {
+        Snapshot current = snapshot;
+        double deltaLat = GeoDistance.latDelta(radiusKm);
+        double deltaLng = GeoDistance.lngDelta(latitude, radiusKm);
+        int[] count = {0};
+        current.forEachInBounds(latitude - deltaLat, longitude - deltaLng, latitude + deltaLat, longitude + deltaLng, i -> {
+            if (GeoDistance.haversineKm(latitude, longitude, current.lats[i], current.lngs[i]) <= radiusKm) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * 중심 좌표에서 radiusKm 이내(대원 거리)에 있는 박스를 가까운 순으로 반환합니다.
+     */
+    public List<CrossfitBoxDistanceDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        Snapshot current = snapshot;
+        double deltaLat = GeoDistance.latDelta(radiusKm);
+        double deltaLng = GeoDistance.lngDelta(latitude, radiusKm);
+        List<CrossfitBoxDistanceDto> result = new ArrayList<>();
+        current.forEachInBounds(latitude - deltaLat, longitude - deltaLng, latitude + deltaLat, longitude + deltaLng, i -> {
+            double distanceKm = GeoDistance.haversineKm(latitude, longitude, current.lats[i], current.lngs[i]);
+            if (distanceKm <= radiusKm) {
+                result.add(CrossfitBoxDistanceDto.builder()
+                        .crossfitBox(current.boxes[i])
+                        .distanceKm(distanceKm)
+                        .build());
+            }
+        });
+        result.sort(Comparator.comparingDouble(CrossfitBoxDistanceDto::getDistanceKm));
+        return result;
+    }
+
+    /**
+     * 가까운 순으로 k개의 박스를 찾습니다. 기준 cell에서 고리(ring) 모양으로 한 칸씩 넓혀 가며 후보를 모으고,
+     * 다음 고리까지의 최소 거리가 현재 k번째 거리보다 멀어지면 탐색을 멈춥니다.
+     * 주변이 너무 비어 있어 고리가 MAX_NEAREST_RING을 넘으면 좌표 배열 전체를 한 번 훑습니다.
+     */
+    public List<CrossfitBoxDistanceDto> findNearest(double latitude, double longitude, int k) {
+        Snapshot current = snapshot;
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        int[] visited = {0};
+        IntConsumer offer = i -> {
+            visited[0]++;
+            double distanceKm = GeoDistance.haversineKm(latitude, longitude, current.lats[i], current.lngs[i]);
+            if (best.size() < k) {
+                best.add(new Candidate(i, distanceKm));
+            } else if (distanceKm < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Candidate(i, distanceKm));
+            }
+        };
+
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        for (int ring = 0; visited[0] < current.size(); ring++) {
+            if (best.size() == k && ringLowerBoundKm(latitude, ring) > best.peek().distanceKm()) {
+                break;
+            }
+            if (ring > MAX_NEAREST_RING) {
+                best.clear();
+                for (int i = 0; i < current.size(); i++) {
+                    offer.accept(i);
+                }
+                break;
+            }
+            current.forEachInRing(centerRow, centerCol, ring, offer);
+        }
+
+        List<Candidate> sorted = new ArrayList<>(best);
+        sorted.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        List<CrossfitBoxDistanceDto> result = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            result.add(CrossfitBoxDistanceDto.builder()
+                    .crossfitBox(current.boxes[candidate.index()])
+                    .distanceKm(candidate.distanceKm())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * ring번째 고리에 있는 박스까지의 최소 거리(km). 기준점은 중심 cell 안 어디든 있을 수 있으므로
+     * (ring - 1)칸을 경도 방향(고위도일수록 짧음)으로 환산하고, 구면 오차를 감안해 10% 여유를 둡니다.
+     */
+    private static double ringLowerBoundKm(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double farthestLat = Math.min(90, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+        double gapDegrees = (ring - 1) * CELL_DEGREES;
+        return gapDegrees * GeoDistance.KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(farthestLat)) * 0.9;
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return (long) row(latitude) * COLS + col(longitude);
+    }
+
+    private static int row(double latitude) {
+        return clamp((int) Math.floor((latitude + 90) / CELL_DEGREES), ROWS - 1);
+    }
+
+    private static int col(double longitude) {
+        return clamp((int) Math.floor((longitude + 180) / CELL_DEGREES), COLS - 1);
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    private record Candidate(int index, double distanceKm) {
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new double[0], new double[0], new CrossfitBoxDto[0]);
+
+        private final long[] cellKeys;
+        private final double[] lats;
+        private final double[] lngs;
+        private final CrossfitBoxDto[] boxes;
+
+        private Snapshot(long[] cellKeys, double[] lats, double[] lngs, CrossfitBoxDto[] boxes) {
+            this.cellKeys = cellKeys;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.boxes = boxes;
+        }
+
+        private static Snapshot of(Collection<CrossfitBoxDto> source) {
+            CrossfitBoxDto[] sorted = source.toArray(new CrossfitBoxDto[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(box -> cellKey(box.getLatitude(), box.getLongitude())));
+            return fromSorted(sorted, sorted.length);
+        }
+
+        /**
+         * removedIds에 해당하는 항목을 빼고 added를 cell key 순서에 맞게 끼워 넣은 새 스냅샷.
+         */
+        private Snapshot patch(Set<Long> removedIds, Collection<CrossfitBoxDto> added) {
+            CrossfitBoxDto[] inserted = added.toArray(new CrossfitBoxDto[0]);
+            Arrays.sort(inserted, Comparator.comparingLong(box -> cellKey(box.getLatitude(), box.getLongitude())));
+
+            CrossfitBoxDto[] merged = new CrossfitBoxDto[boxes.length + inserted.length];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i < boxes.length; i++) {
+                if (removedIds.contains(boxes[i].getId())) {
+                    continue;
+                }
+                while (next < inserted.length
+                        && cellKey(inserted[next].getLatitude(), inserted[next].getLongitude()) < cellKeys[i]) {
+                    merged[size++] = inserted[next++];
+                }
+                merged[size++] = boxes[i];
+            }
+            while (next < inserted.length) {
+                merged[size++] = inserted[next++];
+            }
+            return fromSorted(merged, size);
+        }
+
+        private static Snapshot fromSorted(CrossfitBoxDto[] source, int size) {
+            CrossfitBoxDto[] sorted = source.length == size ? source : Arrays.copyOf(source, size);
+            long[] cellKeys = new long[size];
+            double[] lats = new double[size];
+            double[] lngs = new double[size];
+            for (int i = 0; i < size; i++) {
+                lats[i] = sorted[i].getLatitude();
+                lngs[i] = sorted[i].getLongitude();
+                cellKeys[i] = cellKey(lats[i], lngs[i]);
+            }
+            return new Snapshot(cellKeys, lats, lngs, sorted);
+        }
+
+        private int size() {
+            return boxes.length;
+        }
+
+        private void forEachInBounds(double swLat, double swLng, double neLat, double neLng, IntConsumer consumer) {
+            if (boxes.length == 0 || swLat > neLat || swLng > neLng) {
+                return;
+            }
+
+            int colMin = col(swLng);
+            int colMax = col(neLng);
+            for (int r = row(swLat); r <= row(neLat); r++) {
+                long toKey = (long) r * COLS + colMax;
+                for (int i = lowerBound((long) r * COLS + colMin); i < cellKeys.length && cellKeys[i] <= toKey; i++) {
+                    if (lats[i] >= swLat && lats[i] <= neLat && lngs[i] >= swLng && lngs[i] <= neLng) {
+                        consumer.accept(i);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 중심 cell로부터 체비셰프 거리가 정확히 ring인 cell들을 순회합니다. 경도 경계(날짜변경선)는 넘지 않습니다.
+         */
+        private void forEachInRing(int centerRow, int centerCol, int ring, IntConsumer consumer) {
+            int colMin = Math.max(0, centerCol - ring);
+            int colMax = Math.min(COLS - 1, centerCol + ring);
+            for (int r = Math.max(0, centerRow - ring); r <= Math.min(ROWS - 1, centerRow + ring); r++) {
+                if (r == centerRow - ring || r == centerRow + ring) {
+                    forEachInRow(r, colMin, colMax, consumer);
+                } else {
+                    if (centerCol - ring >= 0) {
+                        forEachInRow(r, centerCol - ring, centerCol - ring, consumer);
+                    }
+                    if (ring > 0 && centerCol + ring < COLS) {
+                        forEachInRow(r, centerCol + ring, centerCol + ring, consumer);
+                    }
+                }
+            }
+        }
+
+        private void forEachInRow(int r, int colMin, int colMax, IntConsumer consumer) {
+            long toKey = (long) r * COLS + colMax;
+            for (int i = lowerBound((long) r * COLS + colMin); i < cellKeys.length && cellKeys[i] <= toKey; i++) {
+                consumer.accept(i);
+            }
+        }
+
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = cellKeys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cellKeys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.drop.domain.crossfitbox.index;
+
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double KM_PER_DEGREE_LAT = 111.0;
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    public static double latDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE_LAT;
+    }
+
+    public static double lngDelta(double latitude, double radiusKm) {
+        return radiusKm / (KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude)));
+    }
+}
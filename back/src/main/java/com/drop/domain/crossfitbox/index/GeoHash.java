@@ -0,0 +1,100 @@
+package com.drop.domain.crossfitbox.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash 인코딩 및 경계 사각형을 덮는 셀 계산.
+ * 같은 접두어를 가진 geohash는 같은 셀 안에 있으므로, 인덱스가 걸린 문자열 컬럼에서
+ * LIKE 'prefix%' 범위 스캔만으로 공간 필터링을 할 수 있습니다.
+ */
+public final class GeoHash {
+
+    public static final int PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude) {
+        return encode(latitude, longitude, PRECISION);
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 경계 사각형을 덮는 최대 4개의 셀 접두어를 반환합니다.
+     * 사각형보다 큰 셀 중 가장 작은 정밀도를 고르므로 축마다 경계를 최대 한 번만 넘고, 네 꼭짓점의 셀이 전체를 덮습니다.
+     * 사각형이 가장 큰 셀(45도)보다 크면 빈 접두어 하나를 반환합니다.
+     */
+    public static List<String> coveringCells(double swLat, double swLng, double neLat, double neLng) {
+        int precision = coveringPrecision(neLat - swLat, neLng - swLng);
+        List<String> cells = new ArrayList<>(4);
+        if (precision == 0) {
+            cells.add("");
+            return cells;
+        }
+
+        addDistinct(cells, encode(swLat, swLng, precision));
+        addDistinct(cells, encode(swLat, neLng, precision));
+        addDistinct(cells, encode(neLat, swLng, precision));
+        addDistinct(cells, encode(neLat, neLng, precision));
+        return cells;
+    }
+
+    static int coveringPrecision(double latSpan, double lngSpan) {
+        for (int precision = PRECISION; precision > 0; precision--) {
+            int bits = precision * 5;
+            double cellLng = 360.0 / (1L << ((bits + 1) / 2));
+            double cellLat = 180.0 / (1L << (bits / 2));
+            if (cellLat >= latSpan && cellLng >= lngSpan) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    private static void addDistinct(List<String> cells, String cell) {
+        if (!cells.contains(cell)) {
+            cells.add(cell);
+        }
+    }
+}
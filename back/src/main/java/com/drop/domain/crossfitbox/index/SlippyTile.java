@@ -0,0 +1,57 @@
+package com.drop.domain.crossfitbox.index;
+
+/**
+ * Web Mercator(XYZ) 타일 좌표. 줌 z에서 한 축의 타일 수는 2^z 입니다.
+ */
+public record SlippyTile(int z, int x, int y) {
+
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    public static SlippyTile of(int z, int x, int y, int maxZoom) {
+        if (z < 0 || z > maxZoom) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상 " + maxZoom + " 이하여야 합니다.");
+        }
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨 범위를 벗어났습니다.");
+        }
+        return new SlippyTile(z, x, y);
+    }
+
+    /**
+     * 해당 좌표를 포함하는 줌 z의 타일. 타일 경계 위의 좌표는 동쪽/남쪽 타일에 속합니다.
+     */
+    public static SlippyTile containing(double latitude, double longitude, int z) {
+        int n = 1 << z;
+        double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(latitude, MAX_MERCATOR_LAT));
+        double latRad = Math.toRadians(clamped);
+        int x = (int) Math.floor((longitude + 180) / 360 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return new SlippyTile(z, Math.max(0, Math.min(x, n - 1)), Math.max(0, Math.min(y, n - 1)));
+    }
+
+    public double westLng() {
+        return x / (double) (1 << z) * 360 - 180;
+    }
+
+    public double eastLng() {
+        return (x + 1) / (double) (1 << z) * 360 - 180;
+    }
+
+    public double northLat() {
+        return latitudeOf(y);
+    }
+
+    public double southLat() {
+        return latitudeOf(y + 1);
+    }
+
+    public String key() {
+        return z + "/" + x + "/" + y;
+    }
+
+    private double latitudeOf(int row) {
+        double n = Math.PI * (1 - 2.0 * row / (1 << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
@@ -14,6 +14,7 @@ public interface CrossfitBoxMapper {
     CrossfitBoxMapper INSTANCE = Mappers.getMapper(CrossfitBoxMapper.class);
 
     @Mapping(source = "address", target = "address", qualifiedByName = "addressToDto")
+    @Mapping(target = "password", ignore = true)
     CrossfitBoxDto toDto(CrossfitBox crossfitBox);
 
     @Named("addressToDto")
@@ -0,0 +1,38 @@
+package com.drop.domain.crossfitbox.repository;
+
+import com.drop.domain.crossfitbox.data.CrossfitBoxChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CrossfitBoxChangeRepository extends JpaRepository<CrossfitBoxChange, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CrossfitBoxChange c")
+    long findLatestVersion();
+
+    /**
+     * before 이전에 기록된 변경 중 가장 큰 ID. 이보다 작은 ID의 빈 구간은 롤백된 것으로 봅니다.
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CrossfitBoxChange c WHERE c.createdAt < :before")
+    long findSettledVersion(@Param("before") LocalDateTime before);
+
+    @Query("SELECT c.id FROM CrossfitBoxChange c WHERE c.id > :after ORDER BY c.id")
+    List<Long> findIdsAfter(@Param("after") Long after);
+
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM CrossfitBoxChange c")
+    long findOldestVersion();
+
+    @Query("SELECT DISTINCT c.crossfitBoxId FROM CrossfitBoxChange c WHERE c.id > :since AND c.id <= :until")
+    List<Long> findChangedCrossfitBoxIds(@Param("since") Long since, @Param("until") Long until);
+
+    /**
+     * 가장 최근 변경은 남겨 IDENTITY 값이 재시작 후에도 되돌아가지 않도록 합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM CrossfitBoxChange c WHERE c.createdAt < :before AND c.id < :latest")
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("latest") Long latest);
+}
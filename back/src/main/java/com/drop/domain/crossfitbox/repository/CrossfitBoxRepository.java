@@ -1,32 +1,96 @@
 package com.drop.domain.crossfitbox.repository;
 
 import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CrossfitBoxRepository extends JpaRepository<CrossfitBox, Long> {
 
+    /**
+     * 조회 전용 목록에서 사용하는 projection select 절. 인증 정보 컬럼은 읽지 않습니다.
+     */
+    String VIEW_SELECT = "SELECT new com.drop.domain.crossfitbox.dto.CrossfitBoxView(" +
+            "c.id, c.username, c.email, c.role, c.name, c.phoneNumber, c.etcInfo, c.dropInFee, " +
+            "c.address.countryCode, c.address.postalCode, c.address.addressLine1, c.address.addressLine2, " +
+            "c.address.jibunAddress, c.address.buildingName, c.address.addressSource, " +
+            "c.latitude, c.longitude, c.usageInfo.parking, c.usageInfo.wear, c.usageInfo.locker) " +
+            "FROM CrossfitBox c ";
+
     Optional<CrossfitBox> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    @Query("SELECT c FROM CrossfitBox c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
-    List<CrossfitBox> findAllWithLocation();
+    @Query(VIEW_SELECT + "WHERE c.id = :id")
+    Optional<CrossfitBoxView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + "WHERE c.id IN :ids")
+    List<CrossfitBoxView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(VIEW_SELECT)
+    List<CrossfitBoxView> findAllViews();
+
+    @Query(VIEW_SELECT + "WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<CrossfitBoxView> findAllViewsWithLocation();
 
-    @Query("SELECT c FROM CrossfitBox c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL " +
+    /**
+     * 경계 사각형을 덮는 geohash 셀(최대 4개, 'prefix%' 패턴)로 GEOHASH 인덱스 범위 스캔 후 위경도로 정확히 거릅니다.
+     * 셀이 4개보다 적으면 남는 패턴은 마지막 셀로 채워 전달합니다.
+     */
+    @Query(VIEW_SELECT + "WHERE (c.geohash LIKE :cell1 OR c.geohash LIKE :cell2 " +
+           "OR c.geohash LIKE :cell3 OR c.geohash LIKE :cell4) " +
            "AND c.latitude BETWEEN :swLat AND :neLat " +
            "AND c.longitude BETWEEN :swLng AND :neLng")
-    List<CrossfitBox> findByBounds(@Param("swLat") Double swLat,
+    List<CrossfitBoxView> findViewsByBounds(@Param("cell1") String cell1,
+                                            @Param("cell2") String cell2,
+                                            @Param("cell3") String cell3,
+                                            @Param("cell4") String cell4,
+                                            @Param("swLat") Double swLat,
+                                            @Param("swLng") Double swLng,
+                                            @Param("neLat") Double neLat,
+                                            @Param("neLng") Double neLng);
+
+    /**
+     * geohash 셀과 경계 사각형으로 먼저 거른 뒤 구면 코사인 법칙으로 반경 내 박스 수만 집계합니다.
+     * minCosine = cos(반경 / 지구 반지름) 이며, acos 없이 비교해 부동소수 오차로 인한 NaN을 피합니다.
+     */
+    @Query("SELECT COUNT(c) FROM CrossfitBox c WHERE (c.geohash LIKE :cell1 OR c.geohash LIKE :cell2 " +
+           "OR c.geohash LIKE :cell3 OR c.geohash LIKE :cell4) " +
+           "AND c.latitude BETWEEN :swLat AND :neLat " +
+           "AND c.longitude BETWEEN :swLng AND :neLng " +
+           "AND COS(:latRad) * COS(RADIANS(c.latitude)) * COS(RADIANS(c.longitude) - :lngRad) " +
+           "+ SIN(:latRad) * SIN(RADIANS(c.latitude)) >= :minCosine")
+    long countWithinRadius(@Param("cell1") String cell1,
+                           @Param("cell2") String cell2,
+                           @Param("cell3") String cell3,
+                           @Param("cell4") String cell4,
+                           @Param("swLat") Double swLat,
                            @Param("swLng") Double swLng,
                            @Param("neLat") Double neLat,
-                           @Param("neLng") Double neLng);
+                           @Param("neLng") Double neLng,
+                           @Param("latRad") Double latRad,
+                           @Param("lngRad") Double lngRad,
+                           @Param("minCosine") Double minCosine);
+
+    /**
+     * 이름 색인이 준비되기 전에만 사용하는 대체 경로입니다.
+     */
+    @Query(VIEW_SELECT + "WHERE LOWER(REPLACE(c.name, ' ', '')) LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%')) " +
+           "ORDER BY c.name")
+    List<CrossfitBoxView> searchViewsByName(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT c FROM CrossfitBox c WHERE c.geohash IS NULL " +
+           "AND c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<CrossfitBox> findAllMissingGeohash(Pageable pageable);
 
-    @Query("SELECT c FROM CrossfitBox c WHERE LOWER(REPLACE(c.name, ' ', '')) LIKE LOWER(CONCAT('%', REPLACE(:keyword, ' ', ''), '%'))")
-    List<CrossfitBox> searchByName(@Param("keyword") String keyword);
+    @Query("SELECT c.id FROM CrossfitBox c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT c.name FROM CrossfitBox c WHERE c.name IS NOT NULL")
     List<String> findAllNames();
@@ -0,0 +1,120 @@
+package com.drop.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.data.CrossfitBoxChange;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxChangesDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxChangeRepository;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 데이터 델타 동기화.
+ * 박스가 변경될 때마다 같은 트랜잭션에서 변경 로그를 남기고, 클라이언트가 가진 버전 이후에 바뀐 박스만 내려줍니다.
+ * 변경 로그 ID는 INSERT 시점에 정해지고 커밋 순서와 다를 수 있으므로, 아직 커밋되지 않았을 수 있는 빈 ID 아래까지만
+ * 버전으로 내려줘 늦게 커밋된 작은 ID가 클라이언트에게서 영영 빠지지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrossfitBoxChangeService {
+
+    private static final int RETENTION_DAYS = 30;
+
+    /**
+     * 빈 ID 뒤의 변경이 이 시간보다 오래되었으면 빈 ID를 롤백된 것으로 보고 넘어갑니다.
+     * 박스를 변경하는 가장 긴 트랜잭션(체육관 동기화)보다 길어야 합니다.
+     */
+    static final Duration GAP_TIMEOUT = Duration.ofMinutes(10);
+
+    private final CrossfitBoxChangeRepository crossfitBoxChangeRepository;
+    private final CrossfitBoxRepository crossfitBoxRepository;
+
+    /**
+     * 트랜잭션 커밋 전에 동기적으로 실행되어 박스 변경과 변경 로그가 함께 커밋됩니다.
+     * 다른 파드에서 전달된 이벤트는 이미 기록되었으므로 무시합니다.
+     */
+    @EventListener
+    public void onCrossfitBoxChanged(CrossfitBoxChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        crossfitBoxChangeRepository.save(CrossfitBoxChange.of(event.crossfitBoxId()));
+    }
+
+    /**
+     * 버전 계산과 전체/변경분 조회를 한 읽기 트랜잭션(같은 스냅샷)에서 수행해, 내려준 데이터가 항상 버전 이후의 상태를 담도록 합니다.
+     * 인메모리 인덱스는 커밋 이후 비동기로 갱신되어 버전보다 뒤처질 수 있으므로 전체 동기화도 DB에서 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    public CrossfitBoxChangesDto getChanges(Long since) {
+        long version = findSafeVersion();
+
+        // 처음 동기화하거나, 버전이 현재보다 앞서거나, 이미 정리된 구간을 요청하면 전체 동기화
+        if (since == null || since <= 0 || since > version
+                || since < crossfitBoxChangeRepository.findOldestVersion() - 1) {
+            return CrossfitBoxChangesDto.builder()
+                    .version(version)
+                    .fullSync(true)
+                    .upserts(crossfitBoxRepository.findAllViewsWithLocation().stream()
+                            .map(CrossfitBoxView::toDto)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        List<CrossfitBoxDto> upserts = new ArrayList<>();
+        Set<Long> deletions = new HashSet<>(crossfitBoxChangeRepository.findChangedCrossfitBoxIds(since, version));
+        if (!deletions.isEmpty()) {
+            for (CrossfitBoxView view : crossfitBoxRepository.findViewsByIdIn(deletions)) {
+                if (view.hasLocation()) {
+                    upserts.add(view.toDto());
+                    deletions.remove(view.id());
+                }
+            }
+        }
+
+        return CrossfitBoxChangesDto.builder()
+                .version(version)
+                .fullSync(false)
+                .upserts(upserts)
+                .deletions(new ArrayList<>(deletions))
+                .build();
+    }
+
+    /**
+     * 빈 ID 없이 이어지는 가장 큰 변경 로그 ID. GAP_TIMEOUT 이전에 기록된 변경까지는 확정된 것으로 보고,
+     * 그 이후의 ID를 차례로 따라가다 처음 비어 있는 ID 바로 앞에서 멈춥니다.
+     */
+    private long findSafeVersion() {
+        long version = crossfitBoxChangeRepository.findSettledVersion(LocalDateTime.now().minus(GAP_TIMEOUT));
+        for (Long id : crossfitBoxChangeRepository.findIdsAfter(version)) {
+            if (id != version + 1) {
+                break;
+            }
+            version = id;
+        }
+        return version;
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    @Transactional
+    public void pruneChanges() {
+        long latest = crossfitBoxChangeRepository.findLatestVersion();
+        int deleted = crossfitBoxChangeRepository.deleteOlderThan(LocalDateTime.now().minusDays(RETENTION_DAYS), latest);
+        log.info("크로스핏박스 변경 로그 정리 - {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,54 @@
+package com.drop.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * GEOHASH 컬럼이 추가되기 전에 저장된 박스의 geohash를 채웁니다.
+ * 채울 행이 없으면 조회 한 번으로 끝나므로 재시작 시에도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossfitBoxGeohashMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CrossfitBoxRepository crossfitBoxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int migrated = 0;
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> fillBatch());
+                migrated += batch;
+            } while (batch == BATCH_SIZE);
+
+            if (migrated > 0) {
+                log.info("크로스핏박스 geohash 이관 완료 - {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.error("크로스핏박스 geohash 이관 실패", e);
+        }
+    }
+
+    private int fillBatch() {
+        List<CrossfitBox> crossfitBoxes = crossfitBoxRepository.findAllMissingGeohash(PageRequest.of(0, BATCH_SIZE));
+        for (CrossfitBox crossfitBox : crossfitBoxes) {
+            crossfitBox.updateCoordinates(crossfitBox.getLatitude(), crossfitBox.getLongitude());
+        }
+        return crossfitBoxes.size();
+    }
+}
@@ -0,0 +1,181 @@
+package com.drop.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 지도 전체 목록의 압축 표현(columnar JSON / binary).
+ * 공간 인덱스 버전마다 한 번만 인코딩해 두고 요청마다 같은 바이트 배열을 그대로 내려줍니다.
+ *
+ * <p>binary 형식 (정수는 모두 LEB128 varint, 부호 있는 값은 zigzag):
+ * <pre>
+ * "DRM1" | count | id 델타[count] | 위도 델타[count] | 경도 델타[count] | (이름 길이, UTF-8 바이트)[count]
+ * </pre>
+ * 위경도는 1e-6도 고정소수점이며, 박스는 위도 띠/경도 순으로 정렬되어 인접 항목 간 델타가 작습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrossfitBoxMapPayloadService {
+
+    public static final String COLUMNAR_JSON = "application/vnd.drop.crossfit-box-map.columnar+json";
+    public static final String BINARY = "application/vnd.drop.crossfit-box-map.binary";
+
+    private static final double FIXED_POINT_SCALE = 1_000_000;
+    private static final int LAT_BAND_FIXED = 50_000;
+    private static final byte[] MAGIC = {'D', 'R', 'M', '1'};
+
+    private final CrossfitBoxService crossfitBoxService;
+    private final CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+    private final ObjectMapper objectMapper;
+
+    private volatile Encoded encoded;
+
+    public MapPayload getColumnarJson() {
+        return current().columnarJson();
+    }
+
+    public MapPayload getBinary() {
+        return current().binary();
+    }
+
+    private Encoded current() {
+        if (!crossfitBoxSpatialIndex.isReady()) {
+            return encode(-1, crossfitBoxService.getAllCrossfitBoxesWithLocation());
+        }
+
+        Encoded current = encoded;
+        long version = crossfitBoxSpatialIndex.getVersion();
+        if (current == null || current.version() != version) {
+            current = build(version);
+        }
+        return current;
+    }
+
+    private synchronized Encoded build(long version) {
+        Encoded current = encoded;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        current = encode(version, crossfitBoxSpatialIndex.findAll());
+        encoded = current;
+        log.debug("지도 압축 응답 인코딩 완료 - version: {}, binary: {} bytes", version, current.binary().body().length);
+        return current;
+    }
+
+    private Encoded encode(long version, List<CrossfitBoxDto> source) {
+        int size = source.size();
+        long[] ids = new long[size];
+        int[] lats = new int[size];
+        int[] lngs = new int[size];
+        String[] names = new String[size];
+
+        List<CrossfitBoxDto> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator
+                .comparingInt((CrossfitBoxDto box) -> Math.floorDiv(toFixed(box.getLatitude()), LAT_BAND_FIXED))
+                .thenComparingInt(box -> toFixed(box.getLongitude()))
+                .thenComparingLong(CrossfitBoxDto::getId));
+        for (int i = 0; i < size; i++) {
+            CrossfitBoxDto box = sorted.get(i);
+            ids[i] = box.getId();
+            lats[i] = toFixed(box.getLatitude());
+            lngs[i] = toFixed(box.getLongitude());
+            names[i] = box.getName() != null ? box.getName() : "";
+        }
+
+        return new Encoded(version, columnarJson(ids, lats, lngs, names), binary(ids, lats, lngs, names));
+    }
+
+    private MapPayload columnarJson(long[] ids, int[] lats, int[] lngs, String[] names) {
+        double[] latitudes = new double[lats.length];
+        double[] longitudes = new double[lngs.length];
+        for (int i = 0; i < lats.length; i++) {
+            latitudes[i] = lats[i] / FIXED_POINT_SCALE;
+            longitudes[i] = lngs[i] / FIXED_POINT_SCALE;
+        }
+
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("ids", ids);
+        columns.put("lat", latitudes);
+        columns.put("lng", longitudes);
+        columns.put("names", names);
+        try {
+            return MapPayload.of(objectMapper.writeValueAsBytes(columns));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지도 응답을 인코딩할 수 없습니다.", e);
+        }
+    }
+
+    private static MapPayload binary(long[] ids, int[] lats, int[] lngs, String[] names) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length * 16 + 16);
+        out.writeBytes(MAGIC);
+        writeVarint(out, ids.length);
+
+        long previousId = 0;
+        for (long id : ids) {
+            writeVarint(out, zigzag(id - previousId));
+            previousId = id;
+        }
+        writeDeltas(out, lats);
+        writeDeltas(out, lngs);
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+        return MapPayload.of(out.toByteArray());
+    }
+
+    private static void writeDeltas(ByteArrayOutputStream out, int[] values) {
+        int previous = 0;
+        for (int value : values) {
+            writeVarint(out, zigzag((long) value - previous));
+            previous = value;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int toFixed(Double degrees) {
+        return (int) Math.round(degrees * FIXED_POINT_SCALE);
+    }
+
+    /**
+     * 인코딩된 본문과 ETag. ETag는 내용의 CRC32라 파드가 달라도 데이터가 같으면 동일합니다.
+     */
+    public record MapPayload(byte[] body, String etag) {
+
+        private static MapPayload of(byte[] body) {
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            return new MapPayload(body, "\"" + Long.toHexString(crc.getValue()) + "\"");
+        }
+    }
+
+    private record Encoded(long version, MapPayload columnarJson, MapPayload binary) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.drop.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchHitDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchPageDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSearchIndex;
+import com.drop.global.code.error.ErrorCode;
+import com.drop.global.code.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이름/주소/행정구역 통합 검색.
+ * 결과는 (점수 내림차순, id 오름차순)으로 정렬되며, 커서는 마지막 항목의 (점수, id)를 인코딩한 값입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrossfitBoxSearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final CrossfitBoxSearchIndex crossfitBoxSearchIndex;
+    private final CrossfitBoxService crossfitBoxService;
+
+    public CrossfitBoxSearchPageDto search(String keyword, Double latitude, Double longitude, String cursor, Integer size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+        if (keyword == null || keyword.isBlank()) {
+            return CrossfitBoxSearchPageDto.builder().results(List.of()).build();
+        }
+
+        if (!crossfitBoxSearchIndex.isReady()) {
+            // 색인 준비 전에는 이름 검색 첫 페이지만 제공
+            return CrossfitBoxSearchPageDto.builder()
+                    .results(crossfitBoxService.searchByName(keyword, size).stream()
+                            .map(box -> CrossfitBoxSearchHitDto.builder()
+                                    .crossfitBox(box)
+                                    .matchType(CrossfitBoxSearchIndex.MatchType.TOKEN.name())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        Cursor after = cursor != null && !cursor.isBlank() ? Cursor.decode(cursor) : null;
+        List<CrossfitBoxSearchIndex.Hit> hits = crossfitBoxSearchIndex.search(keyword, latitude, longitude);
+
+        int from = after != null ? after.seek(hits) : 0;
+        int to = Math.min(from + size, hits.size());
+
+        List<CrossfitBoxSearchHitDto> results = new ArrayList<>(to - from);
+        for (CrossfitBoxSearchIndex.Hit hit : hits.subList(from, to)) {
+            results.add(CrossfitBoxSearchHitDto.builder()
+                    .crossfitBox(hit.box())
+                    .score(hit.score())
+                    .matchType(hit.matchType().name())
+                    .distanceKm(hit.distanceKm())
+                    .build());
+        }
+
+        boolean hasNext = to < hits.size();
+        return CrossfitBoxSearchPageDto.builder()
+                .results(results)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? Cursor.of(hits.get(to - 1)).encode() : null)
+                .build();
+    }
+
+    private record Cursor(double score, long id) {
+
+        private static Cursor of(CrossfitBoxSearchIndex.Hit hit) {
+            return new Cursor(hit.score(), hit.box().getId());
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                return new Cursor(Double.parseDouble(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((score + ":" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 정렬된 hits에서 이 커서 바로 다음 항목의 위치를 이진 탐색으로 찾습니다.
+         */
+        private int seek(List<CrossfitBoxSearchIndex.Hit> hits) {
+            int low = 0;
+            int high = hits.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isBefore(hits.get(mid))) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 정렬 순서에서 이 커서가 hit보다 앞에 있는지. (점수 내림차순, id 오름차순)
+         */
+        private boolean isBefore(CrossfitBoxSearchIndex.Hit hit) {
+            int byScore = Double.compare(hit.score(), score);
+            return byScore < 0 || (byScore == 0 && hit.box().getId() > id);
+        }
+    }
+}
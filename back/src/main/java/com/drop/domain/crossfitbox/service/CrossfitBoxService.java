@@ -2,17 +2,31 @@ package com.drop.domain.crossfitbox.service;
 
 import com.drop.domain.geocoding.service.GeocodingService;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterListDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxCreateDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxUpdateDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
 import com.drop.domain.base.Address;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxAutocompleteIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxClusterIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxNameIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.drop.domain.crossfitbox.index.GeoDistance;
+import com.drop.domain.crossfitbox.index.GeoHash;
 import com.drop.domain.crossfitbox.mapper.CrossfitBoxMapper;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +37,11 @@ public class CrossfitBoxService {
     private final CrossfitBoxMapper crossfitBoxMapper;
     private final CrossfitBoxRepository crossfitBoxRepository;
     private final GeocodingService geocodingService;
+    private final CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+    private final CrossfitBoxClusterIndex crossfitBoxClusterIndex;
+    private final CrossfitBoxNameIndex crossfitBoxNameIndex;
+    private final CrossfitBoxAutocompleteIndex crossfitBoxAutocompleteIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CrossfitBoxDto createCrossfitBox(CrossfitBoxCreateDto crossfitBoxCreateDto){
@@ -35,37 +54,112 @@ public class CrossfitBoxService {
         }
 
         CrossfitBox savedCrossfitBox = crossfitBoxRepository.save(crossfitBox);
+        eventPublisher.publishEvent(new CrossfitBoxChangedEvent(savedCrossfitBox.getId()));
         return crossfitBoxMapper.toDto(savedCrossfitBox);
     }
 
     @Transactional(readOnly = true)
     public List<CrossfitBoxDto> getAllCrossfitBoxesWithLocation() {
-        return crossfitBoxRepository.findAllWithLocation().stream()
-                .map(crossfitBoxMapper::toDto)
+        if (crossfitBoxSpatialIndex.isReady()) {
+            return crossfitBoxSpatialIndex.findAll();
+        }
+        return crossfitBoxRepository.findAllViewsWithLocation().stream()
+                .map(CrossfitBoxView::toDto)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<CrossfitBoxDto> getCrossfitBoxesByBounds(Double swLat, Double swLng, Double neLat, Double neLng) {
-        return crossfitBoxRepository.findByBounds(swLat, swLng, neLat, neLng).stream()
-                .map(crossfitBoxMapper::toDto)
+        if (crossfitBoxSpatialIndex.isReady()) {
+            return crossfitBoxSpatialIndex.findByBounds(swLat, swLng, neLat, neLng);
+        }
+        String[] cells = geohashPatterns(swLat, swLng, neLat, neLng);
+        return crossfitBoxRepository.findViewsByBounds(cells[0], cells[1], cells[2], cells[3],
+                        swLat, swLng, neLat, neLng).stream()
+                .map(CrossfitBoxView::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CrossfitBoxClusterListDto getCrossfitBoxClusters(Double swLat, Double swLng, Double neLat, Double neLng, Integer zoom) {
+        if (!crossfitBoxSpatialIndex.isReady() || zoom > CrossfitBoxClusterIndex.MAX_CLUSTER_ZOOM) {
+            return CrossfitBoxClusterListDto.builder()
+                    .zoom(zoom)
+                    .crossfitBoxes(getCrossfitBoxesByBounds(swLat, swLng, neLat, neLng))
+                    .build();
+        }
+        return CrossfitBoxClusterListDto.builder()
+                .zoom(zoom)
+                .clusters(crossfitBoxClusterIndex.getClusters(swLat, swLng, neLat, neLng, zoom))
+                .build();
+    }
+
+    private static final int MAX_NEAREST_COUNT = 50;
+
+    @Transactional(readOnly = true)
+    public List<CrossfitBoxDistanceDto> getNearestCrossfitBoxes(Double latitude, Double longitude, Integer k) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+        if (k < 1 || k > MAX_NEAREST_COUNT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_NEAREST_COUNT + " 이하여야 합니다.");
+        }
+
+        if (crossfitBoxSpatialIndex.isReady()) {
+            return crossfitBoxSpatialIndex.findNearest(latitude, longitude, k);
+        }
+        return getAllCrossfitBoxesWithLocation().stream()
+                .map(box -> CrossfitBoxDistanceDto.builder()
+                        .crossfitBox(box)
+                        .distanceKm(GeoDistance.haversineKm(latitude, longitude, box.getLatitude(), box.getLongitude()))
+                        .build())
+                .sorted(Comparator.comparingDouble(CrossfitBoxDistanceDto::getDistanceKm))
+                .limit(k)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public CrossfitBoxDto getCrossfitBoxById(Long crossfitBoxId) {
-        CrossfitBox crossfitBox = crossfitBoxRepository.findById(crossfitBoxId)
+        return crossfitBoxRepository.findViewById(crossfitBoxId)
+                .map(CrossfitBoxView::toDto)
                 .orElseThrow(() -> new IllegalArgumentException("크로스핏박스를 찾을 수 없습니다."));
-        return crossfitBoxMapper.toDto(crossfitBox);
     }
 
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    @Transactional(readOnly = true)
+    public List<CrossfitBoxDto> searchByName(String keyword, Integer limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SEARCH_LIMIT + " 이하여야 합니다.");
+        }
+
+        if (crossfitBoxNameIndex.isReady()) {
+            return crossfitBoxNameIndex.search(keyword, limit);
+        }
+        return crossfitBoxRepository.searchViewsByName(keyword.trim(), PageRequest.of(0, limit)).stream()
+                .map(CrossfitBoxView::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private static final int MAX_AUTOCOMPLETE_LIMIT = CrossfitBoxAutocompleteIndex.TOP_PER_NODE;
+
     @Transactional(readOnly = true)
-    public List<CrossfitBoxDto> searchByName(String keyword) {
+    public List<CrossfitBoxSuggestionDto> autocomplete(String keyword, Integer limit) {
         if (keyword == null || keyword.isBlank()) {
             return List.of();
         }
-        return crossfitBoxRepository.searchByName(keyword.trim()).stream()
-                .map(crossfitBoxMapper::toDto)
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_AUTOCOMPLETE_LIMIT + " 이하여야 합니다.");
+        }
+
+        if (crossfitBoxAutocompleteIndex.isReady()) {
+            return crossfitBoxAutocompleteIndex.suggest(keyword, limit);
+        }
+        return searchByName(keyword, limit).stream()
+                .map(box -> CrossfitBoxSuggestionDto.builder().id(box.getId()).name(box.getName()).build())
                 .collect(Collectors.toList());
     }
 
@@ -95,6 +189,7 @@ public class CrossfitBoxService {
             crossfitBox.updateUsageInfo(newUsageInfo);
         }
 
+        eventPublisher.publishEvent(new CrossfitBoxChangedEvent(crossfitBox.getId()));
         return crossfitBoxMapper.toDto(crossfitBox);
     }
 
@@ -106,14 +201,34 @@ public class CrossfitBoxService {
             return (int) crossfitBoxRepository.count();
         }
 
-        double deltaLat = DEFAULT_RADIUS_KM / 111.0;
-        double deltaLng = DEFAULT_RADIUS_KM / (111.0 * Math.cos(Math.toRadians(latGrid)));
+        if (crossfitBoxSpatialIndex.isReady()) {
+            return crossfitBoxSpatialIndex.countWithinRadius(latGrid, lngGrid, DEFAULT_RADIUS_KM);
+        }
+
+        double deltaLat = GeoDistance.latDelta(DEFAULT_RADIUS_KM);
+        double deltaLng = GeoDistance.lngDelta(latGrid, DEFAULT_RADIUS_KM);
 
         double swLat = latGrid - deltaLat;
         double neLat = latGrid + deltaLat;
         double swLng = lngGrid - deltaLng;
         double neLng = lngGrid + deltaLng;
 
-        return crossfitBoxRepository.findByBounds(swLat, swLng, neLat, neLng).size();
+        String[] cells = geohashPatterns(swLat, swLng, neLat, neLng);
+        return (int) crossfitBoxRepository.countWithinRadius(cells[0], cells[1], cells[2], cells[3],
+                swLat, swLng, neLat, neLng,
+                Math.toRadians(latGrid), Math.toRadians(lngGrid),
+                Math.cos(DEFAULT_RADIUS_KM / GeoDistance.EARTH_RADIUS_KM));
+    }
+
+    /**
+     * 경계 사각형을 덮는 geohash 셀을 저장소 쿼리의 LIKE 패턴 4개로 변환합니다.
+     */
+    private static String[] geohashPatterns(double swLat, double swLng, double neLat, double neLng) {
+        List<String> cells = GeoHash.coveringCells(swLat, swLng, neLat, neLng);
+        String[] patterns = new String[4];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = cells.get(Math.min(i, cells.size() - 1)) + "%";
+        }
+        return patterns;
     }
 }
@@ -0,0 +1,90 @@
+package com.drop.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxTileDto;
+import com.drop.domain.crossfitbox.event.CrossfitBoxIndexedEvent;
+import com.drop.domain.crossfitbox.index.SlippyTile;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 타일(z/x/y) 단위 크로스핏박스 조회.
+ * 임의의 bounds 대신 타일로 요청을 정규화해 같은 지역을 보는 사용자끼리 캐시를 공유합니다.
+ * 박스가 변경되면 변경 전후 좌표를 포함하는 타일만 무효화합니다.
+ */
+@Slf4j
+@Service
+public class CrossfitBoxTileService {
+
+    public static final int MAX_TILE_ZOOM = 18;
+
+    private static final String CACHE_NAME = "crossfitBoxTiles";
+    private static final int LOCAL_CACHE_SIZE = 2000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    private final CrossfitBoxService crossfitBoxService;
+    private final TwoLevelCache<CrossfitBoxTileDto> tileCache;
+
+    public CrossfitBoxTileService(CrossfitBoxService crossfitBoxService, TwoLevelCacheManager twoLevelCacheManager) {
+        this.crossfitBoxService = crossfitBoxService;
+        this.tileCache = twoLevelCacheManager.getCache(CACHE_NAME, CrossfitBoxTileDto.class, LOCAL_CACHE_SIZE, CACHE_TTL);
+    }
+
+    public CrossfitBoxTileDto getTile(int z, int x, int y) {
+        SlippyTile tile = SlippyTile.of(z, x, y, MAX_TILE_ZOOM);
+        return tileCache.get(tile.key(), () -> loadTile(tile));
+    }
+
+    private CrossfitBoxTileDto loadTile(SlippyTile tile) {
+        // 경계 위의 박스가 이웃 타일에 중복되지 않도록 자신을 포함하는 타일이 이 타일인 것만 남김
+        List<CrossfitBoxDto> crossfitBoxes = crossfitBoxService
+                .getCrossfitBoxesByBounds(tile.southLat(), tile.westLng(), tile.northLat(), tile.eastLng()).stream()
+                .filter(box -> tile.equals(SlippyTile.containing(box.getLatitude(), box.getLongitude(), tile.z())))
+                .collect(Collectors.toList());
+
+        return CrossfitBoxTileDto.builder()
+                .z(tile.z())
+                .x(tile.x())
+                .y(tile.y())
+                .crossfitBoxes(crossfitBoxes)
+                .build();
+    }
+
+    /**
+     * 변경이 발생한 파드만 L2 삭제와 무효화 메시지 발행을 한 번씩 수행합니다.
+     * 다른 파드는 자신의 인덱스를 갱신한 뒤 L1만 비워, 무효화 메시지보다 인덱스 갱신이 늦었을 때 채운 타일을 버립니다.
+     * 그 사이에 늦은 파드가 L2에 다시 채운 타일은 CACHE_TTL 안에 만료됩니다.
+     */
+    @EventListener
+    public void onCrossfitBoxIndexed(CrossfitBoxIndexedEvent event) {
+        Set<String> keys = new HashSet<>();
+        for (CrossfitBoxIndexedEvent.Change change : event.changes()) {
+            addTileKeys(keys, change.previous());
+            addTileKeys(keys, change.current());
+        }
+        if (event.remote()) {
+            tileCache.evictAllLocal(keys);
+        } else {
+            tileCache.evictAll(keys);
+        }
+        log.debug("크로스핏박스 타일 캐시 무효화 - {}개, remote: {}", keys.size(), event.remote());
+    }
+
+    private static void addTileKeys(Set<String> keys, CrossfitBoxDto box) {
+        if (box == null) {
+            return;
+        }
+        for (int z = 0; z <= MAX_TILE_ZOOM; z++) {
+            keys.add(SlippyTile.containing(box.getLatitude(), box.getLongitude(), z).key());
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.drop.domain.dashboard.controller;
 
-import com.drop.domain.dashboard.dto.DashboardSummaryDto;
+import com.drop.domain.dashboard.dto.DashboardSummaryResult;
 import com.drop.domain.dashboard.service.DashboardService;
 import com.drop.global.code.result.ResultCode;
 import com.drop.global.code.result.ResultResponse;
@@ -23,9 +23,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class DashboardController {
 
+    private static final String SERVER_TIMING = "Server-Timing";
+
     private final DashboardService dashboardService;
 
-    @Operation(summary = "대시보드 요약 조회", description = "대시보드에 필요한 근처 체육관 개수와 내 체육관 미리보기를 조회합니다.")
+    @Operation(summary = "대시보드 요약 조회", description = "대시보드에 필요한 근처 체육관 개수와 내 체육관 미리보기를 조회합니다. 구성 요소별 소요 시간은 Server-Timing 헤더로 반환합니다.")
     @GetMapping("/summary")
     public ResponseEntity<ResultResponse> getDashboardSummary(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -39,7 +41,9 @@ public class DashboardController {
         Long memberId = userDetails != null ? userDetails.getId() : null;
 
         LocationMode mode = LocationMode.fromValue(locationMode);
-        DashboardSummaryDto summary = dashboardService.getDashboardSummary(memberId, mode, latGrid, lngGrid);
-        return ResponseEntity.ok(ResultResponse.of(ResultCode.DASHBOARD_SUMMARY_SUCCESS, summary));
+        DashboardSummaryResult result = dashboardService.getDashboardSummaryWithTimings(memberId, mode, latGrid, lngGrid);
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING, result.toServerTiming())
+                .body(ResultResponse.of(ResultCode.DASHBOARD_SUMMARY_SUCCESS, result.summary()));
     }
 }
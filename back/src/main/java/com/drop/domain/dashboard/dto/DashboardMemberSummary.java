@@ -0,0 +1,15 @@
+package com.drop.domain.dashboard.dto;
+
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewDto;
+
+import java.util.List;
+
+/**
+ * 대시보드 요약 중 회원별로 달라지는 부분(홈박스, 내 크로스핏박스 미리보기와 더 보기 여부). 회원 단위로 캐싱합니다.
+ */
+public record DashboardMemberSummary(
+        DashboardSummaryDto.DashboardBoxDto homeBox,
+        List<MemberCrossfitBoxPreviewDto> myCrossfitBoxesPreview,
+        boolean hasMoreMyCrossfitBoxes
+) {
+}
@@ -0,0 +1,41 @@
+package com.drop.domain.dashboard.dto;
+
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewView;
+
+/**
+ * 대시보드의 회원별 부분(홈박스와 내 크로스핏박스 미리보기 한 건)을 한 쿼리로 조회하는 프로젝션.
+ * 회원 한 명에 대해 미리보기 항목마다 한 행이 나오며, 홈박스 값은 모든 행에 같습니다.
+ * 홈박스가 없으면 homeBox* 값이, 내 크로스핏박스가 없으면 memberCrossfitBoxId 이하 값이 null입니다.
+ */
+public record DashboardMemberView(
+        Long memberId,
+        Long homeBoxId,
+        String homeBoxName,
+        String homeBoxAddressLine1,
+        Long memberCrossfitBoxId,
+        Long crossfitBoxId,
+        String crossfitBoxName,
+        Boolean isFavorite
+) {
+
+    public DashboardSummaryDto.DashboardBoxDto toHomeBoxDto() {
+        if (homeBoxId == null) {
+            return null;
+        }
+        return DashboardSummaryDto.DashboardBoxDto.builder()
+                .crossfitBoxId(homeBoxId)
+                .name(homeBoxName)
+                .addressLine1(homeBoxAddressLine1)
+                .build();
+    }
+
+    /**
+     * 내 크로스핏박스가 없는 회원의 행이면 null
+     */
+    public MemberCrossfitBoxPreviewView toPreviewView() {
+        if (memberCrossfitBoxId == null) {
+            return null;
+        }
+        return new MemberCrossfitBoxPreviewView(memberCrossfitBoxId, crossfitBoxId, crossfitBoxName, isFavorite);
+    }
+}
@@ -0,0 +1,27 @@
+package com.drop.domain.dashboard.dto;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대시보드 요약과 구성 요소별 소요 시간(ms). timedOut은 제한 시간 안에 끝나지 않아 비운 채 응답한 구성 요소입니다.
+ */
+public record DashboardSummaryResult(DashboardSummaryDto summary, Map<String, Double> timings, Set<String> timedOut) {
+
+    public DashboardSummaryResult(DashboardSummaryDto summary, Map<String, Double> timings) {
+        this(summary, timings, Set.of());
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: nearby;desc="timeout";dur=1000.0, member;dur=3.4)
+     */
+    public String toServerTiming() {
+        return timings.entrySet().stream()
+                .map(entry -> entry.getKey()
+                        + (timedOut.contains(entry.getKey()) ? ";desc=\"timeout\"" : "")
+                        + ";dur=" + String.format(Locale.ROOT, "%.1f", entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+}
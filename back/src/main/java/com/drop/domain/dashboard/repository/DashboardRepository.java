@@ -0,0 +1,26 @@
+package com.drop.domain.dashboard.repository;
+
+import com.drop.domain.dashboard.dto.DashboardMemberView;
+import com.drop.domain.member.data.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DashboardRepository extends Repository<Member, Long> {
+
+    /**
+     * 회원, 홈박스, 내 크로스핏박스 미리보기를 한 쿼리로 조회합니다. 홈박스와 크로스핏박스 엔티티 전체를 로딩하지 않습니다.
+     * 미리보기 정렬은 {@code MemberCrossfitBoxRepository.findPreviewByMemberId}와 같고, 개수는 pageable로 DB에서 제한합니다.
+     * 회원이 없으면 빈 목록입니다.
+     */
+    @Query("SELECT new com.drop.domain.dashboard.dto.DashboardMemberView(" +
+           "m.id, hb.id, hb.name, hb.address.addressLine1, mcb.id, cb.id, cb.name, mcb.isFavorite) " +
+           "FROM Member m LEFT JOIN m.homeBox hb " +
+           "LEFT JOIN MemberCrossfitBox mcb ON mcb.member = m LEFT JOIN mcb.crossfitBox cb " +
+           "WHERE m.id = :memberId " +
+           "ORDER BY mcb.isFavorite DESC, mcb.createdAt DESC, mcb.id DESC")
+    List<DashboardMemberView> findMemberViews(@Param("memberId") Long memberId, Pageable pageable);
+}
@@ -1,59 +1,185 @@
 package com.drop.domain.dashboard.service;
 
-import com.drop.domain.crossfitbox.data.CrossfitBox;
-import com.drop.domain.member.data.Member;
-import com.drop.domain.member.repository.MemberRepository;
-import com.drop.domain.membercrossfitbox.service.MemberCrossfitBoxService;
-import com.drop.domain.dashboard.dto.DashboardSummaryDto;
-import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewDto;
 import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.dashboard.dto.DashboardMemberSummary;
+import com.drop.domain.dashboard.dto.DashboardMemberView;
+import com.drop.domain.dashboard.dto.DashboardSummaryDto;
+import com.drop.domain.dashboard.dto.DashboardSummaryResult;
+import com.drop.domain.dashboard.repository.DashboardRepository;
+import com.drop.domain.membercrossfitbox.dto.MyCrossfitBoxesPreview;
+import com.drop.domain.membercrossfitbox.event.MyCrossfitBoxesChangedEvent;
+import com.drop.domain.mypage.event.HomeBoxChangedEvent;
+import com.drop.global.config.ExecutorConfig;
 import com.drop.global.enums.LocationMode;
-import lombok.RequiredArgsConstructor;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * 대시보드 요약 집계.
+ * 근처 박스 수와 회원별 부분(홈박스, 내 크로스핏박스 미리보기와 더 보기 여부)은 서로 독립적이므로
+ * 근처 박스 수는 {@link ExecutorConfig#DASHBOARD_EXECUTOR}에서, 회원별 부분은 요청 스레드에서 한 쿼리로 동시에 조회하고,
+ * 구성 요소별 소요 시간을 함께 반환합니다.
+ * 풀에서 {@link #PART_TIMEOUT} 안에 끝나지 않은 구성 요소는 다시 조회하지 않고 비운 채(null) 응답하며 Server-Timing에 표시합니다.
+ * 회원별 부분은 {@link TwoLevelCache}에 회원 id로 캐싱하고,
+ * 내 크로스핏박스 목록이나 홈박스가 바뀌면 커밋 이후 해당 회원 키만 모든 파드에서 무효화합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DashboardService {
 
+    private static final String PART_NEARBY = "nearby";
+    private static final String PART_MEMBER = "member";
+    private static final String PART_MEMBER_CACHE = "memberCache";
+    private static final String TOTAL = "total";
+
+    private static final Duration PART_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final String CACHE_NAME = "dashboardMembers";
+    private static final int LOCAL_CACHE_SIZE = 10_000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
     private final CrossfitBoxService crossfitBoxService;
-    private final MemberCrossfitBoxService memberCrossfitBoxService;
-    private final MemberRepository memberRepository;
+    private final DashboardRepository dashboardRepository;
+    private final Executor dashboardExecutor;
+    private final TwoLevelCache<DashboardMemberSummary> memberSummaryCache;
 
-    private static final int MY_CROSSFIT_BOXES_PREVIEW_LIMIT = 5;
+    public DashboardService(CrossfitBoxService crossfitBoxService,
+                            DashboardRepository dashboardRepository,
+                            @Qualifier(ExecutorConfig.DASHBOARD_EXECUTOR) Executor dashboardExecutor,
+                            TwoLevelCacheManager twoLevelCacheManager) {
+        this.crossfitBoxService = crossfitBoxService;
+        this.dashboardRepository = dashboardRepository;
+        this.dashboardExecutor = dashboardExecutor;
+        this.memberSummaryCache = twoLevelCacheManager.getCache(CACHE_NAME, DashboardMemberSummary.class, LOCAL_CACHE_SIZE, CACHE_TTL);
+    }
 
-    @Transactional(readOnly = true)
     public DashboardSummaryDto getDashboardSummary(Long memberId, LocationMode locationMode, Double latGrid, Double lngGrid) {
-        int nearbyCrossfitBoxCount = crossfitBoxService.countNearbyCrossfitBoxes(latGrid, lngGrid);
-
-        List<MemberCrossfitBoxPreviewDto> myCrossfitBoxesPreview = memberCrossfitBoxService.getMyCrossfitBoxesPreview(memberId);
+        return getDashboardSummaryWithTimings(memberId, locationMode, latGrid, lngGrid).summary();
+    }
 
-        int totalMyCrossfitBoxes = memberCrossfitBoxService.countMyCrossfitBoxes(memberId);
-        boolean hasMoreMyCrossfitBoxes = totalMyCrossfitBoxes > MY_CROSSFIT_BOXES_PREVIEW_LIMIT;
+    public DashboardSummaryResult getDashboardSummaryWithTimings(Long memberId, LocationMode locationMode,
+                                                                 Double latGrid, Double lngGrid) {
+        long startedAt = System.nanoTime();
+        Map<String, Double> elapsed = new ConcurrentHashMap<>();
+        Set<String> timedOut = ConcurrentHashMap.newKeySet();
 
-        LocationMode nearbyBasis = (locationMode != null) ? locationMode : LocationMode.CURRENT;
+        CompletableFuture<Integer> nearby = supply(PART_NEARBY, elapsed,
+                () -> crossfitBoxService.countNearbyCrossfitBoxes(latGrid, lngGrid));
 
-        DashboardSummaryDto.DashboardBoxDto dashboardBoxDto = null;
-        Member member = memberRepository.findById(memberId).orElse(null);
-        if (member != null && member.getHomeBox() != null) {
-            CrossfitBox homeBox = member.getHomeBox();
-            dashboardBoxDto = DashboardSummaryDto.DashboardBoxDto.builder()
-                    .crossfitBoxId(homeBox.getId())
-                    .name(homeBox.getName())
-                    .addressLine1(homeBox.getAddress() != null ? homeBox.getAddress().getAddressLine1() : null)
-                    .build();
+        DashboardMemberSummary memberSummary = null;
+        if (memberId != null) {
+            // 캐시 조회와 회원별 쿼리는 요청 스레드에서 수행해 풀 스레드가 다른 풀 작업을 기다리지 않도록 함
+            long cacheStartedAt = System.nanoTime();
+            memberSummary = memberSummaryCache.get(String.valueOf(memberId), () -> loadMemberSummary(memberId, elapsed));
+            elapsed.put(PART_MEMBER_CACHE, toMillis(System.nanoTime() - cacheStartedAt));
         }
 
-        return DashboardSummaryDto.builder()
-                .homeBox(dashboardBoxDto)
-                .nearbyCrossfitBoxCount(nearbyCrossfitBoxCount)
-                .nearbyBasis(nearbyBasis)
-                .myCrossfitBoxesPreview(myCrossfitBoxesPreview)
-                .hasMoreMyCrossfitBoxes(hasMoreMyCrossfitBoxes)
+        DashboardSummaryDto summary = DashboardSummaryDto.builder()
+                .homeBox(memberSummary != null ? memberSummary.homeBox() : null)
+                .nearbyCrossfitBoxCount(join(PART_NEARBY, nearby, timedOut))
+                .nearbyBasis(locationMode != null ? locationMode : LocationMode.CURRENT)
+                .myCrossfitBoxesPreview(memberSummary != null ? memberSummary.myCrossfitBoxesPreview() : List.of())
+                .hasMoreMyCrossfitBoxes(memberSummary != null && memberSummary.hasMoreMyCrossfitBoxes())
                 .build();
+
+        Map<String, Double> timings = new LinkedHashMap<>();
+        for (String part : List.of(PART_NEARBY, PART_MEMBER_CACHE, PART_MEMBER)) {
+            Double millis = timedOut.contains(part) ? Double.valueOf(PART_TIMEOUT.toMillis()) : elapsed.get(part);
+            if (millis != null) {
+                timings.put(part, millis);
+            }
+        }
+        timings.put(TOTAL, toMillis(System.nanoTime() - startedAt));
+
+        DashboardSummaryResult result = new DashboardSummaryResult(summary, timings, Set.copyOf(timedOut));
+        log.debug("대시보드 요약 조회 - memberId: {}, {}", memberId, result.toServerTiming());
+        return result;
+    }
+
+    /**
+     * 캐시 미스 시 홈박스와 미리보기(더 보기 여부 판단용으로 하나 더)를 한 쿼리로 조회합니다. 회원이 없으면 null(캐싱하지 않음)
+     */
+    private DashboardMemberSummary loadMemberSummary(Long memberId, Map<String, Double> elapsed) {
+        long startedAt = System.nanoTime();
+        List<DashboardMemberView> views = dashboardRepository.findMemberViews(
+                memberId, PageRequest.of(0, MyCrossfitBoxesPreview.LIMIT + 1));
+        elapsed.put(PART_MEMBER, toMillis(System.nanoTime() - startedAt));
+        if (views.isEmpty()) {
+            return null;
+        }
+
+        MyCrossfitBoxesPreview preview = MyCrossfitBoxesPreview.of(views.stream()
+                .map(DashboardMemberView::toPreviewView)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+        return new DashboardMemberSummary(views.get(0).toHomeBoxDto(), preview.crossfitBoxes(), preview.hasMore());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMyCrossfitBoxesChanged(MyCrossfitBoxesChangedEvent event) {
+        evictMemberSummary(event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHomeBoxChanged(HomeBoxChangedEvent event) {
+        evictMemberSummary(event.memberId());
+    }
+
+    private void evictMemberSummary(Long memberId) {
+        memberSummaryCache.evict(String.valueOf(memberId));
+        log.debug("대시보드 회원 캐시 무효화 - memberId: {}", memberId);
+    }
+
+    private <T> CompletableFuture<T> supply(String part, Map<String, Double> elapsed, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                elapsed.put(part, toMillis(System.nanoTime() - startedAt));
+            }
+        }, dashboardExecutor).orTimeout(PART_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> T join(String part, CompletableFuture<T> future, Set<String> timedOut) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                // DB가 느릴 때 다시 조회하면 같은 쿼리와 커넥션이 두 배가 되므로 해당 구성 요소만 비워서 응답
+                log.warn("대시보드 구성 요소 조회 시간 초과로 제외하고 응답 - part: {}", part);
+                timedOut.add(part);
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
     }
 }
@@ -3,12 +3,15 @@ package com.drop.domain.gymsync.service;
 import com.drop.domain.gymsync.data.InactiveGymCandidate;
 import com.drop.domain.gymsync.dto.PlaceDto;
 import com.drop.domain.gymsync.repository.InactiveGymCandidateRepository;
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.base.Address;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.global.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +29,7 @@ public class CrossfitBoxAccountService {
     private final CrossfitBoxRepository crossfitBoxRepository;
     private final InactiveGymCandidateRepository inactiveGymCandidateRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Map<String, Object> createAccounts(List<PlaceDto> places) {
@@ -49,7 +53,7 @@ public class CrossfitBoxAccountService {
                 CrossfitBox crossfitBox = CrossfitBox.builder()
                         .username(username)
                         .email(email)
-                        .password(password)
+                        .credential(Credential.of(password))
                         .role(UserRole.GYM)
                         .name(place.getName())
                         .phoneNumber(place.getPhoneNumber())
@@ -59,6 +63,7 @@ public class CrossfitBoxAccountService {
                         .build();
 
                 crossfitBoxRepository.save(crossfitBox);
+                eventPublisher.publishEvent(new CrossfitBoxChangedEvent(crossfitBox.getId()));
                 log.info("계정 생성 완료 - name: {}, username: {}, email: {}", place.getName(), username, email);
                 created++;
 
@@ -132,7 +137,7 @@ public class CrossfitBoxAccountService {
                 CrossfitBox crossfitBox = CrossfitBox.builder()
                         .username(username)
                         .email(email)
-                        .password(password)
+                        .credential(Credential.of(password))
                         .role(UserRole.GYM)
                         .name(place.getName())
                         .phoneNumber(place.getPhoneNumber())
@@ -142,6 +147,7 @@ public class CrossfitBoxAccountService {
                         .build();
 
                 crossfitBoxRepository.save(crossfitBox);
+                eventPublisher.publishEvent(new CrossfitBoxChangedEvent(crossfitBox.getId()));
                 log.info("계정 생성 완료 - name: {}, username: {}, email: {}", place.getName(), username, email);
                 created++;
 
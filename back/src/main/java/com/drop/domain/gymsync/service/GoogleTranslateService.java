@@ -1,6 +1,7 @@
 package com.drop.domain.gymsync.service;
 
 import com.drop.domain.gymsync.config.GooglePlacesWebClientConfig;
+import com.drop.global.util.Hangul;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -86,12 +87,10 @@ public class GoogleTranslateService {
 
         StringBuilder sb = new StringBuilder();
         for (char c : korean.toCharArray()) {
-            if (c >= 0xAC00 && c <= 0xD7A3) {
-                int code = c - 0xAC00;
-                int initialIdx = code / (21 * 28);
-                int medialIdx = (code % (21 * 28)) / 28;
-                int finalIdx = code % 28;
-                sb.append(initials[initialIdx]).append(medials[medialIdx]).append(finals[finalIdx]);
+            if (Hangul.isSyllable(c)) {
+                sb.append(initials[Hangul.initialIndex(c)])
+                        .append(medials[Hangul.medialIndex(c)])
+                        .append(finals[Hangul.finalIndex(c)]);
             } else if (Character.isLetterOrDigit(c)) {
                 sb.append(Character.toLowerCase(c));
             } else if (c == ' ') {
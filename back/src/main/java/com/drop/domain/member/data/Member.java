@@ -1,5 +1,6 @@
 package com.drop.domain.member.data;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.base.BaseEntity;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.member.dto.MemberCreateDto;
@@ -34,19 +35,27 @@ public class Member extends BaseEntity implements Authenticatable {
     @Column(name = "EMAIL", unique = true, nullable = false)
     private String email;
 
-    @Column(name = "PASSWORD")
-    private String password;
-
     @Column(name = "ROLE")
     @Enumerated(value = EnumType.STRING)
     @Builder.Default
     private UserRole role = UserRole.MEMBER;
 
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "CREDENTIAL_ID", unique = true)
+    private Credential credential;
+
+    /**
+     * 이전 버전 파드가 읽고 쓰는 기존 인증 컬럼. 롤링 배포 중에는 {@link Credential}과 함께 갱신하며,
+     * 모든 파드가 이 버전으로 바뀐 뒤 다음 릴리스에서 매핑과 컬럼을 삭제합니다.
+     */
+    @Column(name = "PASSWORD")
+    private String legacyPassword;
+
     @Column(name = "ACCESS_TOKEN", length = 2000)
-    private String accessToken;
+    private String legacyAccessToken;
 
     @Column(name = "REFRESH_TOKEN", length = 2000)
-    private String refreshToken;
+    private String legacyRefreshToken;
 
     @Column(name = "PROFILE_IMAGE")
     private String profileImage;
@@ -59,20 +68,10 @@ public class Member extends BaseEntity implements Authenticatable {
     @JoinColumn(name = "HOME_BOX_ID")
     private CrossfitBox homeBox;
 
-    @Override
-    public void setTokens(String accessToken, String refreshToken) {
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
-    }
-
     public void updateUsername(String username) {
         this.username = username;
     }
 
-    public void updatePassword(String password) {
-        this.password = password;
-    }
-
     public void updateProfileImage(String profileImage) {
         this.profileImage = profileImage;
     }
@@ -85,16 +84,67 @@ public class Member extends BaseEntity implements Authenticatable {
         this.homeBox = homeBox;
     }
 
+    @Override
+    public String getPassword() {
+        return obtainCredential().getPassword();
+    }
+
+    @Override
+    public String getAccessToken() {
+        return obtainCredential().getAccessToken();
+    }
+
+    @Override
+    public String getRefreshToken() {
+        return obtainCredential().getRefreshToken();
+    }
+
+    @Override
+    public void setTokens(String accessToken, String refreshToken) {
+        obtainCredential().updateTokens(accessToken, refreshToken);
+        this.legacyAccessToken = accessToken;
+        this.legacyRefreshToken = refreshToken;
+    }
+
+    public void updatePassword(String password) {
+        obtainCredential().updatePassword(password);
+        this.legacyPassword = password;
+    }
+
     public void clearTokens() {
-        this.accessToken = null;
-        this.refreshToken = null;
+        obtainCredential().clearTokens();
+        this.legacyAccessToken = null;
+        this.legacyRefreshToken = null;
+    }
+
+    /**
+     * 이전 버전 파드가 만든 행은 이관 전까지 인증 정보가 없으므로 기존 컬럼 값으로 만들어 연결합니다(cascade로 함께 저장).
+     */
+    private Credential obtainCredential() {
+        if (credential == null) {
+            credential = Credential.builder()
+                    .password(legacyPassword)
+                    .accessToken(legacyAccessToken)
+                    .refreshToken(legacyRefreshToken)
+                    .build();
+        }
+        return credential;
+    }
+
+    @PrePersist
+    private void copyCredentialToLegacyColumns() {
+        if (credential != null) {
+            this.legacyPassword = credential.getPassword();
+            this.legacyAccessToken = credential.getAccessToken();
+            this.legacyRefreshToken = credential.getRefreshToken();
+        }
     }
 
     public static Member create(MemberCreateDto memberCreateDto) {
         return Member.builder()
                 .username(memberCreateDto.getUsername())
                 .email(memberCreateDto.getEmail())
-                .password(memberCreateDto.getPassword())
+                .credential(Credential.of(memberCreateDto.getPassword()))
                 .role(memberCreateDto.getRole() != null ? memberCreateDto.getRole() : UserRole.MEMBER)
                 .build();
     }
@@ -1,5 +1,8 @@
 package com.drop.domain.membercrossfitbox.controller;
 
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkResultDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxCursorResponseDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxRequestDto;
 import com.drop.domain.membercrossfitbox.service.MemberCrossfitBoxService;
@@ -34,6 +37,19 @@ public class MemberCrossfitBoxController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_GYM_LIST_SUCCESS, myCrossfitBoxes));
     }
 
+    @Operation(summary = "내 크로스핏박스 목록 커서 조회",
+            description = "즐겨찾기, 최근 등록 순으로 정렬된 내 크로스핏박스를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ResultResponse> getMyCrossfitBoxesByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 50)") @RequestParam(defaultValue = "20") int size
+    ) {
+        Long memberId = userDetails.getId();
+        MemberCrossfitBoxCursorResponseDto result = memberCrossfitBoxService.getMyCrossfitBoxesByCursor(memberId, cursor, size);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_GYM_LIST_SUCCESS, result));
+    }
+
     @Operation(summary = "내 크로스핏박스에 추가", description = "크로스핏박스를 내 크로스핏박스 목록에 추가합니다.")
     @PostMapping
     public ResponseEntity<ResultResponse> addCrossfitBoxToMyList(
@@ -45,6 +61,18 @@ public class MemberCrossfitBoxController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_GYM_ADD_SUCCESS, result));
     }
 
+    @Operation(summary = "내 크로스핏박스 일괄 동기화",
+            description = "추가(즐겨찾기 여부 포함)와 제거할 크로스핏박스를 한 번에 반영합니다. 각각 최대 100개까지 요청할 수 있으며, 존재하지 않는 크로스핏박스 id는 결과로 반환합니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<ResultResponse> syncMyCrossfitBoxes(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody MemberCrossfitBoxBulkRequestDto request
+    ) {
+        Long memberId = userDetails.getId();
+        MemberCrossfitBoxBulkResultDto result = memberCrossfitBoxService.syncMyCrossfitBoxes(memberId, request);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_GYM_BULK_SYNC_SUCCESS, result));
+    }
+
     @Operation(summary = "즐겨찾기 토글", description = "크로스핏박스의 즐겨찾기 상태를 변경합니다.")
     @PatchMapping("/{crossfitBoxId}/favorite")
     public ResponseEntity<ResultResponse> toggleFavorite(
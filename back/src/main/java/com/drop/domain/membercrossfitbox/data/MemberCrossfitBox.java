@@ -17,6 +17,9 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Table(name = "MEMBER_CROSSFIT_BOX", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"MEMBER_ID", "CROSSFIT_BOX_ID"})
+}, indexes = {
+    @Index(name = "IDX_MEMBER_CROSSFIT_BOX_MEMBER_FAVORITE_CREATED",
+            columnList = "MEMBER_ID, IS_FAVORITE, createdAt, MEMBER_CROSSFIT_BOX_ID, CROSSFIT_BOX_ID")
 })
 public class MemberCrossfitBox extends BaseEntity {
 
@@ -0,0 +1,14 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberCrossfitBoxBulkRequestDto {
+    private List<MemberCrossfitBoxRequestDto> add;
+    private List<Long> remove;
+}
@@ -0,0 +1,17 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberCrossfitBoxBulkResultDto {
+    private Integer added;
+    private Integer updated;
+    private Integer removed;
+    private List<Long> notFoundCrossfitBoxIds;
+}
@@ -0,0 +1,16 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberCrossfitBoxCursorResponseDto {
+    private List<MemberCrossfitBoxDto> crossfitBoxes;
+    private String nextCursor;
+    private boolean hasNext;
+}
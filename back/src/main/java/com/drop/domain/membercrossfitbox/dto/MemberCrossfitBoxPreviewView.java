@@ -0,0 +1,12 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+/**
+ * 내 크로스핏박스 미리보기용 프로젝션. 박스가 삭제되었으면 crossfitBoxId, name은 null입니다.
+ */
+public record MemberCrossfitBoxPreviewView(
+        Long memberCrossfitBoxId,
+        Long crossfitBoxId,
+        String name,
+        Boolean isFavorite
+) {
+}
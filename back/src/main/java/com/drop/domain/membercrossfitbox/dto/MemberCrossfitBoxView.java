@@ -0,0 +1,25 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 크로스핏박스 목록용 프로젝션. 응답에 필요한 박스 컬럼과 커서 정렬 키(isFavorite, createdAt, id)만 담습니다.
+ */
+public record MemberCrossfitBoxView(
+        Long memberCrossfitBoxId,
+        Long crossfitBoxId,
+        String name,
+        String location,
+        Boolean isFavorite,
+        LocalDateTime createdAt
+) {
+
+    public MemberCrossfitBoxDto toDto() {
+        return MemberCrossfitBoxDto.builder()
+                .crossfitBoxId(crossfitBoxId)
+                .name(name)
+                .location(location)
+                .isFavorite(isFavorite)
+                .build();
+    }
+}
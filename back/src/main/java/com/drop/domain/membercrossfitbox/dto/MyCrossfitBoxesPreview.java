@@ -0,0 +1,38 @@
+package com.drop.domain.membercrossfitbox.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 내 크로스핏박스 미리보기 목록과 미리보기 밖에 더 있는지 여부
+ */
+public record MyCrossfitBoxesPreview(
+        List<MemberCrossfitBoxPreviewDto> crossfitBoxes,
+        boolean hasMore
+) {
+
+    public static final int LIMIT = 5;
+
+    public static MyCrossfitBoxesPreview empty() {
+        return new MyCrossfitBoxesPreview(List.of(), false);
+    }
+
+    /**
+     * 정렬 순서대로 최대 {@link #LIMIT} + 1개 조회한 프로젝션으로 미리보기를 만듭니다. 하나 더 있으면 "더 보기"입니다.
+     */
+    public static MyCrossfitBoxesPreview of(List<MemberCrossfitBoxPreviewView> views) {
+        List<MemberCrossfitBoxPreviewDto> preview = views.stream()
+                .limit(LIMIT)
+                .map(view -> {
+                    boolean isDeleted = view.crossfitBoxId() == null;
+                    return MemberCrossfitBoxPreviewDto.builder()
+                            .crossfitBoxId(isDeleted ? view.memberCrossfitBoxId() : view.crossfitBoxId())
+                            .name(isDeleted ? "삭제된 크로스핏박스" : view.name())
+                            .isFavorite(view.isFavorite())
+                            .isDeleted(isDeleted)
+                            .build();
+                })
+                .collect(Collectors.toList());
+        return new MyCrossfitBoxesPreview(preview, views.size() > LIMIT);
+    }
+}
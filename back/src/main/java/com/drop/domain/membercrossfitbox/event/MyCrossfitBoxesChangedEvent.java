@@ -0,0 +1,7 @@
+package com.drop.domain.membercrossfitbox.event;
+
+/**
+ * 회원의 내 크로스핏박스 목록(추가/삭제/즐겨찾기)이 바뀌었을 때 발행되는 이벤트.
+ */
+public record MyCrossfitBoxesChangedEvent(Long memberId) {
+}
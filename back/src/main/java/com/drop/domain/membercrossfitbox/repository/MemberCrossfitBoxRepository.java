@@ -3,15 +3,30 @@ package com.drop.domain.membercrossfitbox.repository;
 import com.drop.domain.membercrossfitbox.data.MemberCrossfitBox;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.member.data.Member;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewView;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberCrossfitBoxRepository extends JpaRepository<MemberCrossfitBox, Long> {
 
+    /**
+     * 내 크로스핏박스 목록 projection select 절. 박스의 인증 정보 컬럼은 읽지 않고,
+     * MEMBER_CROSSFIT_BOX 쪽은 (MEMBER_ID, IS_FAVORITE, createdAt, id, CROSSFIT_BOX_ID) 인덱스만으로 처리됩니다.
+     */
+    String VIEW_SELECT = "SELECT new com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxView(" +
+            "mcb.id, cb.id, cb.name, cb.address.addressLine1, mcb.isFavorite, mcb.createdAt) " +
+            "FROM MemberCrossfitBox mcb JOIN mcb.crossfitBox cb WHERE mcb.member.id = :memberId ";
+
     Optional<MemberCrossfitBox> findByMemberAndCrossfitBox(Member member, CrossfitBox crossfitBox);
 
     List<MemberCrossfitBox> findByMemberOrderByIsFavoriteDescCreatedAtDesc(Member member);
@@ -22,13 +37,71 @@ public interface MemberCrossfitBoxRepository extends JpaRepository<MemberCrossfi
     @Query("SELECT mcb FROM MemberCrossfitBox mcb JOIN FETCH mcb.crossfitBox WHERE mcb.member.id = :memberId ORDER BY mcb.isFavorite DESC, mcb.createdAt DESC")
     List<MemberCrossfitBox> findByMemberIdWithCrossfitBox(@Param("memberId") Long memberId);
 
-    @Query("SELECT mcb FROM MemberCrossfitBox mcb LEFT JOIN FETCH mcb.crossfitBox WHERE mcb.member.id = :memberId ORDER BY mcb.isFavorite DESC, mcb.createdAt DESC")
-    List<MemberCrossfitBox> findByMemberIdWithCrossfitBoxIncludeDeleted(@Param("memberId") Long memberId);
+    @Query(VIEW_SELECT + "ORDER BY mcb.isFavorite DESC, mcb.createdAt DESC, mcb.id DESC")
+    List<MemberCrossfitBoxView> findViewsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query(VIEW_SELECT + "AND mcb.isFavorite = :isFavorite ORDER BY mcb.createdAt DESC, mcb.id DESC")
+    List<MemberCrossfitBoxView> findViewsByMemberIdAndFavorite(@Param("memberId") Long memberId,
+                                                               @Param("isFavorite") Boolean isFavorite,
+                                                               Pageable pageable);
+
+    /**
+     * 같은 즐겨찾기 그룹 안에서 (createdAt, id) 커서 다음 행을 조회합니다.
+     * 그룹을 고정해야 인덱스 범위 조회가 되므로, 즐겨찾기 그룹이 끝나면 호출 측에서 나머지 그룹을 이어서 조회합니다.
+     */
+    @Query(VIEW_SELECT + "AND mcb.isFavorite = :isFavorite " +
+           "AND (mcb.createdAt < :createdAt OR (mcb.createdAt = :createdAt AND mcb.id < :id)) " +
+           "ORDER BY mcb.createdAt DESC, mcb.id DESC")
+    List<MemberCrossfitBoxView> findViewsByMemberIdAndFavoriteAfter(@Param("memberId") Long memberId,
+                                                                    @Param("isFavorite") Boolean isFavorite,
+                                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                                    @Param("id") Long id,
+                                                                    Pageable pageable);
+
+    /**
+     * 미리보기에 필요한 컬럼만 정렬 순서대로 조회합니다. 삭제된 박스도 포함하며, 개수는 pageable로 DB에서 제한합니다.
+     */
+    @Query("SELECT new com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewView(mcb.id, cb.id, cb.name, mcb.isFavorite) " +
+           "FROM MemberCrossfitBox mcb LEFT JOIN mcb.crossfitBox cb WHERE mcb.member.id = :memberId " +
+           "ORDER BY mcb.isFavorite DESC, mcb.createdAt DESC, mcb.id DESC")
+    List<MemberCrossfitBoxPreviewView> findPreviewByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT new com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto(cb.id, cb.name, cb.address.addressLine1, mcb.isFavorite) " +
+           "FROM MemberCrossfitBox mcb JOIN mcb.crossfitBox cb WHERE mcb.member.id = :memberId AND cb.id = :crossfitBoxId")
+    Optional<MemberCrossfitBoxDto> findDtoByMemberIdAndCrossfitBoxId(@Param("memberId") Long memberId,
+                                                                     @Param("crossfitBoxId") Long crossfitBoxId);
 
-    @Query("SELECT COUNT(mcb) FROM MemberCrossfitBox mcb WHERE mcb.member.id = :memberId")
-    int countByMemberId(@Param("memberId") Long memberId);
+    @Query("SELECT mcb.crossfitBox.id FROM MemberCrossfitBox mcb " +
+           "WHERE mcb.member.id = :memberId AND mcb.crossfitBox.id IN :crossfitBoxIds")
+    List<Long> findCrossfitBoxIdsByMemberIdAndCrossfitBoxIdIn(@Param("memberId") Long memberId,
+                                                              @Param("crossfitBoxIds") Collection<Long> crossfitBoxIds);
 
     boolean existsByMemberAndCrossfitBox(Member member, CrossfitBox crossfitBox);
 
     void deleteByMemberAndCrossfitBox(Member member, CrossfitBox crossfitBox);
+
+    /**
+     * 엔티티를 로딩하지 않고 즐겨찾기 상태를 뒤집습니다. 벌크 연산이라 감사 필드(updatedAt)를 직접 갱신합니다.
+     */
+    @Modifying
+    @Query("UPDATE MemberCrossfitBox mcb SET mcb.isFavorite = CASE WHEN mcb.isFavorite = true THEN false ELSE true END, " +
+           "mcb.updatedAt = CURRENT_TIMESTAMP WHERE mcb.member.id = :memberId AND mcb.crossfitBox.id = :crossfitBoxId")
+    int toggleFavoriteByMemberIdAndCrossfitBoxId(@Param("memberId") Long memberId,
+                                                 @Param("crossfitBoxId") Long crossfitBoxId);
+
+    @Modifying
+    @Query("UPDATE MemberCrossfitBox mcb SET mcb.isFavorite = :isFavorite, mcb.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE mcb.member.id = :memberId AND mcb.crossfitBox.id IN :crossfitBoxIds")
+    int updateFavoriteByMemberIdAndCrossfitBoxIdIn(@Param("memberId") Long memberId,
+                                                   @Param("crossfitBoxIds") Collection<Long> crossfitBoxIds,
+                                                   @Param("isFavorite") Boolean isFavorite);
+
+    @Modifying
+    @Query("DELETE FROM MemberCrossfitBox mcb WHERE mcb.member.id = :memberId AND mcb.crossfitBox.id = :crossfitBoxId")
+    int deleteByMemberIdAndCrossfitBoxId(@Param("memberId") Long memberId, @Param("crossfitBoxId") Long crossfitBoxId);
+
+    @Modifying
+    @Query("DELETE FROM MemberCrossfitBox mcb WHERE mcb.member.id = :memberId AND mcb.crossfitBox.id IN :crossfitBoxIds")
+    int deleteByMemberIdAndCrossfitBoxIdIn(@Param("memberId") Long memberId,
+                                           @Param("crossfitBoxIds") Collection<Long> crossfitBoxIds);
 }
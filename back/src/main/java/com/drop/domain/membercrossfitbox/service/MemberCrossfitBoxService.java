@@ -1,21 +1,40 @@
 package com.drop.domain.membercrossfitbox.service;
 
 import com.drop.domain.membercrossfitbox.data.MemberCrossfitBox;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkResultDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxCursorResponseDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto;
-import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxView;
+import com.drop.domain.membercrossfitbox.dto.MyCrossfitBoxesPreview;
+import com.drop.domain.membercrossfitbox.event.MyCrossfitBoxesChangedEvent;
 import com.drop.domain.membercrossfitbox.repository.MemberCrossfitBoxRepository;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.member.data.Member;
 import com.drop.domain.member.repository.MemberRepository;
+import com.drop.global.code.error.ErrorCode;
+import com.drop.global.code.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,44 +45,63 @@ public class MemberCrossfitBoxService {
     private final MemberCrossfitBoxRepository memberCrossfitBoxRepository;
     private final MemberRepository memberRepository;
     private final CrossfitBoxRepository crossfitBoxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final int MY_CROSSFIT_BOXES_PREVIEW_LIMIT = 5;
+    private static final int MAX_BULK_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
     @Transactional(readOnly = true)
     public List<MemberCrossfitBoxDto> getMyCrossfitBoxes(Long memberId) {
-        return memberCrossfitBoxRepository.findByMemberIdWithCrossfitBox(memberId).stream()
-                .map(this::toMemberCrossfitBoxDto)
+        return memberCrossfitBoxRepository.findViewsByMemberId(memberId, Pageable.unpaged()).stream()
+                .map(MemberCrossfitBoxView::toDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * (isFavorite DESC, createdAt DESC, id DESC) 순 키셋 페이지. size + 1건을 읽어 다음 페이지 여부를 판단합니다.
+     * 커서가 즐겨찾기 그룹 끝에 걸리면 즐겨찾기 아닌 그룹의 처음부터 남은 개수만큼 이어서 조회합니다.
+     */
     @Transactional(readOnly = true)
-    public List<MemberCrossfitBoxPreviewDto> getMyCrossfitBoxesPreview(Long memberId) {
-        if (memberId == null) {
-            return Collections.emptyList();
+    public MemberCrossfitBoxCursorResponseDto getMyCrossfitBoxesByCursor(Long memberId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
         }
+        MyCrossfitBoxCursor after = MyCrossfitBoxCursor.decode(cursor);
+        int limit = size + 1;
 
-        List<MemberCrossfitBox> memberCrossfitBoxes = memberCrossfitBoxRepository.findByMemberIdWithCrossfitBoxIncludeDeleted(memberId);
-
-        return memberCrossfitBoxes.stream()
-                .limit(MY_CROSSFIT_BOXES_PREVIEW_LIMIT)
-                .map(mcb -> {
-                    boolean isDeleted = mcb.getCrossfitBox() == null;
-                    return MemberCrossfitBoxPreviewDto.builder()
-                            .crossfitBoxId(isDeleted ? mcb.getId() : mcb.getCrossfitBox().getId())
-                            .name(isDeleted ? "삭제된 크로스핏박스" : mcb.getCrossfitBox().getName())
-                            .isFavorite(mcb.getIsFavorite())
-                            .isDeleted(isDeleted)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<MemberCrossfitBoxView> views;
+        if (after == null) {
+            views = memberCrossfitBoxRepository.findViewsByMemberId(memberId, PageRequest.of(0, limit));
+        } else {
+            views = new ArrayList<>(memberCrossfitBoxRepository.findViewsByMemberIdAndFavoriteAfter(
+                    memberId, after.favorite(), after.createdAt(), after.id(), PageRequest.of(0, limit)));
+            if (after.favorite() && views.size() < limit) {
+                views.addAll(memberCrossfitBoxRepository.findViewsByMemberIdAndFavorite(
+                        memberId, false, PageRequest.of(0, limit - views.size())));
+            }
+        }
+
+        boolean hasNext = views.size() > size;
+        List<MemberCrossfitBoxView> page = hasNext ? views.subList(0, size) : views;
+
+        return MemberCrossfitBoxCursorResponseDto.builder()
+                .crossfitBoxes(page.stream().map(MemberCrossfitBoxView::toDto).collect(Collectors.toList()))
+                .nextCursor(hasNext ? MyCrossfitBoxCursor.of(page.get(size - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * 미리보기 개수보다 하나 더 조회해 "더 보기" 여부까지 한 쿼리로 판단합니다.
+     */
     @Transactional(readOnly = true)
-    public int countMyCrossfitBoxes(Long memberId) {
+    public MyCrossfitBoxesPreview getMyCrossfitBoxesPreview(Long memberId) {
         if (memberId == null) {
-            return 0;
+            return MyCrossfitBoxesPreview.empty();
         }
-        return memberCrossfitBoxRepository.countByMemberId(memberId);
+
+        return MyCrossfitBoxesPreview.of(memberCrossfitBoxRepository.findPreviewByMemberId(
+                memberId, PageRequest.of(0, MyCrossfitBoxesPreview.LIMIT + 1)));
     }
 
     @Transactional
@@ -80,35 +118,116 @@ public class MemberCrossfitBoxService {
 
         MemberCrossfitBox memberCrossfitBox = MemberCrossfitBox.create(member, crossfitBox, request.getIsFavorite());
         MemberCrossfitBox saved = memberCrossfitBoxRepository.save(memberCrossfitBox);
+        eventPublisher.publishEvent(new MyCrossfitBoxesChangedEvent(memberId));
 
         return toMemberCrossfitBoxDto(saved);
     }
 
+    /**
+     * 회원/박스 엔티티를 로딩하지 않고 id 기준 UPDATE 한 번으로 토글한 뒤, 응답에 필요한 컬럼만 조회합니다.
+     */
     @Transactional
     public MemberCrossfitBoxDto toggleFavorite(Long memberId, Long crossfitBoxId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-
-        CrossfitBox crossfitBox = crossfitBoxRepository.findById(crossfitBoxId)
-                .orElseThrow(() -> new IllegalArgumentException("크로스핏박스를 찾을 수 없습니다."));
+        if (memberCrossfitBoxRepository.toggleFavoriteByMemberIdAndCrossfitBoxId(memberId, crossfitBoxId) == 0) {
+            throw new IllegalArgumentException("내 크로스핏박스 목록에 없습니다.");
+        }
+        eventPublisher.publishEvent(new MyCrossfitBoxesChangedEvent(memberId));
 
-        MemberCrossfitBox memberCrossfitBox = memberCrossfitBoxRepository.findByMemberAndCrossfitBox(member, crossfitBox)
+        return memberCrossfitBoxRepository.findDtoByMemberIdAndCrossfitBoxId(memberId, crossfitBoxId)
                 .orElseThrow(() -> new IllegalArgumentException("내 크로스핏박스 목록에 없습니다."));
-
-        memberCrossfitBox.toggleFavorite();
-
-        return toMemberCrossfitBoxDto(memberCrossfitBox);
     }
 
     @Transactional
     public void removeCrossfitBoxFromMyList(Long memberId, Long crossfitBoxId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+        if (memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxId(memberId, crossfitBoxId) == 0) {
+            throw new IllegalArgumentException("내 크로스핏박스 목록에 없습니다.");
+        }
+        eventPublisher.publishEvent(new MyCrossfitBoxesChangedEvent(memberId));
+    }
 
-        CrossfitBox crossfitBox = crossfitBoxRepository.findById(crossfitBoxId)
-                .orElseThrow(() -> new IllegalArgumentException("크로스핏박스를 찾을 수 없습니다."));
+    /**
+     * 클라이언트의 내 크로스핏박스 목록 변경분을 한 번에 반영합니다.
+     * 제거는 DELETE 한 번, 이미 등록된 박스의 즐겨찾기 변경은 값별 UPDATE(최대 두 번),
+     * 새 박스는 존재하는 id만 골라 엔티티 로딩 없이 참조로 저장합니다. 존재하지 않는 박스 id는 결과로 돌려줍니다.
+     */
+    @Transactional
+    public MemberCrossfitBoxBulkResultDto syncMyCrossfitBoxes(Long memberId, MemberCrossfitBoxBulkRequestDto request) {
+        Map<Long, Boolean> additions = new LinkedHashMap<>();
+        if (request.getAdd() != null) {
+            for (MemberCrossfitBoxRequestDto add : request.getAdd()) {
+                if (add == null || add.getCrossfitBoxId() == null) {
+                    throw new IllegalArgumentException("추가할 크로스핏박스 id가 필요합니다.");
+                }
+                additions.put(add.getCrossfitBoxId(), add.getIsFavorite());
+            }
+        }
+        Set<Long> removals = new LinkedHashSet<>();
+        if (request.getRemove() != null) {
+            for (Long crossfitBoxId : request.getRemove()) {
+                if (crossfitBoxId == null) {
+                    throw new IllegalArgumentException("제거할 크로스핏박스 id가 필요합니다.");
+                }
+                removals.add(crossfitBoxId);
+            }
+        }
+        if (additions.size() > MAX_BULK_SIZE || removals.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("추가와 제거는 각각 최대 " + MAX_BULK_SIZE + "개까지 요청할 수 있습니다.");
+        }
+        if (additions.keySet().stream().anyMatch(removals::contains)) {
+            throw new IllegalArgumentException("같은 크로스핏박스를 동시에 추가하고 제거할 수 없습니다.");
+        }
+
+        int removed = removals.isEmpty() ? 0
+                : memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxIdIn(memberId, removals);
+        int updated = 0;
+        List<MemberCrossfitBox> newRows = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+
+        if (!additions.isEmpty()) {
+            Set<Long> registered = new HashSet<>(
+                    memberCrossfitBoxRepository.findCrossfitBoxIdsByMemberIdAndCrossfitBoxIdIn(memberId, additions.keySet()));
+
+            Map<Boolean, List<Long>> favoriteChanges = new HashMap<>();
+            List<Long> candidates = new ArrayList<>();
+            additions.forEach((crossfitBoxId, isFavorite) -> {
+                if (!registered.contains(crossfitBoxId)) {
+                    candidates.add(crossfitBoxId);
+                } else if (isFavorite != null) {
+                    favoriteChanges.computeIfAbsent(isFavorite, key -> new ArrayList<>()).add(crossfitBoxId);
+                }
+            });
+            for (Map.Entry<Boolean, List<Long>> change : favoriteChanges.entrySet()) {
+                updated += memberCrossfitBoxRepository.updateFavoriteByMemberIdAndCrossfitBoxIdIn(
+                        memberId, change.getValue(), change.getKey());
+            }
+
+            if (!candidates.isEmpty()) {
+                Set<Long> existing = new HashSet<>(crossfitBoxRepository.findExistingIds(candidates));
+                Member member = memberRepository.getReferenceById(memberId);
+                for (Long crossfitBoxId : candidates) {
+                    if (!existing.contains(crossfitBoxId)) {
+                        notFound.add(crossfitBoxId);
+                        continue;
+                    }
+                    CrossfitBox crossfitBox = crossfitBoxRepository.getReferenceById(crossfitBoxId);
+                    newRows.add(MemberCrossfitBox.create(member, crossfitBox, additions.get(crossfitBoxId)));
+                }
+                memberCrossfitBoxRepository.saveAll(newRows);
+            }
+        }
+
+        if (removed + updated + newRows.size() > 0) {
+            eventPublisher.publishEvent(new MyCrossfitBoxesChangedEvent(memberId));
+        }
+        log.debug("내 크로스핏박스 동기화 - memberId: {}, added: {}, updated: {}, removed: {}, notFound: {}",
+                memberId, newRows.size(), updated, removed, notFound);
 
-        memberCrossfitBoxRepository.deleteByMemberAndCrossfitBox(member, crossfitBox);
+        return MemberCrossfitBoxBulkResultDto.builder()
+                .added(newRows.size())
+                .updated(updated)
+                .removed(removed)
+                .notFoundCrossfitBoxIds(notFound)
+                .build();
     }
 
     private MemberCrossfitBoxDto toMemberCrossfitBoxDto(MemberCrossfitBox memberCrossfitBox) {
@@ -121,4 +240,34 @@ public class MemberCrossfitBoxService {
                 .isFavorite(memberCrossfitBox.getIsFavorite())
                 .build();
     }
+
+    /**
+     * 마지막으로 내려준 행의 (isFavorite, createdAt, id). 클라이언트에는 Base64 문자열로만 노출합니다.
+     */
+    private record MyCrossfitBoxCursor(boolean favorite, LocalDateTime createdAt, long id) {
+
+        private static MyCrossfitBoxCursor of(MemberCrossfitBoxView view) {
+            return new MyCrossfitBoxCursor(Boolean.TRUE.equals(view.isFavorite()), view.createdAt(), view.memberCrossfitBoxId());
+        }
+
+        private static MyCrossfitBoxCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                if (parts.length != 3 || !(parts[0].equals("1") || parts[0].equals("0"))) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                return new MyCrossfitBoxCursor(parts[0].equals("1"), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(((favorite ? "1" : "0") + "_" + createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.drop.domain.mypage.dto.NotificationSettingDto;
 import com.drop.domain.mypage.dto.PasswordChangeRequestDto;
 import com.drop.domain.mypage.dto.ProfileUpdateRequestDto;
 import com.drop.domain.mypage.service.MyPageService;
+import com.drop.domain.review.dto.MyReviewCursorResponseDto;
 import com.drop.domain.review.dto.MyReviewListResponseDto;
 import com.drop.domain.review.service.ReviewService;
 import com.drop.global.code.result.ResultCode;
@@ -63,6 +64,17 @@ public class MyPageController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_REVIEW_LIST_SUCCESS, reviews));
     }
 
+    @Operation(summary = "내 리뷰 목록 커서 조회", description = "로그인한 사용자가 작성한 리뷰를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/reviews/scroll")
+    public ResponseEntity<ResultResponse> getMyReviewsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 50)") @RequestParam(defaultValue = "10") int size
+    ) {
+        MyReviewCursorResponseDto reviews = reviewService.getMyReviewsByCursor(userDetails.getId(), cursor, size);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MY_REVIEW_LIST_SUCCESS, reviews));
+    }
+
     @Operation(summary = "비밀번호 변경", description = "비밀번호를 변경합니다.")
     @PatchMapping("/password")
     public ResponseEntity<ResultResponse> changePassword(
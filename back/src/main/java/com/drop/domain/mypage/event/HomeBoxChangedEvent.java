@@ -0,0 +1,7 @@
+package com.drop.domain.mypage.event;
+
+/**
+ * 회원의 홈박스(My Box)가 설정/해제되었을 때 발행되는 이벤트.
+ */
+public record HomeBoxChangedEvent(Long memberId) {
+}
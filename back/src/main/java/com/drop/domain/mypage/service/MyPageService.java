@@ -8,6 +8,7 @@ import com.drop.domain.mypage.dto.MyPageProfileDto;
 import com.drop.domain.mypage.dto.NotificationSettingDto;
 import com.drop.domain.mypage.dto.PasswordChangeRequestDto;
 import com.drop.domain.mypage.dto.ProfileUpdateRequestDto;
+import com.drop.domain.mypage.event.HomeBoxChangedEvent;
 import com.drop.global.code.error.ErrorCode;
 import com.drop.global.code.error.exception.BusinessException;
 import com.drop.global.enums.UserRole;
@@ -15,6 +16,7 @@ import com.drop.global.redis.RedisUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +37,7 @@ public class MyPageService {
     private final CrossfitBoxRepository crossfitBoxRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisUtils redisUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload.path:./image}")
     private String uploadPath;
@@ -156,6 +159,7 @@ public class MyPageService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.CROSSFIT_BOX_NOT_FOUND));
             member.updateHomeBox(crossfitBox);
         }
+        eventPublisher.publishEvent(new HomeBoxChangedEvent(memberId));
     }
 
     @Transactional(readOnly = true)
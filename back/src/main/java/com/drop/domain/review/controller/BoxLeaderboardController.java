@@ -0,0 +1,36 @@
+package com.drop.domain.review.controller;
+
+import com.drop.domain.review.dto.TopCrossfitBoxDto;
+import com.drop.domain.review.service.BoxLeaderboardService;
+import com.drop.global.code.result.ResultCode;
+import com.drop.global.code.result.ResultResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Review", description = "리뷰 API")
+@RestController
+@RequestMapping("/crossfit-boxes")
+@RequiredArgsConstructor
+public class BoxLeaderboardController {
+
+    private final BoxLeaderboardService boxLeaderboardService;
+
+    @Operation(summary = "평점 상위 크로스핏박스 조회", description = "베이지안 평균 평점과 최근 리뷰 수로 계산한 랭킹을 조회합니다. 지역을 생략하면 전국 랭킹입니다.")
+    @GetMapping("/top")
+    public ResponseEntity<ResultResponse> getTopCrossfitBoxes(
+            @Parameter(description = "시도 이름 (예: 서울, 경기, 부산광역시)") @RequestParam(required = false) String region,
+            @Parameter(description = "조회 개수 (최대 50)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<TopCrossfitBoxDto> result = boxLeaderboardService.getTopBoxes(region, limit);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.REVIEW_LEADERBOARD_SUCCESS, result));
+    }
+}
@@ -1,5 +1,6 @@
 package com.drop.domain.review.controller;
 
+import com.drop.domain.review.dto.ReviewCursorResponseDto;
 import com.drop.domain.review.dto.ReviewListResponseDto;
 import com.drop.domain.review.dto.ReviewRequestDto;
 import com.drop.domain.review.dto.ReviewResponseDto;
@@ -34,6 +35,17 @@ public class ReviewController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.REVIEW_LIST_SUCCESS, result));
     }
 
+    @Operation(summary = "리뷰 목록 커서 조회", description = "최신순으로 정렬된 리뷰를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ResultResponse> getReviewsByCursor(
+            @PathVariable Long crossfitBoxId,
+            @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 50)") @RequestParam(defaultValue = "10") int size
+    ) {
+        ReviewCursorResponseDto result = reviewService.getReviewsByCursor(crossfitBoxId, cursor, size);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.REVIEW_LIST_SUCCESS, result));
+    }
+
     @Operation(summary = "리뷰 작성")
     @PostMapping
     public ResponseEntity<ResultResponse> createReview(
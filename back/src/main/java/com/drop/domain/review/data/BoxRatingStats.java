@@ -0,0 +1,50 @@
+package com.drop.domain.review.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 크로스핏박스별 리뷰 수/평점 합계 비정규화 테이블.
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 원자적 UPDATE(증감)로 갱신되어 평균 평점을 O(1)로 읽을 수 있고,
+ * {@link com.drop.domain.review.service.BoxRatingStatsReconciler}가 주기적으로 REVIEW 테이블과 대조해 보정합니다.
+ */
+@Entity
+@Builder
+@Getter
+@Table(name = "BOX_RATING_STATS")
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoxRatingStats {
+
+    @Id
+    @Column(name = "CROSSFIT_BOX_ID")
+    private Long crossfitBoxId;
+
+    @Column(name = "REVIEW_COUNT", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "RATING_SUM", nullable = false)
+    private long ratingSum;
+
+    public static BoxRatingStats of(Long crossfitBoxId, long reviewCount, long ratingSum) {
+        return BoxRatingStats.builder()
+                .crossfitBoxId(crossfitBoxId)
+                .reviewCount(reviewCount)
+                .ratingSum(ratingSum)
+                .build();
+    }
+
+    /**
+     * 소수 첫째 자리까지 반올림한 평균 평점. 리뷰가 없으면 0.0
+     */
+    public double getAverageRating() {
+        return reviewCount > 0 ? Math.round((double) ratingSum / reviewCount * 10) / 10.0 : 0.0;
+    }
+}
@@ -16,7 +16,10 @@ import javax.persistence.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@Table(name = "REVIEW")
+@Table(name = "REVIEW", indexes = {
+        @Index(name = "IDX_REVIEW_BOX_CREATED", columnList = "CROSSFIT_BOX_ID, createdAt, REVIEW_ID"),
+        @Index(name = "IDX_REVIEW_MEMBER_CREATED", columnList = "MEMBER_ID, createdAt, REVIEW_ID")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Review extends BaseEntity {
 
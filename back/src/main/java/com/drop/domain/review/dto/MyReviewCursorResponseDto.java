@@ -0,0 +1,18 @@
+package com.drop.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyReviewCursorResponseDto {
+    private List<MyReviewResponseDto> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.drop.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCursorResponseDto {
+    private Double averageRating;
+    private Long reviewCount;
+    private List<ReviewResponseDto> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+}
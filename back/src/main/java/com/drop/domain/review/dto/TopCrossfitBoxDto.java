@@ -0,0 +1,20 @@
+package com.drop.domain.review.dto;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopCrossfitBoxDto {
+    private int rank;
+    private CrossfitBoxDto crossfitBox;
+    private Double averageRating;
+    private Long reviewCount;
+    private Long recentReviewCount;
+    private Double score;
+}
@@ -0,0 +1,10 @@
+package com.drop.domain.review.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰가 작성/수정/삭제되어 박스 평점 통계가 바뀌었을 때 발행되는 이벤트.
+ * countDelta는 리뷰 수 증감(작성 1, 삭제 -1, 수정 0), reviewCreatedAt은 해당 리뷰의 작성 시각입니다.
+ */
+public record ReviewChangedEvent(Long crossfitBoxId, int countDelta, LocalDateTime reviewCreatedAt) {
+}
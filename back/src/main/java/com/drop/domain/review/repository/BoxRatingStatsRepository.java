@@ -0,0 +1,61 @@
+package com.drop.domain.review.repository;
+
+import com.drop.domain.review.data.BoxRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoxRatingStatsRepository extends JpaRepository<BoxRatingStats, Long> {
+
+    /**
+     * 현재 값을 읽지 않고 DB에서 바로 증감하므로 동시에 리뷰가 작성되어도 갱신이 유실되지 않습니다.
+     *
+     * @return 갱신된 행 수 (통계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE BoxRatingStats s SET s.reviewCount = s.reviewCount + :countDelta, s.ratingSum = s.ratingSum + :ratingDelta " +
+           "WHERE s.crossfitBoxId = :crossfitBoxId")
+    int increment(@Param("crossfitBoxId") Long crossfitBoxId,
+                  @Param("countDelta") long countDelta,
+                  @Param("ratingDelta") long ratingDelta);
+
+    /**
+     * 통계 행이 없을 때 증감값으로 행을 만듭니다. 동시에 다른 트랜잭션이 먼저 만들었다면 키 충돌 대신 증감으로 처리됩니다.
+     * 통계 행이 생기기 전의 리뷰는 반영되지 않으므로 그 차이는 보정 작업이 맞춥니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO box_rating_stats (crossfit_box_id, review_count, rating_sum) " +
+                   "VALUES (:crossfitBoxId, GREATEST(:countDelta, 0), GREATEST(:ratingDelta, 0)) " +
+                   "ON DUPLICATE KEY UPDATE review_count = review_count + :countDelta, rating_sum = rating_sum + :ratingDelta",
+           nativeQuery = true)
+    int insertOrIncrement(@Param("crossfitBoxId") Long crossfitBoxId,
+                          @Param("countDelta") long countDelta,
+                          @Param("ratingDelta") long ratingDelta);
+
+    /**
+     * 보정 작업용 삽입. 그 사이 리뷰 작성으로 행이 생겼다면 아무것도 바꾸지 않습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO box_rating_stats (crossfit_box_id, review_count, rating_sum) " +
+                   "VALUES (:crossfitBoxId, :reviewCount, :ratingSum) " +
+                   "ON DUPLICATE KEY UPDATE crossfit_box_id = crossfit_box_id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("crossfitBoxId") Long crossfitBoxId,
+                       @Param("reviewCount") long reviewCount,
+                       @Param("ratingSum") long ratingSum);
+
+    /**
+     * 보정 작업용 조건부 갱신. 읽은 뒤 다른 트랜잭션이 증감했다면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수 (값이 바뀌었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE BoxRatingStats s SET s.reviewCount = :reviewCount, s.ratingSum = :ratingSum " +
+           "WHERE s.crossfitBoxId = :crossfitBoxId AND s.reviewCount = :seenReviewCount AND s.ratingSum = :seenRatingSum")
+    int updateIfUnchanged(@Param("crossfitBoxId") Long crossfitBoxId,
+                          @Param("seenReviewCount") long seenReviewCount,
+                          @Param("seenRatingSum") long seenRatingSum,
+                          @Param("reviewCount") long reviewCount,
+                          @Param("ratingSum") long ratingSum);
+}
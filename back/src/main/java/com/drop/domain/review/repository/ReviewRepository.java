@@ -3,22 +3,70 @@ package com.drop.domain.review.repository;
 import com.drop.domain.review.data.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
 
-    @Query(value = "SELECT r FROM Review r JOIN FETCH r.member WHERE r.crossfitBox.id = :crossfitBoxId ORDER BY r.createdAt DESC",
-           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.crossfitBox.id = :crossfitBoxId")
-    Page<Review> findByCrossfitBoxIdWithMember(@Param("crossfitBoxId") Long crossfitBoxId, Pageable pageable);
+public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.crossfitBox.id = :crossfitBoxId")
-    Double findAverageRatingByCrossfitBoxId(@Param("crossfitBoxId") Long crossfitBoxId);
+    /**
+     * 전체 개수는 BOX_RATING_STATS에서 읽으므로 count 쿼리 없이 한 페이지만 조회합니다.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.crossfitBox.id = :crossfitBoxId ORDER BY r.createdAt DESC")
+    Slice<Review> findSliceByCrossfitBoxIdWithMember(@Param("crossfitBoxId") Long crossfitBoxId, Pageable pageable);
 
     long countByCrossfitBoxId(Long crossfitBoxId);
 
+    @Query("SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.crossfitBox.id = :crossfitBoxId")
+    long sumRatingByCrossfitBoxId(@Param("crossfitBoxId") Long crossfitBoxId);
+
+    /**
+     * 박스별 [crossfitBoxId, 리뷰 수, 평점 합계]. 통계 보정 작업에서 사용합니다.
+     */
+    @Query("SELECT r.crossfitBox.id, COUNT(r), SUM(r.rating) FROM Review r GROUP BY r.crossfitBox.id")
+    List<Object[]> aggregateRatingsByCrossfitBox();
+
+    /**
+     * 박스별 [crossfitBoxId, since 이후 작성된 리뷰 수]. 랭킹의 인기 상승 지표 재계산에 사용합니다.
+     */
+    @Query("SELECT r.crossfitBox.id, COUNT(r) FROM Review r WHERE r.createdAt >= :since GROUP BY r.crossfitBox.id")
+    List<Object[]> countRecentReviewsByCrossfitBox(@Param("since") LocalDateTime since);
+
     @Query(value = "SELECT r FROM Review r JOIN FETCH r.crossfitBox WHERE r.member.id = :memberId ORDER BY r.createdAt DESC",
            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.member.id = :memberId")
     Page<Review> findByMemberIdWithCrossfitBox(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * (createdAt, id) 내림차순 키셋 페이지의 첫 페이지. 개수는 {@link Pageable}의 크기로 제한하며 count 쿼리는 실행하지 않습니다.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.crossfitBox.id = :crossfitBoxId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFirstByCrossfitBoxIdWithMember(@Param("crossfitBoxId") Long crossfitBoxId, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 다음부터 이어지는 페이지. (CROSSFIT_BOX_ID, createdAt, REVIEW_ID) 인덱스 범위 스캔으로 처리됩니다.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.member WHERE r.crossfitBox.id = :crossfitBoxId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findByCrossfitBoxIdWithMemberAfter(@Param("crossfitBoxId") Long crossfitBoxId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.crossfitBox WHERE r.member.id = :memberId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFirstByMemberIdWithCrossfitBox(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.crossfitBox WHERE r.member.id = :memberId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findByMemberIdWithCrossfitBoxAfter(@Param("memberId") Long memberId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
 }
@@ -0,0 +1,391 @@
+package com.drop.domain.review.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import com.drop.domain.review.data.BoxRatingStats;
+import com.drop.domain.review.dto.TopCrossfitBoxDto;
+import com.drop.domain.review.event.ReviewChangedEvent;
+import com.drop.domain.review.repository.BoxRatingStatsRepository;
+import com.drop.domain.review.repository.ReviewRepository;
+import com.drop.global.redis.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Map.entry;
+
+/**
+ * 평점 상위 크로스핏박스 랭킹.
+ * 전국/시도별 랭킹을 Redis Sorted Set에 보관하고, 점수는 베이지안 평균 평점(리뷰가 적은 박스는 전체 평균 쪽으로 보정)에
+ * 최근 {@link #TRENDING_WINDOW} 동안의 리뷰 수로 계산한 인기 상승 가산점을 더한 값입니다.
+ * 리뷰가 바뀌면 커밋 이후 해당 박스의 점수만 BOX_RATING_STATS에서 다시 계산해 한 스크립트로 반영하고,
+ * 매일 새벽(기동 시에는 랭킹이 아직 없을 때만)에는 한 파드에서 전체를 다시 만들어 기간이 지난 최근 리뷰 수와 전체 평균을 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxLeaderboardService {
+
+    private static final String KEY_PREFIX = "leaderboard:crossfit-boxes:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "all";
+    private static final String REGION_KEY_PREFIX = KEY_PREFIX + "region:";
+    private static final String REGION_HASH = KEY_PREFIX + "regions";
+    private static final String RECENT_HASH = KEY_PREFIX + "recent";
+    private static final String PRIOR_MEAN_KEY = KEY_PREFIX + "prior-mean";
+    /**
+     * 마지막 재구성 시작 이후 바뀐 박스 → 그동안 더해진 최근 리뷰 수. 재구성 결과를 덮어쓴 뒤 다시 반영하는 데 씁니다.
+     */
+    private static final String CHANGED_HASH = KEY_PREFIX + "changed";
+
+    /**
+     * 이전 지역 확인, 지역 이동, 점수 반영을 원자적으로 수행해 동시에 갱신되어도 이전 지역 랭킹에 박스가 남지 않게 합니다.
+     * KEYS[1]: 전국 랭킹, KEYS[2]: 박스 → 지역 해시, ARGV: 박스 id, 지역 랭킹 키 접두사, 점수(비면 제거), 지역(없으면 빈 문자열)
+     */
+    private static final RedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('hget', KEYS[2], ARGV[1]) "
+                    + "if previous and previous ~= ARGV[4] then redis.call('zrem', ARGV[2] .. previous, ARGV[1]) end "
+                    + "if ARGV[3] == '' then "
+                    + "redis.call('zrem', KEYS[1], ARGV[1]) redis.call('hdel', KEYS[2], ARGV[1]) return 0 "
+                    + "end "
+                    + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]) "
+                    + "if ARGV[4] == '' then redis.call('hdel', KEYS[2], ARGV[1]) "
+                    + "else redis.call('zadd', ARGV[2] .. ARGV[4], ARGV[3], ARGV[1]) redis.call('hset', KEYS[2], ARGV[1], ARGV[4]) end "
+                    + "return 1",
+            Long.class);
+
+    private static final String REBUILD_LOCK = KEY_PREFIX + "rebuild";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final int MAX_LIMIT = 50;
+    private static final double DEFAULT_PRIOR_MEAN = 3.5;
+    private static final double PRIOR_WEIGHT = 5;
+    private static final double TRENDING_WEIGHT = 0.5;
+    private static final double TRENDING_HALF_COUNT = 5;
+    private static final Duration TRENDING_WINDOW = Duration.ofDays(30);
+
+    /**
+     * 주소 첫 단어(시도) → 랭킹 지역 이름
+     */
+    private static final Map<String, String> PROVINCES = Map.ofEntries(
+            entry("서울특별시", "서울"), entry("부산광역시", "부산"), entry("대구광역시", "대구"),
+            entry("인천광역시", "인천"), entry("광주광역시", "광주"), entry("대전광역시", "대전"),
+            entry("울산광역시", "울산"), entry("세종특별자치시", "세종"), entry("경기도", "경기"),
+            entry("강원도", "강원"), entry("강원특별자치도", "강원"), entry("충청북도", "충북"),
+            entry("충청남도", "충남"), entry("전라북도", "전북"), entry("전북특별자치도", "전북"),
+            entry("전라남도", "전남"), entry("경상북도", "경북"), entry("경상남도", "경남"),
+            entry("제주특별자치도", "제주"));
+    private static final Set<String> REGIONS = Set.copyOf(PROVINCES.values());
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BoxRatingStatsRepository boxRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final CrossfitBoxRepository crossfitBoxRepository;
+    private final RedisLock redisLock;
+
+    /**
+     * 락 TTL이 지나 재구성이 겹치더라도 임시 키가 겹치지 않도록 파드마다 다른 접미사를 씁니다.
+     */
+    private final String rebuildSuffix = ":rebuild:" + UUID.randomUUID();
+
+    public List<TopCrossfitBoxDto> getTopBoxes(String region, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        String key = GLOBAL_KEY;
+        if (region != null && !region.isBlank()) {
+            String normalized = normalizeRegion(region);
+            if (normalized == null) {
+                throw new IllegalArgumentException("지원하지 않는 지역입니다.");
+            }
+            key = REGION_KEY_PREFIX + normalized;
+        }
+
+        Set<TypedTuple<Object>> ranked = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> members = new ArrayList<>(ranked.size());
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (TypedTuple<Object> tuple : ranked) {
+            members.add(tuple.getValue());
+            ids.add(Long.valueOf(String.valueOf(tuple.getValue())));
+        }
+        Map<Long, CrossfitBoxDto> boxes = crossfitBoxRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(CrossfitBoxView::id, CrossfitBoxView::toDto));
+        Map<Long, BoxRatingStats> stats = boxRatingStatsRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BoxRatingStats::getCrossfitBoxId, Function.identity()));
+        List<Object> recent = redisTemplate.opsForHash().multiGet(RECENT_HASH, members);
+
+        List<TopCrossfitBoxDto> result = new ArrayList<>(ranked.size());
+        int index = 0;
+        for (TypedTuple<Object> tuple : ranked) {
+            Long id = ids.get(index);
+            Object recentCount = recent != null ? recent.get(index) : null;
+            index++;
+            CrossfitBoxDto box = boxes.get(id);
+            BoxRatingStats boxStats = stats.get(id);
+            if (box == null || boxStats == null) {
+                // 삭제 직후 등 재구성 전까지 남아 있는 항목
+                continue;
+            }
+            result.add(TopCrossfitBoxDto.builder()
+                    .rank(result.size() + 1)
+                    .crossfitBox(box)
+                    .averageRating(boxStats.getAverageRating())
+                    .reviewCount(boxStats.getReviewCount())
+                    .recentReviewCount(toCount(recentCount))
+                    .score(tuple.getScore())
+                    .build());
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            long recentDelta = event.countDelta() != 0 && isRecent(event.reviewCreatedAt()) ? event.countDelta() : 0;
+            if (recentDelta != 0) {
+                redisTemplate.opsForHash().increment(RECENT_HASH, String.valueOf(event.crossfitBoxId()), recentDelta);
+            }
+            markChanged(event.crossfitBoxId(), recentDelta);
+            refresh(event.crossfitBoxId());
+        } catch (Exception e) {
+            log.warn("크로스핏박스 랭킹 갱신 실패 - crossfitBoxId: {}", event.crossfitBoxId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCrossfitBoxChanged(CrossfitBoxChangedEvent event) {
+        if (event.remote()) {
+            // 랭킹은 Redis에 공유되므로 변경이 발생한 파드에서 한 번만 반영
+            return;
+        }
+        try {
+            markChanged(event.crossfitBoxId(), 0);
+            refresh(event.crossfitBoxId());
+        } catch (Exception e) {
+            log.warn("크로스핏박스 랭킹 갱신 실패 - crossfitBoxId: {}", event.crossfitBoxId(), e);
+        }
+    }
+
+    /**
+     * 재구성이 읽은 스냅샷 이후의 변경을 놓치지 않도록 바뀐 박스와 최근 리뷰 수 증감을 기록합니다.
+     * 증감이 0이어도 필드가 생기므로 박스 정보만 바뀐 경우도 기록됩니다.
+     */
+    private void markChanged(Long crossfitBoxId, long recentDelta) {
+        redisTemplate.opsForHash().increment(CHANGED_HASH, String.valueOf(crossfitBoxId), recentDelta);
+    }
+
+    /**
+     * 한 박스의 점수와 지역을 다시 계산해 반영합니다. 리뷰가 없거나 삭제된 박스는 랭킹에서 제거합니다.
+     */
+    private void refresh(Long crossfitBoxId) {
+        String member = String.valueOf(crossfitBoxId);
+        Optional<BoxRatingStats> stats = boxRatingStatsRepository.findById(crossfitBoxId)
+                .filter(s -> s.getReviewCount() > 0);
+        Optional<CrossfitBoxView> view = stats.flatMap(s -> crossfitBoxRepository.findViewById(crossfitBoxId));
+
+        String score = "";
+        String region = "";
+        if (view.isPresent()) {
+            score = String.valueOf(score(stats.get(), toCount(redisTemplate.opsForHash().get(RECENT_HASH, member)), priorMean()));
+            region = Objects.requireNonNullElse(regionOf(view.get()), "");
+        }
+        redisTemplate.execute(REFRESH_SCRIPT, List.of(GLOBAL_KEY, REGION_HASH), member, REGION_KEY_PREFIX, score, region);
+    }
+
+    /**
+     * 다른 파드가 이미 만든 랭킹이 있으면 기동 시에는 다시 만들지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(PRIOR_MEAN_KEY))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("크로스핏박스 랭킹 확인 실패", e);
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * BOX_RATING_STATS와 최근 리뷰 수로 모든 랭킹을 다시 만듭니다. Redis 락을 잡은 한 파드에서만 실행합니다.
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 재구성 중에도 이전 랭킹이 그대로 조회되고,
+     * 교체 후에는 재구성 중 바뀐 박스를 다시 반영해 그 사이의 갱신이 덮어써지지 않게 합니다.
+     */
+    @Scheduled(cron = "0 50 4 * * ?", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        try {
+            redisLock.runExclusively(REBUILD_LOCK, REBUILD_LOCK_TTL, this::rebuildAll);
+        } catch (Exception e) {
+            log.error("크로스핏박스 랭킹 재구성 실패", e);
+        }
+    }
+
+    private void rebuildAll() {
+        // 스냅샷을 읽기 전에 비워야 이후 커밋된 변경이 모두 기록됨
+        redisTemplate.delete(CHANGED_HASH);
+        List<BoxRatingStats> allStats = boxRatingStatsRepository.findAll();
+        long totalCount = 0;
+        long totalSum = 0;
+        List<Long> ids = new ArrayList<>();
+        for (BoxRatingStats stats : allStats) {
+            totalCount += stats.getReviewCount();
+            totalSum += stats.getRatingSum();
+            if (stats.getReviewCount() > 0) {
+                ids.add(stats.getCrossfitBoxId());
+            }
+        }
+        double mean = totalCount > 0 ? (double) totalSum / totalCount : DEFAULT_PRIOR_MEAN;
+
+        Map<Long, Long> recentCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countRecentReviewsByCrossfitBox(LocalDateTime.now().minus(TRENDING_WINDOW))) {
+            recentCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        Map<Long, CrossfitBoxView> views = ids.isEmpty() ? Map.of() : crossfitBoxRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(CrossfitBoxView::id, Function.identity()));
+
+        Set<TypedTuple<Object>> global = new HashSet<>();
+        Map<String, Set<TypedTuple<Object>>> byRegion = new HashMap<>();
+        Map<String, String> regionOfBox = new HashMap<>();
+        for (BoxRatingStats stats : allStats) {
+            CrossfitBoxView view = views.get(stats.getCrossfitBoxId());
+            if (view == null || stats.getReviewCount() == 0) {
+                continue;
+            }
+            String member = String.valueOf(stats.getCrossfitBoxId());
+            TypedTuple<Object> tuple = new DefaultTypedTuple<>(member,
+                    score(stats, recentCounts.getOrDefault(stats.getCrossfitBoxId(), 0L), mean));
+            global.add(tuple);
+            String region = regionOf(view);
+            if (region != null) {
+                byRegion.computeIfAbsent(region, r -> new HashSet<>()).add(tuple);
+                regionOfBox.put(member, region);
+            }
+        }
+
+        replaceRanking(GLOBAL_KEY, global);
+        for (String region : REGIONS) {
+            replaceRanking(REGION_KEY_PREFIX + region, byRegion.getOrDefault(region, Set.of()));
+        }
+        replaceHash(REGION_HASH, regionOfBox);
+        Map<String, String> recent = new HashMap<>();
+        recentCounts.forEach((id, count) -> recent.put(String.valueOf(id), String.valueOf(count)));
+        replaceHash(RECENT_HASH, recent);
+        redisTemplate.opsForValue().set(PRIOR_MEAN_KEY, String.valueOf(mean));
+        int replayed = replayChanges();
+
+        log.info("크로스핏박스 랭킹 재구성 완료 - {}개, 전체 평균 {}, 재구성 중 변경 {}개",
+                global.size(), String.format("%.2f", mean), replayed);
+    }
+
+    /**
+     * 재구성 시작 이후 바뀐 박스의 최근 리뷰 수 증감을 새 해시에 더하고 점수를 다시 계산합니다.
+     * 기록 해시를 먼저 임시 키로 옮기므로 반영 중에 들어온 변경은 다음 재구성을 위해 새로 기록됩니다.
+     */
+    private int replayChanges() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(CHANGED_HASH))) {
+            return 0;
+        }
+        String replayKey = CHANGED_HASH + rebuildSuffix;
+        redisTemplate.rename(CHANGED_HASH, replayKey);
+        Map<Object, Object> changes = redisTemplate.opsForHash().entries(replayKey);
+        redisTemplate.delete(replayKey);
+        for (Map.Entry<Object, Object> change : changes.entrySet()) {
+            String member = String.valueOf(change.getKey());
+            long recentDelta = Long.parseLong(String.valueOf(change.getValue()));
+            if (recentDelta != 0) {
+                redisTemplate.opsForHash().increment(RECENT_HASH, member, recentDelta);
+            }
+            refresh(Long.valueOf(member));
+        }
+        return changes.size();
+    }
+
+    private void replaceRanking(String key, Set<TypedTuple<Object>> tuples) {
+        if (tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String rebuildKey = key + rebuildSuffix;
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    private void replaceHash(String key, Map<String, String> entries) {
+        if (entries.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String rebuildKey = key + rebuildSuffix;
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForHash().putAll(rebuildKey, entries);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    /**
+     * 베이지안 평균 (PRIOR_WEIGHT개의 전체 평균 평점을 미리 더한 평균) + 최근 리뷰 수에 따라 0 ~ TRENDING_WEIGHT로 포화되는 가산점
+     */
+    private static double score(BoxRatingStats stats, long recentCount, double priorMean) {
+        double bayesian = (PRIOR_WEIGHT * priorMean + stats.getRatingSum()) / (PRIOR_WEIGHT + stats.getReviewCount());
+        long recent = Math.max(recentCount, 0);
+        return bayesian + TRENDING_WEIGHT * recent / (recent + TRENDING_HALF_COUNT);
+    }
+
+    /**
+     * 마지막 재구성에서 계산한 전체 리뷰의 평균 평점. 모든 파드가 같은 값으로 점수를 계산하도록 Redis에 둡니다.
+     */
+    private double priorMean() {
+        Object value = redisTemplate.opsForValue().get(PRIOR_MEAN_KEY);
+        return value != null ? Double.parseDouble(String.valueOf(value)) : DEFAULT_PRIOR_MEAN;
+    }
+
+    private static boolean isRecent(LocalDateTime createdAt) {
+        return createdAt != null && createdAt.isAfter(LocalDateTime.now().minus(TRENDING_WINDOW));
+    }
+
+    private static long toCount(Object value) {
+        return value != null ? Math.max(Long.parseLong(String.valueOf(value)), 0) : 0;
+    }
+
+    private static String regionOf(CrossfitBoxView view) {
+        String address = view.addressLine1() != null ? view.addressLine1() : view.jibunAddress();
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        return normalizeRegion(address.trim().split("\\s+", 2)[0]);
+    }
+
+    /**
+     * "서울특별시", "서울" 모두 "서울"로 변환합니다. 알 수 없는 이름이면 null
+     */
+    private static String normalizeRegion(String name) {
+        String trimmed = name.trim();
+        if (REGIONS.contains(trimmed)) {
+            return trimmed;
+        }
+        return PROVINCES.get(trimmed);
+    }
+}
@@ -0,0 +1,93 @@
+package com.drop.domain.review.service;
+
+import com.drop.domain.review.data.BoxRatingStats;
+import com.drop.domain.review.repository.BoxRatingStatsRepository;
+import com.drop.domain.review.repository.ReviewRepository;
+import com.drop.global.redis.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BOX_RATING_STATS를 REVIEW 테이블 집계와 대조해 어긋난 행을 바로잡습니다.
+ * 기동 시 한 번 실행해 통계 행이 없던 기존 리뷰를 채우고, 이후 매일 새벽에 다시 실행합니다.
+ * 통계와 집계를 한 트랜잭션(같은 스냅샷)에서 읽고, 읽은 값이 그대로일 때만 덮어써 그 사이 리뷰 작성으로 생긴 증감을 잃지 않습니다.
+ * 여러 파드가 같은 시각에 실행하지 않도록 Redis 락을 잡은 파드에서만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxRatingStatsReconciler implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "box-rating-stats:reconcile";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final ReviewRepository reviewRepository;
+    private final BoxRatingStatsRepository boxRatingStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock redisLock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    @Scheduled(cron = "0 40 4 * * ?", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            redisLock.runExclusively(LOCK_NAME, LOCK_TTL, () -> {
+                Integer fixed = transactionTemplate.execute(status -> reconcileAll());
+                if (fixed != null && fixed > 0) {
+                    log.info("평점 통계 보정 완료 - {}건", fixed);
+                }
+            });
+        } catch (Exception e) {
+            log.error("평점 통계 보정 실패", e);
+        }
+    }
+
+    private int reconcileAll() {
+        Map<Long, BoxRatingStats> stored = new HashMap<>();
+        for (BoxRatingStats stats : boxRatingStatsRepository.findAll()) {
+            stored.put(stats.getCrossfitBoxId(), stats);
+        }
+
+        int fixed = 0;
+        for (Object[] row : reviewRepository.aggregateRatingsByCrossfitBox()) {
+            BoxRatingStats actual = BoxRatingStats.of((Long) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+            BoxRatingStats current = stored.remove(actual.getCrossfitBoxId());
+            if (current == null) {
+                // 그 사이 리뷰 작성으로 행이 생겼다면 건드리지 않고 다음 보정에 맡김
+                fixed += boxRatingStatsRepository.insertIfAbsent(actual.getCrossfitBoxId(),
+                        actual.getReviewCount(), actual.getRatingSum()) > 0 ? 1 : 0;
+            } else if (!matches(current, actual)) {
+                fixed += correct(current, actual.getReviewCount(), actual.getRatingSum());
+            }
+        }
+
+        // 남은 행은 리뷰가 모두 삭제된 박스
+        for (BoxRatingStats current : stored.values()) {
+            if (current.getReviewCount() != 0 || current.getRatingSum() != 0) {
+                fixed += correct(current, 0, 0);
+            }
+        }
+        return fixed;
+    }
+
+    private int correct(BoxRatingStats seen, long reviewCount, long ratingSum) {
+        return boxRatingStatsRepository.updateIfUnchanged(seen.getCrossfitBoxId(),
+                seen.getReviewCount(), seen.getRatingSum(), reviewCount, ratingSum);
+    }
+
+    private static boolean matches(BoxRatingStats current, BoxRatingStats actual) {
+        return current.getReviewCount() == actual.getReviewCount() && current.getRatingSum() == actual.getRatingSum();
+    }
+}
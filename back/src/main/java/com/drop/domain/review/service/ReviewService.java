@@ -4,21 +4,34 @@ import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.member.data.Member;
 import com.drop.domain.member.repository.MemberRepository;
+import com.drop.domain.review.data.BoxRatingStats;
 import com.drop.domain.review.data.Review;
+import com.drop.domain.review.dto.MyReviewCursorResponseDto;
 import com.drop.domain.review.dto.MyReviewListResponseDto;
 import com.drop.domain.review.dto.MyReviewResponseDto;
+import com.drop.domain.review.dto.ReviewCursorResponseDto;
 import com.drop.domain.review.dto.ReviewListResponseDto;
 import com.drop.domain.review.dto.ReviewRequestDto;
 import com.drop.domain.review.dto.ReviewResponseDto;
+import com.drop.domain.review.event.ReviewChangedEvent;
+import com.drop.domain.review.repository.BoxRatingStatsRepository;
 import com.drop.domain.review.repository.ReviewRepository;
+import com.drop.global.code.error.ErrorCode;
+import com.drop.global.code.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,6 +42,10 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final CrossfitBoxRepository crossfitBoxRepository;
+    private final BoxRatingStatsRepository boxRatingStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
     @Transactional(readOnly = true)
     public MyReviewListResponseDto getMyReviews(Long memberId, int page, int size) {
@@ -48,24 +65,82 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public ReviewListResponseDto getReviewsByCrossfitBoxId(Long crossfitBoxId, int page, int size) {
-        Page<Review> reviewPage = reviewRepository.findByCrossfitBoxIdWithMember(crossfitBoxId, PageRequest.of(page, size));
-        Double averageRating = reviewRepository.findAverageRatingByCrossfitBoxId(crossfitBoxId);
-        long reviewCount = reviewRepository.countByCrossfitBoxId(crossfitBoxId);
+        Slice<Review> reviewSlice = reviewRepository.findSliceByCrossfitBoxIdWithMember(crossfitBoxId, PageRequest.of(page, size));
+        BoxRatingStats stats = getRatingStats(crossfitBoxId);
 
-        List<ReviewResponseDto> reviewDtos = reviewPage.getContent().stream()
+        List<ReviewResponseDto> reviewDtos = reviewSlice.getContent().stream()
                 .map(this::toResponseDto)
                 .collect(Collectors.toList());
 
         return ReviewListResponseDto.builder()
-                .averageRating(averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0)
-                .reviewCount(reviewCount)
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
                 .reviews(reviewDtos)
-                .currentPage(reviewPage.getNumber())
-                .totalPages(reviewPage.getTotalPages())
-                .hasNext(reviewPage.hasNext())
+                .currentPage(reviewSlice.getNumber())
+                .totalPages((int) ((stats.getReviewCount() + size - 1) / size))
+                .hasNext(reviewSlice.hasNext())
+                .build();
+    }
+
+    /**
+     * 무한 스크롤용 키셋 페이지. 전체 개수를 세지 않고 size + 1건을 읽어 다음 페이지 여부를 판단하므로
+     * 몇 번째 페이지든 같은 비용으로 조회됩니다.
+     */
+    @Transactional(readOnly = true)
+    public ReviewCursorResponseDto getReviewsByCursor(Long crossfitBoxId, String cursor, int size) {
+        validateCursorPageSize(size);
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Review> reviews = after == null
+                ? reviewRepository.findFirstByCrossfitBoxIdWithMember(crossfitBoxId, limit)
+                : reviewRepository.findByCrossfitBoxIdWithMemberAfter(crossfitBoxId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = reviews.size() > size;
+        List<Review> page = hasNext ? reviews.subList(0, size) : reviews;
+        BoxRatingStats stats = getRatingStats(crossfitBoxId);
+
+        return ReviewCursorResponseDto.builder()
+                .averageRating(stats.getAverageRating())
+                .reviewCount(stats.getReviewCount())
+                .reviews(page.stream().map(this::toResponseDto).collect(Collectors.toList()))
+                .nextCursor(hasNext ? ReviewCursor.of(page.get(size - 1)).encode() : null)
+                .hasNext(hasNext)
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public MyReviewCursorResponseDto getMyReviewsByCursor(Long memberId, String cursor, int size) {
+        validateCursorPageSize(size);
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Review> reviews = after == null
+                ? reviewRepository.findFirstByMemberIdWithCrossfitBox(memberId, limit)
+                : reviewRepository.findByMemberIdWithCrossfitBoxAfter(memberId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = reviews.size() > size;
+        List<Review> page = hasNext ? reviews.subList(0, size) : reviews;
+
+        return MyReviewCursorResponseDto.builder()
+                .reviews(page.stream().map(this::toMyReviewResponseDto).collect(Collectors.toList()))
+                .nextCursor(hasNext ? ReviewCursor.of(page.get(size - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 비정규화된 평점 통계. 통계 행이 아직 없는 박스는 REVIEW 테이블을 집계합니다.
+     */
+    @Transactional(readOnly = true)
+    public BoxRatingStats getRatingStats(Long crossfitBoxId) {
+        Optional<BoxRatingStats> stats = boxRatingStatsRepository.findById(crossfitBoxId);
+        if (stats.isPresent()) {
+            return stats.get();
+        }
+        return BoxRatingStats.of(crossfitBoxId,
+                reviewRepository.countByCrossfitBoxId(crossfitBoxId),
+                reviewRepository.sumRatingByCrossfitBoxId(crossfitBoxId));
+    }
+
     @Transactional
     public ReviewResponseDto createReview(Long memberId, Long crossfitBoxId, ReviewRequestDto request) {
         if (request.getRating() == null || request.getRating() < 1 || request.getRating() > 5) {
@@ -79,6 +154,8 @@ public class ReviewService {
 
         Review review = Review.create(member, crossfitBox, request.getRating(), request.getContent());
         Review saved = reviewRepository.save(review);
+        applyRatingDelta(crossfitBoxId, 1, saved.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(crossfitBoxId, 1, saved.getCreatedAt()));
 
         return toResponseDto(saved);
     }
@@ -96,7 +173,12 @@ public class ReviewService {
             throw new IllegalArgumentException("본인의 리뷰만 수정할 수 있습니다.");
         }
 
+        int previousRating = review.getRating();
         review.update(request.getRating(), request.getContent());
+        if (previousRating != review.getRating()) {
+            applyRatingDelta(review.getCrossfitBox().getId(), 0, review.getRating() - previousRating);
+            eventPublisher.publishEvent(new ReviewChangedEvent(review.getCrossfitBox().getId(), 0, review.getCreatedAt()));
+        }
         return toResponseDto(review);
     }
 
@@ -110,6 +192,24 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        applyRatingDelta(review.getCrossfitBox().getId(), -1, -review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getCrossfitBox().getId(), -1, review.getCreatedAt()));
+    }
+
+    /**
+     * 리뷰 변경과 같은 트랜잭션에서 통계를 원자적으로 증감합니다.
+     * 통계 행이 없을 때(첫 리뷰 등)만 증감값으로 행을 만들고, 기존 리뷰와의 차이는 {@link BoxRatingStatsReconciler}가 보정합니다.
+     */
+    private void applyRatingDelta(Long crossfitBoxId, long countDelta, long ratingDelta) {
+        if (boxRatingStatsRepository.increment(crossfitBoxId, countDelta, ratingDelta) == 0) {
+            boxRatingStatsRepository.insertOrIncrement(crossfitBoxId, countDelta, ratingDelta);
+        }
+    }
+
+    private static void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
     }
 
     private MyReviewResponseDto toMyReviewResponseDto(Review review) {
@@ -137,4 +237,33 @@ public class ReviewService {
                 .updatedAt(review.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 마지막으로 내려준 리뷰의 (createdAt, id). 클라이언트에는 Base64 문자열로만 노출합니다.
+     */
+    private record ReviewCursor(LocalDateTime createdAt, long id) {
+
+        private static ReviewCursor of(Review review) {
+            return new ReviewCursor(review.getCreatedAt(), review.getId());
+        }
+
+        private static ReviewCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                return new ReviewCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
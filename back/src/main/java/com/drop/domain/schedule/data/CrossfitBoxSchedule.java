@@ -68,4 +68,8 @@ public class CrossfitBoxSchedule extends BaseEntity {
         this.timeSlots.add(timeSlot);
         timeSlot.setSchedule(this);
     }
+
+    public void removeTimeSlot(CrossfitBoxTimeSlot timeSlot) {
+        this.timeSlots.remove(timeSlot);
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
 import java.time.LocalTime;
+import java.util.Objects;
 
 @Entity
 @Builder
@@ -19,9 +20,17 @@ import java.time.LocalTime;
 @EntityListeners(AuditingEntityListener.class)
 public class CrossfitBoxTimeSlot extends BaseEntity {
 
+    public static final String ID_SEQUENCE = "CROSSFIT_BOX_TIME_SLOT_SEQ";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 미리 할당받는 pooled 시퀀스를 사용합니다.
+     * 시퀀스가 없는 MySQL에서는 Hibernate가 같은 이름의 테이블로 흉내 냅니다.
+     */
     @Id
     @Column(name = "TIME_SLOT_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeSlotIdGenerator")
+    @SequenceGenerator(name = "timeSlotIdGenerator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +67,15 @@ public class CrossfitBoxTimeSlot extends BaseEntity {
         this.schedule = schedule;
     }
 
+    /**
+     * 같은 수업으로 볼 수 있는지(시작/종료 시간, 수업명이 같은지). id 없이 들어온 슬롯을 기존 슬롯과 맞출 때 사용합니다.
+     */
+    public boolean isSameClass(LocalTime startTime, LocalTime endTime, String className) {
+        return this.startTime.equals(startTime)
+                && Objects.equals(this.endTime, endTime)
+                && this.className.equals(className);
+    }
+
     public void update(LocalTime startTime, LocalTime endTime, String className, String color, Integer displayOrder) {
         this.startTime = startTime;
         this.endTime = endTime;
@@ -0,0 +1,18 @@
+package com.drop.domain.schedule.dto;
+
+import com.drop.global.enums.DayOfWeek;
+
+import java.time.LocalTime;
+
+/**
+ * 시간표 색인용 시간 슬롯 projection.
+ * 휴무가 아닌 요일의 슬롯만 JPQL 생성자 표현식으로 읽어오며, 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않습니다.
+ */
+public record TimeSlotView(
+        Long crossfitBoxId,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String className
+) {
+}
@@ -0,0 +1,27 @@
+package com.drop.domain.schedule.dto;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "곧 수업이 있는 크로스핏박스 DTO")
+public class UpcomingClassDto {
+
+    @Schema(description = "크로스핏박스 정보")
+    private CrossfitBoxDto crossfitBox;
+
+    @Schema(description = "기준 좌표로부터의 대원 거리(km)", example = "1.23")
+    private Double distanceKm;
+
+    @Schema(description = "시작 순서대로 정렬된 곧 시작하는 수업 목록")
+    @Builder.Default
+    private List<UpcomingSlotDto> classes = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.drop.domain.schedule.dto;
+
+import com.drop.global.enums.DayOfWeek;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "곧 시작하는 수업 DTO")
+public class UpcomingSlotDto {
+
+    @Schema(description = "요일", example = "MONDAY")
+    private DayOfWeek dayOfWeek;
+
+    @Schema(description = "시작 시간", example = "19:00")
+    private String startTime;
+
+    @Schema(description = "종료 시간", example = "20:00")
+    private String endTime;
+
+    @Schema(description = "수업명", example = "스트렝스 + WOD")
+    private String className;
+
+    @Schema(description = "수업 시작까지 남은 시간(분)", example = "25")
+    private Integer minutesUntil;
+}
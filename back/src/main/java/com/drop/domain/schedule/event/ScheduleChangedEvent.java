@@ -0,0 +1,20 @@
+package com.drop.domain.schedule.event;
+
+import com.drop.global.redis.RelayableEvent;
+
+/**
+ * 크로스핏박스의 시간표가 생성/수정되었을 때 발행되는 이벤트.
+ * 시간표 응답 캐시와 시간 슬롯 색인은 트랜잭션 커밋 이후 이 이벤트를 받아 갱신합니다.
+ * remote가 true이면 다른 파드에서 발생한 변경을 {@link com.drop.global.redis.RedisEventRelay}가 전달한 것입니다.
+ */
+public record ScheduleChangedEvent(Long crossfitBoxId, boolean remote) implements RelayableEvent {
+
+    public ScheduleChangedEvent(Long crossfitBoxId) {
+        this(crossfitBoxId, false);
+    }
+
+    @Override
+    public Long relayId() {
+        return crossfitBoxId;
+    }
+}
@@ -0,0 +1,195 @@
+package com.drop.domain.schedule.index;
+
+import com.drop.domain.schedule.dto.TimeSlotView;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.domain.schedule.repository.CrossfitBoxScheduleRepository;
+import com.drop.global.enums.DayOfWeek;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 박스별 수업 시작 시각의 인메모리 색인.
+ * 휴무가 아닌 요일의 슬롯을 "주 단위 분(월요일 00:00 = 0)"으로 바꿔 박스마다 정렬된 int 배열로 보관하므로,
+ * "지금부터 N분 안에 시작하는 수업"은 이진 탐색 한 번과 연속 구간 순회로 답합니다(일요일 → 월요일은 한 바퀴 돌아 이어서 탐색).
+ * 시각은 모두 Asia/Seoul 기준입니다.
+ * 쓰기는 드물기 때문에 변경 시마다 박스 맵을 복사해 교체하고, 읽기는 락 없이 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTimeSlotIndex {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final CrossfitBoxScheduleRepository scheduleRepository;
+
+    private volatile Map<Long, BoxSlots> slotsByBox = Map.of();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            slotsByBox = group(scheduleRepository.findAllTimeSlotViews());
+            ready = true;
+
+            log.info("시간 슬롯 색인 구축 완료 - 박스 {}개", slotsByBox.size());
+        } catch (Exception e) {
+            log.error("시간 슬롯 색인 구축 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        Long crossfitBoxId = event.crossfitBoxId();
+        List<TimeSlotView> views = scheduleRepository.findTimeSlotViewsByCrossfitBoxIdIn(List.of(crossfitBoxId));
+
+        Map<Long, BoxSlots> copy = new HashMap<>(slotsByBox);
+        if (views.isEmpty()) {
+            copy.remove(crossfitBoxId);
+        } else {
+            copy.put(crossfitBoxId, BoxSlots.of(views));
+        }
+        slotsByBox = copy;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주어진 박스들에서 from 이후 withinMinutes 이내에 시작하는 수업을 박스별로 시작 순서대로 최대 maxPerBox개 찾습니다.
+     * 색인이 준비되기 전에는 후보 박스들의 슬롯을 한 번의 쿼리로 읽어 같은 방식으로 계산합니다.
+     *
+     * @param from Asia/Seoul 기준 현재 시각
+     */
+    public Map<Long, List<UpcomingSlot>> findUpcoming(Collection<Long> crossfitBoxIds, LocalDateTime from,
+                                                       int withinMinutes, int maxPerBox) {
+        if (crossfitBoxIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, BoxSlots> source = ready
+                ? slotsByBox
+                : group(scheduleRepository.findTimeSlotViewsByCrossfitBoxIdIn(crossfitBoxIds));
+
+        int fromMinute = minuteOfWeek(from);
+        LocalDateTime base = from.withSecond(0).withNano(0);
+        Map<Long, List<UpcomingSlot>> result = new HashMap<>();
+        for (Long crossfitBoxId : crossfitBoxIds) {
+            BoxSlots slots = source.get(crossfitBoxId);
+            if (slots != null) {
+                List<UpcomingSlot> upcoming = slots.upcoming(fromMinute, withinMinutes, maxPerBox, base);
+                if (!upcoming.isEmpty()) {
+                    result.put(crossfitBoxId, upcoming);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<Long, BoxSlots> group(List<TimeSlotView> views) {
+        return views.stream()
+                .collect(Collectors.groupingBy(TimeSlotView::crossfitBoxId)).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> BoxSlots.of(entry.getValue())));
+    }
+
+    private static int minuteOfWeek(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    private static int minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+        return (dayOfWeek.getOrder() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * @param minutesUntil from(분 단위 절사)부터 수업 시작까지 남은 분
+     */
+    public record UpcomingSlot(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime, String className,
+                               LocalDateTime startsAt, int minutesUntil) {
+    }
+
+    /**
+     * 한 박스의 주간 슬롯. starts는 주 단위 분으로 정렬되어 있고 나머지 배열은 같은 순서입니다.
+     */
+    private static final class BoxSlots {
+
+        private final int[] starts;
+        private final DayOfWeek[] days;
+        private final LocalTime[] startTimes;
+        private final LocalTime[] endTimes;
+        private final String[] classNames;
+
+        private BoxSlots(int size) {
+            this.starts = new int[size];
+            this.days = new DayOfWeek[size];
+            this.startTimes = new LocalTime[size];
+            this.endTimes = new LocalTime[size];
+            this.classNames = new String[size];
+        }
+
+        private static BoxSlots of(List<TimeSlotView> views) {
+            List<TimeSlotView> sorted = new ArrayList<>(views);
+            sorted.sort(Comparator.comparingInt(view -> minuteOfWeek(view.dayOfWeek(), view.startTime())));
+
+            BoxSlots slots = new BoxSlots(sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                TimeSlotView view = sorted.get(i);
+                slots.starts[i] = minuteOfWeek(view.dayOfWeek(), view.startTime());
+                slots.days[i] = view.dayOfWeek();
+                slots.startTimes[i] = view.startTime();
+                slots.endTimes[i] = view.endTime();
+                slots.classNames[i] = view.className();
+            }
+            return slots;
+        }
+
+        private List<UpcomingSlot> upcoming(int fromMinute, int withinMinutes, int limit, LocalDateTime base) {
+            List<UpcomingSlot> result = new ArrayList<>(Math.min(limit, starts.length));
+            int until = fromMinute + withinMinutes;
+            int i = lowerBound(fromMinute);
+            int offset = 0;
+            for (int visited = 0; visited < starts.length && result.size() < limit; visited++, i++) {
+                if (i == starts.length) {
+                    // 주말을 넘기면 다음 주 월요일부터 이어서 탐색
+                    i = 0;
+                    offset = MINUTES_PER_WEEK;
+                }
+                int start = starts[i] + offset;
+                if (start > until) {
+                    break;
+                }
+                int minutesUntil = start - fromMinute;
+                result.add(new UpcomingSlot(days[i], startTimes[i], endTimes[i], classNames[i],
+                        base.plusMinutes(minutesUntil), minutesUntil));
+            }
+            return result;
+        }
+
+        private int lowerBound(int minute) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
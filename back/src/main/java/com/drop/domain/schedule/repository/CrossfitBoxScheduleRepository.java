@@ -1,24 +1,38 @@
 package com.drop.domain.schedule.repository;
 
 import com.drop.domain.schedule.data.CrossfitBoxSchedule;
+import com.drop.domain.schedule.dto.TimeSlotView;
 import com.drop.global.enums.DayOfWeek;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CrossfitBoxScheduleRepository extends JpaRepository<CrossfitBoxSchedule, Long> {
 
+    String TIME_SLOT_VIEW_SELECT = "SELECT new com.drop.domain.schedule.dto.TimeSlotView(" +
+            "s.crossfitBox.id, s.dayOfWeek, t.startTime, t.endTime, t.className) " +
+            "FROM CrossfitBoxTimeSlot t JOIN t.schedule s " +
+            "WHERE (s.isClosed = false OR s.isClosed IS NULL) ";
+
     @Query("SELECT s FROM CrossfitBoxSchedule s " +
            "LEFT JOIN FETCH s.timeSlots " +
            "WHERE s.crossfitBox.id = :crossfitBoxId " +
            "ORDER BY s.dayOfWeek")
     List<CrossfitBoxSchedule> findByCrossfitBoxIdWithTimeSlots(@Param("crossfitBoxId") Long crossfitBoxId);
 
+    @Query("SELECT DISTINCT s FROM CrossfitBoxSchedule s " +
+           "LEFT JOIN FETCH s.timeSlots " +
+           "WHERE s.crossfitBox.id IN :crossfitBoxIds " +
+           "AND s.dayOfWeek IN :days")
+    List<CrossfitBoxSchedule> findByCrossfitBoxIdInWithTimeSlots(@Param("crossfitBoxIds") Collection<Long> crossfitBoxIds,
+                                                                 @Param("days") Collection<DayOfWeek> days);
+
     List<CrossfitBoxSchedule> findByCrossfitBoxId(Long crossfitBoxId);
 
     Optional<CrossfitBoxSchedule> findByCrossfitBoxIdAndDayOfWeek(Long crossfitBoxId, DayOfWeek dayOfWeek);
@@ -26,4 +40,10 @@ public interface CrossfitBoxScheduleRepository extends JpaRepository<CrossfitBox
     List<CrossfitBoxSchedule> findByCrossfitBoxIdAndDayOfWeekIn(Long crossfitBoxId, List<DayOfWeek> dayOfWeeks);
 
     void deleteByCrossfitBoxId(Long crossfitBoxId);
+
+    @Query(TIME_SLOT_VIEW_SELECT)
+    List<TimeSlotView> findAllTimeSlotViews();
+
+    @Query(TIME_SLOT_VIEW_SELECT + "AND s.crossfitBox.id IN :crossfitBoxIds")
+    List<TimeSlotView> findTimeSlotViewsByCrossfitBoxIdIn(@Param("crossfitBoxIds") Collection<Long> crossfitBoxIds);
 }
@@ -0,0 +1,67 @@
+package com.drop.domain.schedule.service;
+
+import com.drop.domain.schedule.dto.ScheduleListDto;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.global.code.result.ResultCode;
+import com.drop.global.code.result.ResultResponse;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 박스 상세 화면용 시간표 응답 캐시.
+ * 시간표는 거의 바뀌지 않으므로 {@link ResultResponse}로 감싼 응답 전체를 JSON 문자열로 미리 직렬화해
+ * {@link TwoLevelCache}에 보관하고, 요청마다 조회/매핑/직렬화 없이 그대로 내려줍니다.
+ * 시간표가 수정되면 커밋 이후 해당 박스 키만 모든 파드에서 무효화합니다.
+ */
+@Slf4j
+@Service
+public class ScheduleCacheService {
+
+    private static final String CACHE_NAME = "crossfitBoxSchedules";
+    private static final int LOCAL_CACHE_SIZE = 1000;
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private final ScheduleService scheduleService;
+    private final ObjectMapper objectMapper;
+    private final TwoLevelCache<String> scheduleCache;
+
+    public ScheduleCacheService(ScheduleService scheduleService, ObjectMapper objectMapper,
+                                TwoLevelCacheManager twoLevelCacheManager) {
+        this.scheduleService = scheduleService;
+        this.objectMapper = objectMapper;
+        this.scheduleCache = twoLevelCacheManager.getCache(CACHE_NAME, String.class, LOCAL_CACHE_SIZE, CACHE_TTL);
+    }
+
+    /**
+     * {@link ResultCode#SCHEDULE_GET_SUCCESS} 응답 본문(JSON)
+     */
+    public String getScheduleResponse(Long crossfitBoxId) {
+        return scheduleCache.get(String.valueOf(crossfitBoxId), () -> serialize(scheduleService.getSchedule(crossfitBoxId)));
+    }
+
+    private String serialize(ScheduleListDto schedule) {
+        try {
+            return objectMapper.writeValueAsString(ResultResponse.of(ResultCode.SCHEDULE_GET_SUCCESS, schedule));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("시간표 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.remote()) {
+            // 발생한 파드에서 이미 L2 삭제와 L1 무효화 전파를 마침
+            return;
+        }
+        scheduleCache.evict(String.valueOf(event.crossfitBoxId()));
+        log.debug("시간표 캐시 무효화 - crossfitBoxId: {}", event.crossfitBoxId());
+    }
+}
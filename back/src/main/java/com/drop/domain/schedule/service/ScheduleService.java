@@ -5,10 +5,12 @@ import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.schedule.data.CrossfitBoxSchedule;
 import com.drop.domain.schedule.data.CrossfitBoxTimeSlot;
 import com.drop.domain.schedule.dto.*;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
 import com.drop.domain.schedule.mapper.ScheduleMapper;
 import com.drop.domain.schedule.repository.CrossfitBoxScheduleRepository;
 import com.drop.global.enums.DayOfWeek;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,18 +28,45 @@ public class ScheduleService {
     private final CrossfitBoxScheduleRepository scheduleRepository;
     private final CrossfitBoxRepository crossfitBoxRepository;
     private final ScheduleMapper scheduleMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 CrossfitBox의 시간표 조회
      */
     public ScheduleListDto getSchedule(Long crossfitBoxId) {
         List<CrossfitBoxSchedule> schedules = scheduleRepository.findByCrossfitBoxIdWithTimeSlots(crossfitBoxId);
+        return toScheduleListDto(crossfitBoxId, schedules, List.of(DayOfWeek.values()));
+    }
+
+    private static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * 여러 CrossfitBox의 시간표 일괄 조회.
+     * 한 번의 IN 쿼리(fetch join)로 읽어 요청한 id 순서대로 반환하며, day가 있으면 해당 요일만 담습니다.
+     */
+    public List<ScheduleListDto> getSchedules(List<Long> crossfitBoxIds, DayOfWeek day) {
+        List<Long> ids = crossfitBoxIds.stream().distinct().collect(Collectors.toList());
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("조회할 CrossfitBox는 1개 이상 " + MAX_BATCH_SIZE + "개 이하여야 합니다.");
+        }
 
+        List<DayOfWeek> days = day != null ? List.of(day) : List.of(DayOfWeek.values());
+        Map<Long, List<CrossfitBoxSchedule>> schedulesByBox = scheduleRepository.findByCrossfitBoxIdInWithTimeSlots(ids, days).stream()
+                .collect(Collectors.groupingBy(s -> s.getCrossfitBox().getId()));
+
+        List<ScheduleListDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            result.add(toScheduleListDto(id, schedulesByBox.getOrDefault(id, List.of()), days));
+        }
+        return result;
+    }
+
+    private ScheduleListDto toScheduleListDto(Long crossfitBoxId, List<CrossfitBoxSchedule> schedules, List<DayOfWeek> days) {
         List<ScheduleDto> fullSchedules = new ArrayList<>();
         Map<DayOfWeek, CrossfitBoxSchedule> scheduleMap = schedules.stream()
                 .collect(Collectors.toMap(CrossfitBoxSchedule::getDayOfWeek, s -> s, (existing, replacement) -> existing));
 
-        for (DayOfWeek day : DayOfWeek.values()) {
+        for (DayOfWeek day : days) {
             if (scheduleMap.containsKey(day)) {
                 fullSchedules.add(scheduleMapper.toScheduleDto(scheduleMap.get(day)));
             } else {
@@ -64,7 +93,7 @@ public class ScheduleService {
                 .orElseThrow(() -> new IllegalArgumentException("CrossfitBox를 찾을 수 없습니다."));
 
         Map<DayOfWeek, CrossfitBoxSchedule> existingSchedules =
-                scheduleRepository.findByCrossfitBoxId(crossfitBoxId).stream()
+                scheduleRepository.findByCrossfitBoxIdWithTimeSlots(crossfitBoxId).stream()
                         .collect(Collectors.toMap(CrossfitBoxSchedule::getDayOfWeek, s -> s, (existing, replacement) -> existing));
 
         for (ScheduleDto dto : scheduleDtos) {
@@ -78,6 +107,7 @@ public class ScheduleService {
             updateScheduleFromDto(schedule, dto);
         }
 
+        eventPublisher.publishEvent(new ScheduleChangedEvent(crossfitBoxId));
         return getSchedule(crossfitBoxId);
     }
 
@@ -90,7 +120,7 @@ public class ScheduleService {
                 .orElseThrow(() -> new IllegalArgumentException("CrossfitBox를 찾을 수 없습니다."));
 
         Map<DayOfWeek, CrossfitBoxSchedule> existingSchedules =
-                scheduleRepository.findByCrossfitBoxId(crossfitBoxId).stream()
+                scheduleRepository.findByCrossfitBoxIdWithTimeSlots(crossfitBoxId).stream()
                         .collect(Collectors.toMap(CrossfitBoxSchedule::getDayOfWeek, s -> s, (existing, replacement) -> existing));
 
         for (DayOfWeek day : updateDto.getTargetDays()) {
@@ -104,11 +134,11 @@ public class ScheduleService {
             schedule.updateIsClosed(updateDto.getIsClosed());
 
             if (!Boolean.TRUE.equals(updateDto.getIsClosed())) {
-                schedule.clearTimeSlots();
-                addTimeSlotsFromDto(schedule, updateDto.getTimeSlots());
+                applyTimeSlots(schedule, updateDto.getTimeSlots());
             }
         }
 
+        eventPublisher.publishEvent(new ScheduleChangedEvent(crossfitBoxId));
         return getSchedule(crossfitBoxId);
     }
 
@@ -121,32 +151,59 @@ public class ScheduleService {
             CrossfitBoxSchedule schedule = CrossfitBoxSchedule.create(crossfitBox, day);
             scheduleRepository.save(schedule);
         }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(crossfitBox.getId()));
     }
 
     private void updateScheduleFromDto(CrossfitBoxSchedule schedule, ScheduleDto dto) {
         schedule.updateIsClosed(dto.getIsClosed());
 
         if (!Boolean.TRUE.equals(dto.getIsClosed())) {
-            schedule.clearTimeSlots();
-            addTimeSlotsFromDto(schedule, dto.getTimeSlots());
+            applyTimeSlots(schedule, dto.getTimeSlots());
         }
     }
 
-    private void addTimeSlotsFromDto(CrossfitBoxSchedule schedule, List<TimeSlotDto> timeSlotDtos) {
-        if (timeSlotDtos == null) return;
+    /**
+     * 요청한 슬롯 목록과 기존 슬롯을 비교해 바뀐 것만 반영합니다.
+     * id가 같은 슬롯, 없으면 시작/종료 시간과 수업명이 같은 슬롯을 기존 슬롯으로 보고 값만 갱신하며(같으면 UPDATE 없음),
+     * 짝이 없는 요청 슬롯은 추가하고 남은 기존 슬롯은 삭제합니다.
+     */
+    private void applyTimeSlots(CrossfitBoxSchedule schedule, List<TimeSlotDto> timeSlotDtos) {
+        List<CrossfitBoxTimeSlot> unmatched = new ArrayList<>(schedule.getTimeSlots());
+        List<CrossfitBoxTimeSlot> added = new ArrayList<>();
 
         int order = 0;
-        for (TimeSlotDto slotDto : timeSlotDtos) {
+        for (TimeSlotDto slotDto : timeSlotDtos != null ? timeSlotDtos : List.<TimeSlotDto>of()) {
             LocalTime startTime = scheduleMapper.parseTime(slotDto.getStartTime());
             LocalTime endTime = slotDto.getEndTime() != null ? scheduleMapper.parseTime(slotDto.getEndTime()) : null;
-            CrossfitBoxTimeSlot timeSlot = CrossfitBoxTimeSlot.create(
-                    startTime,
-                    endTime,
-                    slotDto.getClassName(),
-                    slotDto.getColor(),
-                    slotDto.getDisplayOrder() != null ? slotDto.getDisplayOrder() : order++
-            );
-            schedule.addTimeSlot(timeSlot);
+            Integer displayOrder = slotDto.getDisplayOrder() != null ? slotDto.getDisplayOrder() : order++;
+
+            CrossfitBoxTimeSlot timeSlot = findMatch(unmatched, slotDto.getId(), startTime, endTime, slotDto.getClassName());
+            if (timeSlot != null) {
+                unmatched.remove(timeSlot);
+                timeSlot.update(startTime, endTime, slotDto.getClassName(), slotDto.getColor(), displayOrder);
+            } else {
+                added.add(CrossfitBoxTimeSlot.create(startTime, endTime, slotDto.getClassName(), slotDto.getColor(), displayOrder));
+            }
+        }
+
+        unmatched.forEach(schedule::removeTimeSlot);
+        added.forEach(schedule::addTimeSlot);
+    }
+
+    private static CrossfitBoxTimeSlot findMatch(List<CrossfitBoxTimeSlot> candidates, Long id,
+                                                 LocalTime startTime, LocalTime endTime, String className) {
+        if (id != null) {
+            for (CrossfitBoxTimeSlot candidate : candidates) {
+                if (id.equals(candidate.getId())) {
+                    return candidate;
+                }
+            }
+        }
+        for (CrossfitBoxTimeSlot candidate : candidates) {
+            if (candidate.isSameClass(startTime, endTime, className)) {
+                return candidate;
+            }
         }
+        return null;
     }
 }
@@ -0,0 +1,68 @@
+package com.drop.domain.schedule.service;
+
+import com.drop.domain.schedule.data.CrossfitBoxTimeSlot;
+import com.drop.global.migration.DataMigration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 시간 슬롯 id가 IDENTITY에서 pooled 시퀀스로 바뀌기 전에 저장된 행과 id가 겹치지 않도록 시퀀스를 앞으로 옮깁니다.
+ * MySQL에서는 시퀀스를 next_val 컬럼 하나짜리 테이블로 흉내 내며, pooled 방식은 읽은 값을 할당 구간의 끝으로 쓰므로
+ * next_val을 (기존 최대 id + 할당 크기 + ROLLOUT_MARGIN) 이상으로 맞춥니다. 이미 충분히 크면 아무 일도 하지 않습니다.
+ * {@link com.drop.global.migration.DataMigrationRunner}가 요청을 받기 전에 실행하고, 실패하면 기동을 중단합니다.
+ * 이전 버전 파드는 AUTO_INCREMENT로 id를 받으므로 이전 버전 파드가 모두 내려간 뒤에 배포해야 하며,
+ * ROLLOUT_MARGIN은 그 사이 남아 있던 파드가 넣은 행과 겹치지 않도록 두는 여유분입니다.
+ * 실제 시퀀스를 쓰는 DB(H2 등)는 로컬 인메모리 전용이라 기존 행이 없으므로 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeSlotSequenceMigration implements DataMigration {
+
+    private static final String SEQUENCE_TABLE = CrossfitBoxTimeSlot.ID_SEQUENCE.toLowerCase(Locale.ROOT);
+    private static final long ROLLOUT_MARGIN = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "시간 슬롯 id 시퀀스 시작값 조정";
+    }
+
+    @Override
+    public void migrate() {
+        if (!isMySql()) {
+            return;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(time_slot_id), 0) FROM crossfit_box_time_slot", Long.class);
+        long required = maxId + CrossfitBoxTimeSlot.ID_ALLOCATION_SIZE + ROLLOUT_MARGIN;
+        Long current = jdbcTemplate.queryForObject("SELECT MAX(next_val) FROM " + SEQUENCE_TABLE, Long.class);
+        if (current == null) {
+            throw new IllegalStateException(SEQUENCE_TABLE + " 테이블에 시퀀스 값이 없습니다.");
+        }
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + SEQUENCE_TABLE + " SET next_val = ? WHERE next_val < ?", required, required);
+        if (updated > 0) {
+            log.info("시간 슬롯 id 시퀀스 조정 완료 - next_val: {} → {}", current, required);
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && (product.equalsIgnoreCase("MySQL") || product.equalsIgnoreCase("MariaDB"));
+    }
+}
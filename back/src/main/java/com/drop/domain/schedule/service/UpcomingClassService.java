@@ -0,0 +1,98 @@
+package com.drop.domain.schedule.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.drop.domain.crossfitbox.index.GeoDistance;
+import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.schedule.dto.UpcomingClassDto;
+import com.drop.domain.schedule.dto.UpcomingSlotDto;
+import com.drop.domain.schedule.index.ScheduleTimeSlotIndex;
+import com.drop.domain.schedule.mapper.ScheduleMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * "내 주변에서 곧 수업이 있는 박스" 조회.
+ * 공간 인덱스로 반경 내 박스를 고른 뒤 시간 슬롯 색인에서 수업을 찾으므로 박스별 시간표 쿼리가 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UpcomingClassService {
+
+    private static final double MAX_RADIUS_KM = 50;
+    private static final int MAX_WITHIN_MINUTES = 24 * 60;
+    private static final int MAX_CLASSES_PER_BOX = 3;
+
+    private final CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+    private final ScheduleTimeSlotIndex scheduleTimeSlotIndex;
+    private final CrossfitBoxService crossfitBoxService;
+
+    /**
+     * 결과는 첫 수업이 빨리 시작하는 순, 같으면 가까운 순으로 정렬됩니다.
+     */
+    public List<UpcomingClassDto> getUpcomingClasses(Double latitude, Double longitude, Double radiusKm, Integer withinMinutes) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("반경은 0km 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        if (withinMinutes < 1 || withinMinutes > MAX_WITHIN_MINUTES) {
+            throw new IllegalArgumentException("조회 시간 범위는 1분 이상 " + MAX_WITHIN_MINUTES + "분 이하여야 합니다.");
+        }
+
+        List<CrossfitBoxDistanceDto> candidates = findWithinRadius(latitude, longitude, radiusKm);
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> upcoming = scheduleTimeSlotIndex.findUpcoming(
+                candidates.stream().map(candidate -> candidate.getCrossfitBox().getId()).collect(Collectors.toList()),
+                LocalDateTime.now(ScheduleTimeSlotIndex.ZONE), withinMinutes, MAX_CLASSES_PER_BOX);
+
+        List<UpcomingClassDto> result = new ArrayList<>(upcoming.size());
+        for (CrossfitBoxDistanceDto candidate : candidates) {
+            List<ScheduleTimeSlotIndex.UpcomingSlot> slots = upcoming.get(candidate.getCrossfitBox().getId());
+            if (slots != null) {
+                result.add(UpcomingClassDto.builder()
+                        .crossfitBox(candidate.getCrossfitBox())
+                        .distanceKm(candidate.getDistanceKm())
+                        .classes(slots.stream().map(UpcomingClassService::toDto).collect(Collectors.toList()))
+                        .build());
+            }
+        }
+        result.sort(Comparator
+                .comparingInt((UpcomingClassDto dto) -> dto.getClasses().get(0).getMinutesUntil())
+                .thenComparingDouble(UpcomingClassDto::getDistanceKm));
+        return result;
+    }
+
+    private List<CrossfitBoxDistanceDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        if (crossfitBoxSpatialIndex.isReady()) {
+            return crossfitBoxSpatialIndex.findWithinRadius(latitude, longitude, radiusKm);
+        }
+        double deltaLat = GeoDistance.latDelta(radiusKm);
+        double deltaLng = GeoDistance.lngDelta(latitude, radiusKm);
+        return crossfitBoxService.getCrossfitBoxesByBounds(
+                        latitude - deltaLat, longitude - deltaLng, latitude + deltaLat, longitude + deltaLng).stream()
+                .map(box -> CrossfitBoxDistanceDto.builder()
+                        .crossfitBox(box)
+                        .distanceKm(GeoDistance.haversineKm(latitude, longitude, box.getLatitude(), box.getLongitude()))
+                        .build())
+                .filter(candidate -> candidate.getDistanceKm() <= radiusKm)
+                .collect(Collectors.toList());
+    }
+
+    private static UpcomingSlotDto toDto(ScheduleTimeSlotIndex.UpcomingSlot slot) {
+        return UpcomingSlotDto.builder()
+                .dayOfWeek(slot.dayOfWeek())
+                .startTime(slot.startTime().format(ScheduleMapper.TIME_FORMATTER))
+                .endTime(slot.endTime() != null ? slot.endTime().format(ScheduleMapper.TIME_FORMATTER) : null)
+                .className(slot.className())
+                .minutesUntil(slot.minutesUntil())
+                .build();
+    }
+}
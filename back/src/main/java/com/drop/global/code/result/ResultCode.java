@@ -18,6 +18,8 @@ public enum ResultCode {
     GYM_LIST_SUCCESS(200, "G001", "체육관 목록 조회 성공"),
     GYM_DETAIL_SUCCESS(200, "G002", "체육관 상세 조회 성공"),
     GYM_UPDATE_SUCCESS(200, "G003", "박스 정보 수정 성공"),
+    GYM_CLUSTER_SUCCESS(200, "G004", "체육관 클러스터 조회 성공"),
+    GYM_CHANGES_SUCCESS(200, "G005", "체육관 변경 내역 조회 성공"),
 
     // Dashboard
     DASHBOARD_SUMMARY_SUCCESS(200, "D001", "대시보드 정보 조회 성공"),
@@ -27,6 +29,7 @@ public enum ResultCode {
     MY_GYM_ADD_SUCCESS(200, "F002", "내 체육관에 추가 성공"),
     MY_GYM_FAVORITE_TOGGLE_SUCCESS(200, "F003", "즐겨찾기 상태 변경 성공"),
     MY_GYM_REMOVE_SUCCESS(200, "F004", "내 체육관에서 제거 성공"),
+    MY_GYM_BULK_SYNC_SUCCESS(200, "F005", "내 체육관 목록 동기화 성공"),
 
     // MyPage
     PROFILE_UPDATE_SUCCESS(200, "MP001", "프로필이 수정되었습니다."),
@@ -48,6 +51,7 @@ public enum ResultCode {
     REVIEW_UPDATE_SUCCESS(200, "R003", "리뷰가 수정되었습니다."),
     REVIEW_DELETE_SUCCESS(200, "R004", "리뷰가 삭제되었습니다."),
     MY_REVIEW_LIST_SUCCESS(200, "R005", "내 리뷰 목록 조회 성공"),
+    REVIEW_LEADERBOARD_SUCCESS(200, "R006", "평점 상위 체육관 조회 성공"),
 
     // Batch
     GYM_SYNC_SUCCESS(200, "B001", "배치 실행이 완료되었습니다."),
@@ -0,0 +1,37 @@
+package com.drop.global.config;
+
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.global.redis.RedisEventRelay;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 파드 간에 전달해야 하는 변경 이벤트별 {@link RedisEventRelay} 등록.
+ */
+@Configuration
+public class EventRelayConfig {
+
+    @Bean
+    public RedisEventRelay<CrossfitBoxChangedEvent> crossfitBoxChangeRelay(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ApplicationEventPublisher eventPublisher) {
+        return new RedisEventRelay<>("crossfit-box:changed", CrossfitBoxChangedEvent.class,
+                id -> new CrossfitBoxChangedEvent(id, true),
+                redisTemplate, redisMessageListenerContainer, eventPublisher);
+    }
+
+    @Bean
+    public RedisEventRelay<ScheduleChangedEvent> scheduleChangeRelay(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ApplicationEventPublisher eventPublisher) {
+        return new RedisEventRelay<>("schedule:changed", ScheduleChangedEvent.class,
+                id -> new ScheduleChangedEvent(id, true),
+                redisTemplate, redisMessageListenerContainer, eventPublisher);
+    }
+}
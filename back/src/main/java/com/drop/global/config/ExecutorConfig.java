@@ -0,0 +1,30 @@
+package com.drop.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+
+    /**
+     * 대시보드 요약의 독립 조회를 동시에 실행하는 풀.
+     * 각 조회가 DB 커넥션을 하나씩 쓰므로 커넥션 풀보다 작게 두고,
+     * 큐에 쌓아 두면 순차 실행보다 늦어지므로 큐 없이 남는 스레드가 없으면 바로 요청 스레드에서 실행합니다.
+     */
+    @Bean(name = DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.drop.global.migration;
+
+/**
+ * 스키마(ddl-auto) 반영 이후, 애플리케이션이 요청을 받기 전에 한 번 실행되는 데이터 이관.
+ * {@link DataMigrationRunner}가 DB 락을 잡고 version 순서대로 실행한 뒤 이력 테이블에 기록합니다.
+ */
+public interface DataMigration {
+
+    /**
+     * 실행 순서이자 이력 키. 한 번 배포된 값은 바꾸지 않습니다.
+     */
+    int version();
+
+    String description();
+
+    /**
+     * true이면 이력과 관계없이 기동할 때마다 실행합니다. 여러 번 실행해도 결과가 같아야 합니다.
+     */
+    default boolean repeatable() {
+        return false;
+    }
+
+    void migrate();
+}
@@ -0,0 +1,123 @@
+package com.drop.global.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 등록된 {@link DataMigration}을 version 순서대로 실행합니다.
+ * 모든 싱글톤 생성 직후(JPA 스키마 반영 이후, 웹 서버 시작 전)에 실행되므로 이관이 끝나기 전에는 요청을 받지 않습니다.
+ * 여러 파드가 동시에 기동해도 MySQL 네임드 락(GET_LOCK)으로 한 파드씩 실행하고, 실패하면 기동을 중단합니다.
+ * 락을 지원하지 않는 DB(로컬 H2)에서는 락 없이 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "drop:data-migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    private final List<DataMigration> migrations;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (migrations.isEmpty()) {
+            return;
+        }
+
+        // 네임드 락은 세션 단위이므로 이관이 끝날 때까지 같은 커넥션을 붙잡아 둡니다.
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean locking = isMySql(lockConnection);
+            if (locking) {
+                acquire(lockConnection);
+            }
+            try {
+                runPending();
+            } finally {
+                if (locking) {
+                    release(lockConnection);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터 이관 락 처리 실패", e);
+        }
+    }
+
+    private void runPending() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS data_migration_history ("
+                + "version INT NOT NULL PRIMARY KEY, "
+                + "description VARCHAR(200) NOT NULL, "
+                + "installed_at TIMESTAMP NOT NULL)");
+        Set<Integer> installed = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT version FROM data_migration_history", Integer.class));
+
+        List<DataMigration> ordered = migrations.stream()
+                .sorted(Comparator.comparingInt(DataMigration::version))
+                .collect(Collectors.toList());
+        for (DataMigration migration : ordered) {
+            if (!migration.repeatable() && installed.contains(migration.version())) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    migration.migrate();
+                    if (!migration.repeatable()) {
+                        jdbcTemplate.update("INSERT INTO data_migration_history (version, description, installed_at) "
+                                        + "VALUES (?, ?, ?)",
+                                migration.version(), migration.description(), Timestamp.valueOf(LocalDateTime.now()));
+                    }
+                });
+                log.info("데이터 이관 완료 - version: {}, {}", migration.version(), migration.description());
+            } catch (Exception e) {
+                throw new IllegalStateException("데이터 이관 실패 - version: " + migration.version()
+                        + ", " + migration.description(), e);
+            }
+        }
+    }
+
+    private static void acquire(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                    throw new IllegalStateException("데이터 이관 락 획득 실패 - " + LOCK_TIMEOUT_SECONDS + "초 초과");
+                }
+            }
+        }
+    }
+
+    private static void release(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            log.warn("데이터 이관 락 해제 실패", e);
+        }
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        return product != null && (product.equalsIgnoreCase("MySQL") || product.equalsIgnoreCase("MariaDB"));
+    }
+}
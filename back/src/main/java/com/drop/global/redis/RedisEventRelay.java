@@ -0,0 +1,81 @@
+package com.drop.global.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 로컬에서 커밋된 변경 이벤트를 Redis Pub/Sub으로 다른 파드에 전달합니다.
+ * 각 파드의 인메모리 색인/캐시는 로컬 이벤트만 받기 때문에, 다른 파드에서 커밋된 변경은
+ * 이 릴레이가 remoteEventFactory로 만든 remote 이벤트로 다시 발행합니다.
+ * 메시지는 "instanceId:id" 형식이며 자신이 보낸 메시지는 무시합니다.
+ */
+@Slf4j
+public class RedisEventRelay<E extends RelayableEvent> implements MessageListener {
+
+    private static final String DELIMITER = ":";
+
+    private final String channel;
+    private final Class<E> eventType;
+    private final Function<Long, E> remoteEventFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public RedisEventRelay(String channel, Class<E> eventType, Function<Long, E> remoteEventFactory,
+                           RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           ApplicationEventPublisher eventPublisher) {
+        this.channel = channel;
+        this.eventType = eventType;
+        this.remoteEventFactory = remoteEventFactory;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvent(RelayableEvent event) {
+        if (!eventType.isInstance(event) || event.remote()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, instanceId + DELIMITER + event.relayId());
+        } catch (Exception e) {
+            log.warn("변경 전파 실패 - channel: {}, id: {}", channel, event.relayId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.lastIndexOf(DELIMITER);
+        if (index < 0 || instanceId.equals(body.substring(0, index))) {
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(remoteEventFactory.apply(Long.valueOf(body.substring(index + 1))));
+        } catch (Exception e) {
+            log.warn("변경 메시지 처리 실패 - channel: {}, message: {}", channel, body, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.drop.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 파드 중 한 곳에서만 실행해야 하는 작업(기동/정기 배치)을 위한 Redis 락.
+ * SET NX PX로 잡고, 자신이 잡은 락만 지우도록 값 비교 후 삭제하는 스크립트로 풉니다.
+ * 작업이 ttl보다 오래 걸리면 다른 파드가 락을 잡을 수 있으므로 ttl은 작업 시간보다 넉넉히 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String KEY_PREFIX = "lock:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 락을 잡으면 task를 실행하고 true를, 다른 파드가 실행 중이면 실행하지 않고 false를 반환합니다.
+     */
+    public boolean runExclusively(String name, Duration ttl, Runnable task) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+            log.info("다른 파드에서 실행 중이어서 건너뜀 - lock: {}", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("락 해제 실패 - lock: {}", name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.drop.global.redis;
+
+/**
+ * {@link RedisEventRelay}로 다른 파드에 전달되는 변경 이벤트.
+ * remote가 true이면 다른 파드에서 발생한 변경을 릴레이가 다시 발행한 것이며, 다시 전달하지 않습니다.
+ */
+public interface RelayableEvent {
+
+    Long relayId();
+
+    boolean remote();
+}
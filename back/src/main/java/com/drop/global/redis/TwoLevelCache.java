@@ -0,0 +1,231 @@
+package com.drop.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 인프로세스(L1) + Redis(L2) 2단 캐시.
+ * 조회는 L1 → L2 → loader 순으로 진행하고, 무효화는 L2 삭제 후 다른 파드의 L1까지 전파합니다.
+ * Redis 장애 시에는 L1과 loader만으로 동작합니다.
+ * 값 타입이 String이면 Jackson 변환 없이 그대로 저장합니다(미리 직렬화한 응답 캐싱용).
+ * 무효화보다 먼저 시작한 조회가 무효화 이후에 옛 값을 다시 쓰지 않도록, L1은 무효화 횟수를, L2는 키별 세대를
+ * 조회 전에 읽어 두고 그대로일 때만 저장합니다(L2는 세대 비교와 저장을 한 스크립트로 수행).
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private static final String GENERATION_SUFFIX = ":generation";
+
+    /**
+     * KEYS[1]: 값 키, KEYS[2]: 세대 키, ARGV: 조회 전에 읽은 세대(없으면 빈 문자열), 값, ttl(ms)
+     */
+    private static final RedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+            Long.class);
+
+    /**
+     * KEYS: (값 키, 세대 키) 쌍, ARGV[1]: 세대 키 ttl(ms)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do "
+                    + "redis.call('del', KEYS[i]) "
+                    + "redis.call('incr', KEYS[i + 1]) "
+                    + "redis.call('pexpire', KEYS[i + 1], ARGV[1]) "
+                    + "end return #KEYS / 2",
+            Long.class);
+
+    private final String name;
+    private final Class<V> type;
+    private final int maxLocalEntries;
+    private final Duration ttl;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Consumer<Collection<String>> invalidationPublisher;
+    private final Map<String, LocalEntry<V>> local;
+    private long localInvalidations;
+
+    TwoLevelCache(String name, Class<V> type, int maxLocalEntries, Duration ttl,
+                  RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+                  Consumer<Collection<String>> invalidationPublisher) {
+        this.name = name;
+        this.type = type;
+        this.maxLocalEntries = maxLocalEntries;
+        this.ttl = ttl;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationPublisher = invalidationPublisher;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry<V>> eldest) {
+                return size() > TwoLevelCache.this.maxLocalEntries;
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        V value = getLocal(key);
+        if (value != null) {
+            return value;
+        }
+
+        // 조회 중에 무효화되면 읽어 온 값이 이미 옛 값일 수 있으므로 저장하지 않고 이번 응답에만 사용
+        long invalidations = localInvalidations();
+        RemoteEntry<V> remote = getRemote(key);
+        value = remote.value();
+        if (value == null) {
+            value = loader.get();
+            if (value == null) {
+                return null;
+            }
+            if (remote.generation() != null && localInvalidations() == invalidations) {
+                putRemote(key, value, remote.generation());
+            }
+        }
+        putLocalIfNotInvalidated(key, value, invalidations);
+        return value;
+    }
+
+    /**
+     * 모든 파드에서 해당 키를 무효화합니다.
+     */
+    public void evict(String key) {
+        evictAll(List.of(key));
+    }
+
+    /**
+     * 여러 키를 한 번의 스크립트(DEL과 세대 증가)와 한 번의 무효화 메시지로 모든 파드에서 무효화합니다.
+     * L2를 먼저 지운 뒤 L1을 비워, 그 사이 L2에서 옛 값을 읽어 간 조회도 L1에 저장하지 않게 합니다.
+     */
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> redisKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            redisKeys.add(redisKey(key));
+            redisKeys.add(generationKey(key));
+        }
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, redisKeys, String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("캐시 삭제 실패 - cache: {}, keys: {}개", name, keys.size(), e);
+        }
+        evictAllLocal(keys);
+        invalidationPublisher.accept(keys);
+    }
+
+    /**
+     * 현재 파드의 L1만 비웁니다. 다른 파드로부터 무효화 메시지를 받았을 때 사용합니다.
+     */
+    public synchronized void evictLocal(String key) {
+        localInvalidations++;
+        local.remove(key);
+    }
+
+    public synchronized void evictAllLocal(Collection<String> keys) {
+        localInvalidations++;
+        for (String key : keys) {
+            local.remove(key);
+        }
+    }
+
+    public synchronized void clearLocal() {
+        localInvalidations++;
+        local.clear();
+    }
+
+    private synchronized long localInvalidations() {
+        return localInvalidations;
+    }
+
+    private synchronized V getLocal(String key) {
+        LocalEntry<V> entry = local.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            local.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private synchronized void putLocalIfNotInvalidated(String key, V value, long invalidations) {
+        if (localInvalidations != invalidations) {
+            return;
+        }
+        local.put(key, new LocalEntry<>(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    /**
+     * 값과 세대를 한 번의 MGET으로 읽습니다. Redis 장애 시 세대를 알 수 없으므로 generation이 null이며 L2에 저장하지 않습니다.
+     */
+    private RemoteEntry<V> getRemote(String key) {
+        try {
+            List<Object> cached = redisTemplate.opsForValue().multiGet(List.of(redisKey(key), generationKey(key)));
+            if (cached == null) {
+                return RemoteEntry.unavailable();
+            }
+            String generation = cached.get(1) != null ? cached.get(1).toString() : "";
+            Object value = cached.get(0);
+            if (value == null) {
+                return new RemoteEntry<>(null, generation);
+            }
+            if (type == String.class) {
+                return new RemoteEntry<>(type.cast(value), generation);
+            }
+            return new RemoteEntry<>(objectMapper.readValue(value.toString(), type), generation);
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패 - cache: {}, key: {}", name, key, e);
+            return RemoteEntry.unavailable();
+        }
+    }
+
+    private void putRemote(String key, V value, String generation) {
+        try {
+            String serialized = type == String.class ? (String) value : objectMapper.writeValueAsString(value);
+            Long stored = redisTemplate.execute(PUT_IF_GENERATION_SCRIPT, List.of(redisKey(key), generationKey(key)),
+                    generation, serialized, String.valueOf(ttl.toMillis()));
+            if (Long.valueOf(0L).equals(stored)) {
+                log.debug("조회 중 무효화되어 캐시 저장 생략 - cache: {}, key: {}", name, key);
+            }
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패 - cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private String redisKey(String key) {
+        return "cache:" + name + ":" + key;
+    }
+
+    private String generationKey(String key) {
+        return redisKey(key) + GENERATION_SUFFIX;
+    }
+
+    private record LocalEntry<V>(V value, long expiresAt) {
+    }
+
+    private record RemoteEntry<V>(V value, String generation) {
+
+        static <V> RemoteEntry<V> unavailable() {
+            return new RemoteEntry<>(null, null);
+        }
+    }
+}
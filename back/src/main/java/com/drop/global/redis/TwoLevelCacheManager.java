@@ -0,0 +1,75 @@
+package com.drop.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TwoLevelCache} 생성/관리 및 파드 간 L1 무효화 전파.
+ * 무효화 메시지는 "instanceId|cacheName|key1,key2,..." 형식으로 Redis Pub/Sub 채널에 발행되며,
+ * 자신이 보낸 메시지는 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String DELIMITER = "|";
+    private static final String KEY_DELIMITER = ",";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> TwoLevelCache<V> getCache(String name, Class<V> type, int maxLocalEntries, Duration ttl) {
+        return (TwoLevelCache<V>) caches.computeIfAbsent(name, n -> new TwoLevelCache<>(
+                n, type, maxLocalEntries, ttl, redisTemplate, objectMapper, keys -> publishInvalidation(n, keys)));
+    }
+
+    private void publishInvalidation(String cacheName, Collection<String> keys) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    instanceId + DELIMITER + cacheName + DELIMITER + String.join(KEY_DELIMITER, keys));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, keys: {}", cacheName, keys, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache<?> cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictAllLocal(Arrays.asList(parts[2].split(KEY_DELIMITER)));
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.drop.global.enums.UserRole;
 /**
  * Interface for entities that can authenticate.
  * Both Member and Gym implement this interface.
+ * Password and tokens live in a separate, lazily loaded {@code Credential}; during a rolling deploy
+ * implementations also keep the legacy columns in sync and build a missing credential from them.
  */
 public interface Authenticatable {
     Long getId();
@@ -0,0 +1,126 @@
+package com.drop.global.security;
+
+import com.drop.global.migration.DataMigration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MEMBER/CROSSFIT_BOX 행에 있던 비밀번호/토큰 컬럼을 USER_CREDENTIAL 테이블로 복사하는 데이터 이관.
+ * 롤링 배포 중 이전 버전 파드가 기존 컬럼으로 계속 가입/로그인을 처리하므로 기존 컬럼은 삭제하지 않고,
+ * 기동할 때마다 credential_id가 비어 있는 행만 다시 채웁니다. 기존 컬럼 삭제는 모든 파드가 이 버전으로 바뀐 뒤
+ * 다음 릴리스에서 이 이관을 한 번 더 실행한 후에 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CredentialMigration implements DataMigration {
+
+    private static final Map<String, String> TABLES = Map.of(
+            "member", "member_id",
+            "crossfit_box", "crossfit_box_id");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "인증 정보 USER_CREDENTIAL 이관";
+    }
+
+    @Override
+    public boolean repeatable() {
+        return true;
+    }
+
+    @Override
+    public void migrate() {
+        TABLES.forEach((table, idColumn) -> {
+            if (!hasColumn(table, "password")) {
+                return;
+            }
+            int migrated = copyCredentials(table, idColumn);
+            if (migrated > 0) {
+                log.info("인증 정보 이관 완료 - table: {}, {}건", table, migrated);
+            }
+        });
+    }
+
+    private int copyCredentials(String table, String idColumn) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT " + idColumn + " AS id, password, access_token, refresh_token FROM " + table
+                        + " WHERE credential_id IS NULL");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int migrated = 0;
+        for (Map<String, Object> row : rows) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO user_credential (password, access_token, refresh_token, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+                ps.setObject(1, value(row, "password"));
+                ps.setObject(2, value(row, "access_token"));
+                ps.setObject(3, value(row, "refresh_token"));
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                return ps;
+            }, keyHolder);
+            long credentialId = keyHolder.getKey().longValue();
+
+            // 그 사이 다른 경로로 연결된 행은 건드리지 않고 방금 만든 인증 정보를 지움
+            int updated = jdbcTemplate.update("UPDATE " + table + " SET credential_id = ? WHERE " + idColumn
+                    + " = ? AND credential_id IS NULL", credentialId, value(row, "id"));
+            if (updated == 0) {
+                jdbcTemplate.update("DELETE FROM user_credential WHERE credential_id = ?", credentialId);
+            } else {
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    // DB마다 결과 컬럼명 대소문자가 달라 대소문자 구분 없이 조회
+    private static Object value(Map<String, Object> row, String column) {
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(column)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : List.of(table, table.toUpperCase())) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                    while (columns.next()) {
+                        if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
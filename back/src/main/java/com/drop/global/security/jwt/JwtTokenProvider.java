@@ -22,6 +22,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -49,10 +50,23 @@ public class JwtTokenProvider {
     private long refreshTokenExpirationMillis;
     private Key key;
 
+    private static final int VERIFIED_CLAIMS_CACHE_SIZE = 10_000;
+    private static final Duration VERIFIED_CLAIMS_CACHE_TTL = Duration.ofMinutes(5);
+
+    /**
+     * 서명 키가 고정이므로 파서는 한 번만 만들어 재사용합니다(불변, 스레드 안전).
+     */
+    private JwtParser jwtParser;
+    private final VerifiedClaimsCache verifiedClaimsCache =
+            new VerifiedClaimsCache(VERIFIED_CLAIMS_CACHE_SIZE, VERIFIED_CLAIMS_CACHE_TTL);
+
     @PostConstruct
     public void init() {
         String base64EncodedSecretKey = encodeBase64SecretKey(this.secretKey);
         this.key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String encodeBase64SecretKey(String secretKey) {
@@ -177,12 +191,20 @@ public class JwtTokenProvider {
         return new Date(date.getTime() + expirationMillisecond);
     }
 
+    /**
+     * 같은 토큰은 TTL(최대 토큰 만료 시각)까지 한 번만 서명 검증과 디코딩을 수행합니다.
+     * 만료되었거나 위조된 토큰은 캐시에 남지 않으므로 매번 기존과 같은 예외가 발생합니다.
+     * 반환된 Claims는 여러 요청이 공유하므로 읽기 전용이며, 변경하려 하면 UnsupportedOperationException이 발생합니다.
+     */
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (!StringUtils.hasText(token)) {
+            return verifyClaims(token);
+        }
+        return verifiedClaimsCache.get(token, this::verifyClaims);
+    }
+
+    private Claims verifyClaims(String token) {
+        return new ReadOnlyClaims(jwtParser.parseClaimsJws(token).getBody());
     }
 
     public void accessTokenSetHeader(String accessToken, HttpServletResponse response) {
@@ -0,0 +1,120 @@
+package com.drop.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 검증을 마친 Claims의 읽기 전용 뷰.
+ * {@link VerifiedClaimsCache}에 보관된 Claims는 여러 요청이 공유하므로, 한 요청에서 바꾼 값이 다른 요청에 보이지 않도록 변경을 막습니다.
+ */
+final class ReadOnlyClaims extends AbstractMap<String, Object> implements Claims {
+
+    private final Claims claims;
+
+    ReadOnlyClaims(Claims claims) {
+        this.claims = claims;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableMap(claims).entrySet();
+    }
+
+    @Override
+    public int size() {
+        return claims.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return claims.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return claims.get(key);
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        return claims.get(claimName, requiredType);
+    }
+
+    @Override
+    public String getIssuer() {
+        return claims.getIssuer();
+    }
+
+    @Override
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    @Override
+    public String getAudience() {
+        return claims.getAudience();
+    }
+
+    @Override
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return claims.getNotBefore();
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    @Override
+    public String getId() {
+        return claims.getId();
+    }
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("검증된 Claims는 변경할 수 없습니다.");
+    }
+}
@@ -0,0 +1,75 @@
+package com.drop.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 항목은 TTL과 토큰 만료 시각 중 이른 시점에 만료됩니다.
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하며, 검증에 실패한 토큰은 캐싱하지 않습니다.
+ * 캐싱된 Claims는 여러 요청이 공유하므로 {@link ReadOnlyClaims}로 감싸 넣습니다.
+ */
+class VerifiedClaimsCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    VerifiedClaimsCache(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedClaimsCache.this.maxEntries;
+            }
+        };
+    }
+
+    Claims get(String token, Function<String, Claims> verifier) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    return entry.claims();
+                }
+                entries.remove(key);
+            }
+        }
+
+        // 검증은 락 밖에서 수행하며, 예외가 나면 그대로 전달되고 캐시에는 남지 않음
+        Claims claims = verifier.apply(token);
+        long expiresAt = now + ttlMillis;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+        if (expiresAt > now) {
+            synchronized (this) {
+                entries.put(key, new Entry(claims, expiresAt));
+            }
+        }
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
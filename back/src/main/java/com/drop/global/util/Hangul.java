@@ -0,0 +1,93 @@
+package com.drop.global.util;
+
+import java.util.Map;
+
+/**
+ * 한글 음절의 초성/중성/종성 분해.
+ * 음절 코드 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final char[] INITIAL_JAMO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    // 겹모음/겹받침은 입력 순서대로 풀어 두어, 타이핑 중인 글자도 접두어로 일치하게 합니다.
+    private static final String[] MEDIAL_JAMO = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINAL_JAMO = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ",
+            "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"));
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static int initialIndex(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) / (MEDIAL_COUNT * FINAL_COUNT);
+    }
+
+    public static int medialIndex(char syllable) {
+        return ((syllable - SYLLABLE_BEGIN) % (MEDIAL_COUNT * FINAL_COUNT)) / FINAL_COUNT;
+    }
+
+    public static int finalIndex(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) % FINAL_COUNT;
+    }
+
+    /**
+     * 한글 음절을 호환용 자모로 풀어 씁니다. 예: "크롯" → "ㅋㅡㄹㅗㅅ"
+     * 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                sb.append(INITIAL_JAMO[initialIndex(c)])
+                        .append(MEDIAL_JAMO[medialIndex(c)])
+                        .append(FINAL_JAMO[finalIndex(c)]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 예: "크로스핏" → "ㅋㄹㅅㅍ"
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            sb.append(isSyllable(c) ? INITIAL_JAMO[initialIndex(c)] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성으로 쓰일 수 있는 자음(ㄱ~ㅎ)만으로 이루어진 문자열인지 확인합니다.
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (char c : text.toCharArray()) {
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -97,6 +97,30 @@ class UserServiceTest {
         verify(memberRepository).save(any(Member.class));
     }
 
+    @Test
+    @DisplayName("사용자 조회 및 토큰 업데이트 - 이전 버전이 만든 회원은 기존 컬럼으로 인증 정보를 만들고 기존 컬럼도 갱신")
+    void findUserAndUpdateTokens_memberWithoutCredential() {
+        // given
+        Member legacyMember = Member.builder()
+                .id(2L)
+                .email("legacy@email.com")
+                .role(UserRole.MEMBER)
+                .legacyPassword("encodedPassword")
+                .build();
+        when(authenticatableRepository.findById(2L, UserRole.MEMBER))
+                .thenReturn(Optional.of(legacyMember));
+
+        // when
+        userService.findUserAndUpdateTokens(2L, UserRole.MEMBER, "accessToken", "refreshToken");
+
+        // then
+        assertThat(legacyMember.getCredential()).isNotNull();
+        assertThat(legacyMember.getPassword()).isEqualTo("encodedPassword");
+        assertThat(legacyMember.getCredential().getRefreshToken()).isEqualTo("refreshToken");
+        assertThat(legacyMember.getLegacyRefreshToken()).isEqualTo("refreshToken");
+        verify(memberRepository).save(legacyMember);
+    }
+
     @Test
     @DisplayName("사용자 조회 및 토큰 업데이트 - GYM")
     void findUserAndUpdateTokens_gym() {
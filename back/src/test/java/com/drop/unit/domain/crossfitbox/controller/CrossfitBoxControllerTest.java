@@ -1,10 +1,28 @@
 package com.drop.unit.domain.crossfitbox.controller;
 
 import com.drop.domain.crossfitbox.controller.CrossfitBoxController;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxChangesDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterListDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchHitDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchPageDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxTileDto;
+import com.drop.domain.crossfitbox.service.CrossfitBoxChangeService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxMapPayloadService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxSearchService;
 import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxTileService;
+import com.drop.domain.schedule.dto.ScheduleDto;
 import com.drop.domain.schedule.dto.ScheduleListDto;
+import com.drop.domain.schedule.dto.UpcomingClassDto;
+import com.drop.domain.schedule.dto.UpcomingSlotDto;
+import com.drop.domain.schedule.service.ScheduleCacheService;
 import com.drop.domain.schedule.service.ScheduleService;
+import com.drop.domain.schedule.service.UpcomingClassService;
+import com.drop.global.enums.DayOfWeek;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -20,6 +39,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,9 +52,27 @@ class CrossfitBoxControllerTest {
     @Mock
     private CrossfitBoxService crossfitBoxService;
 
+    @Mock
+    private CrossfitBoxTileService crossfitBoxTileService;
+
+    @Mock
+    private CrossfitBoxChangeService crossfitBoxChangeService;
+
+    @Mock
+    private CrossfitBoxMapPayloadService crossfitBoxMapPayloadService;
+
+    @Mock
+    private CrossfitBoxSearchService crossfitBoxSearchService;
+
     @Mock
     private ScheduleService scheduleService;
 
+    @Mock
+    private ScheduleCacheService scheduleCacheService;
+
+    @Mock
+    private UpcomingClassService upcomingClassService;
+
     @InjectMocks
     private CrossfitBoxController crossfitBoxController;
 
@@ -52,7 +91,7 @@ class CrossfitBoxControllerTest {
                 .email("test@email.com")
                 .build();
 
-        when(crossfitBoxService.searchByName("Test")).thenReturn(List.of(dto));
+        when(crossfitBoxService.searchByName("Test", 20)).thenReturn(List.of(dto));
 
         // when & then
         mockMvc.perform(get("/crossfit-boxes/search")
@@ -62,6 +101,55 @@ class CrossfitBoxControllerTest {
                 .andExpect(jsonPath("$.data[0].name").value("Test Box"));
     }
 
+    @Test
+    @DisplayName("크로스핏박스 이름 자동완성")
+    void autocompleteCrossfitBoxes() throws Exception {
+        // given
+        CrossfitBoxSuggestionDto suggestion = CrossfitBoxSuggestionDto.builder()
+                .id(1L)
+                .name("크로스핏 강남")
+                .build();
+
+        when(crossfitBoxService.autocomplete("ㅋㄹㅅㅍ", 10)).thenReturn(List.of(suggestion));
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/autocomplete")
+                        .param("keyword", "ㅋㄹㅅㅍ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].name").value("크로스핏 강남"));
+    }
+
+    @Test
+    @DisplayName("크로스핏박스 통합 검색")
+    void unifiedSearchCrossfitBoxes() throws Exception {
+        // given
+        CrossfitBoxSearchHitDto hit = CrossfitBoxSearchHitDto.builder()
+                .crossfitBox(CrossfitBoxDto.builder().id(1L).name("크로스핏 강남").build())
+                .score(104.5)
+                .matchType("TOKEN")
+                .distanceKm(1.2)
+                .build();
+
+        when(crossfitBoxSearchService.search("강남 크로스핏", 37.5, 127.0, null, 20))
+                .thenReturn(CrossfitBoxSearchPageDto.builder()
+                        .results(List.of(hit))
+                        .nextCursor("MTA0LjU6MQ")
+                        .hasNext(true)
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/unified-search")
+                        .param("keyword", "강남 크로스핏")
+                        .param("lat", "37.5")
+                        .param("lng", "127.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[0].crossfitBox.name").value("크로스핏 강남"))
+                .andExpect(jsonPath("$.data.results[0].matchType").value("TOKEN"))
+                .andExpect(jsonPath("$.data.nextCursor").value("MTA0LjU6MQ"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("전체 크로스핏박스 목록 조회 (지도용)")
     void getAllCrossfitBoxesForMap() throws Exception {
@@ -82,6 +170,23 @@ class CrossfitBoxControllerTest {
                 .andExpect(jsonPath("$.data[0].latitude").value(37.5));
     }
 
+    @Test
+    @DisplayName("Accept 헤더로 지도용 binary 응답 요청")
+    void getAllCrossfitBoxesForMapBinary() throws Exception {
+        // given
+        byte[] body = {'D', 'R', 'M', '1', 0};
+        when(crossfitBoxMapPayloadService.getBinary())
+                .thenReturn(new CrossfitBoxMapPayloadService.MapPayload(body, "\"abc\""));
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/map")
+                        .header("Accept", CrossfitBoxMapPayloadService.BINARY))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(content().contentType(CrossfitBoxMapPayloadService.BINARY))
+                .andExpect(content().bytes(body));
+    }
+
     @Test
     @DisplayName("영역 내 크로스핏박스 목록 조회")
     void getCrossfitBoxesByBounds() throws Exception {
@@ -104,6 +209,108 @@ class CrossfitBoxControllerTest {
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    @Test
+    @DisplayName("줌 레벨별 크로스핏박스 클러스터 조회")
+    void getCrossfitBoxClusters() throws Exception {
+        // given
+        CrossfitBoxClusterListDto dto = CrossfitBoxClusterListDto.builder()
+                .zoom(10)
+                .clusters(List.of(CrossfitBoxClusterDto.builder()
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .count(12)
+                        .crossfitBoxIds(List.of(1L, 2L, 3L))
+                        .build()))
+                .build();
+
+        when(crossfitBoxService.getCrossfitBoxClusters(any(), any(), any(), any(), any()))
+                .thenReturn(dto);
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/map/clusters")
+                        .param("swLat", "37.0")
+                        .param("swLng", "126.0")
+                        .param("neLat", "38.0")
+                        .param("neLng", "128.0")
+                        .param("zoom", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.zoom").value(10))
+                .andExpect(jsonPath("$.data.clusters[0].count").value(12))
+                .andExpect(jsonPath("$.data.crossfitBoxes").isEmpty());
+    }
+
+    @Test
+    @DisplayName("지도 타일 내 크로스핏박스 목록 조회")
+    void getCrossfitBoxTile() throws Exception {
+        // given
+        CrossfitBoxTileDto dto = CrossfitBoxTileDto.builder()
+                .z(14)
+                .x(13972)
+                .y(6346)
+                .crossfitBoxes(List.of(CrossfitBoxDto.builder()
+                        .id(1L)
+                        .name("Test Box")
+                        .build()))
+                .build();
+
+        when(crossfitBoxTileService.getTile(14, 13972, 6346)).thenReturn(dto);
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/map/tiles/14/13972/6346"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.z").value(14))
+                .andExpect(jsonPath("$.data.crossfitBoxes[0].name").value("Test Box"));
+    }
+
+    @Test
+    @DisplayName("지도 데이터 변경 내역 조회")
+    void getCrossfitBoxChanges() throws Exception {
+        // given
+        CrossfitBoxChangesDto dto = CrossfitBoxChangesDto.builder()
+                .version(12L)
+                .fullSync(false)
+                .upserts(List.of(CrossfitBoxDto.builder()
+                        .id(1L)
+                        .name("Test Box")
+                        .build()))
+                .deletions(List.of(2L))
+                .build();
+
+        when(crossfitBoxChangeService.getChanges(10L)).thenReturn(dto);
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/map/changes")
+                        .param("since", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(12))
+                .andExpect(jsonPath("$.data.upserts[0].id").value(1))
+                .andExpect(jsonPath("$.data.deletions[0]").value(2));
+    }
+
+    @Test
+    @DisplayName("가까운 크로스핏박스 조회")
+    void getNearestCrossfitBoxes() throws Exception {
+        // given
+        CrossfitBoxDistanceDto dto = CrossfitBoxDistanceDto.builder()
+                .crossfitBox(CrossfitBoxDto.builder()
+                        .id(1L)
+                        .name("Test Box")
+                        .build())
+                .distanceKm(1.5)
+                .build();
+
+        when(crossfitBoxService.getNearestCrossfitBoxes(37.5, 127.0, 5)).thenReturn(List.of(dto));
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/nearest")
+                        .param("lat", "37.5")
+                        .param("lng", "127.0")
+                        .param("k", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].crossfitBox.name").value("Test Box"))
+                .andExpect(jsonPath("$.data[0].distanceKm").value(1.5));
+    }
+
     @Test
     @DisplayName("크로스핏박스 상세 조회")
     void getCrossfitBoxById() throws Exception {
@@ -123,19 +330,66 @@ class CrossfitBoxControllerTest {
     }
 
     @Test
-    @DisplayName("크로스핏박스 시간표 조회")
-    void getCrossfitBoxSchedule() throws Exception {
+    @DisplayName("곧 수업이 있는 주변 크로스핏박스 조회")
+    void getUpcomingClasses() throws Exception {
+        // given
+        UpcomingClassDto dto = UpcomingClassDto.builder()
+                .crossfitBox(CrossfitBoxDto.builder().id(1L).name("Test Box").build())
+                .distanceKm(1.2)
+                .classes(List.of(UpcomingSlotDto.builder()
+                        .startTime("19:00")
+                        .className("WOD")
+                        .minutesUntil(30)
+                        .build()))
+                .build();
+
+        when(upcomingClassService.getUpcomingClasses(37.5, 127.0, 5.0, 90)).thenReturn(List.of(dto));
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/upcoming-classes")
+                        .param("lat", "37.5")
+                        .param("lng", "127.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].crossfitBox.id").value(1))
+                .andExpect(jsonPath("$.data[0].classes[0].startTime").value("19:00"))
+                .andExpect(jsonPath("$.data[0].classes[0].minutesUntil").value(30));
+    }
+
+    @Test
+    @DisplayName("여러 크로스핏박스 시간표 일괄 조회")
+    void getCrossfitBoxSchedules() throws Exception {
         // given
-        ScheduleListDto dto = ScheduleListDto.builder()
-                .crossfitBoxId(1L)
-                .schedules(List.of())
+        ScheduleDto monday = ScheduleDto.builder()
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .isClosed(false)
+                .timeSlots(List.of())
                 .build();
+        when(scheduleService.getSchedules(List.of(1L, 2L), DayOfWeek.MONDAY)).thenReturn(List.of(
+                ScheduleListDto.builder().crossfitBoxId(1L).schedules(List.of(monday)).build(),
+                ScheduleListDto.builder().crossfitBoxId(2L).schedules(List.of(monday)).build()));
+
+        // when & then
+        mockMvc.perform(get("/crossfit-boxes/schedules")
+                        .param("ids", "1,2")
+                        .param("day", "MONDAY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].crossfitBoxId").value(1))
+                .andExpect(jsonPath("$.data[1].crossfitBoxId").value(2))
+                .andExpect(jsonPath("$.data[1].schedules[0].dayOfWeek").value("MONDAY"));
+    }
 
-        when(scheduleService.getSchedule(1L)).thenReturn(dto);
+    @Test
+    @DisplayName("크로스핏박스 시간표 조회")
+    void getCrossfitBoxSchedule() throws Exception {
+        // given
+        when(scheduleCacheService.getScheduleResponse(1L))
+                .thenReturn("{\"status\":200,\"code\":\"S001\",\"message\":\"시간표 조회 성공\",\"data\":{\"crossfitBoxId\":1,\"schedules\":[]}}");
 
         // when & then
         mockMvc.perform(get("/crossfit-boxes/1/schedule"))
                 .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("S001"))
                 .andExpect(jsonPath("$.data.crossfitBoxId").value(1));
     }
 }
@@ -0,0 +1,65 @@
+package com.drop.unit.domain.crossfitbox.event;
+
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangeCoalescer;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxChangeCoalescerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CrossfitBoxChangeCoalescer crossfitBoxChangeCoalescer;
+
+    @AfterEach
+    void tearDown() {
+        crossfitBoxChangeCoalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("모인 변경은 로컬/원격별로 한 번씩만 발행")
+    void flush_publishesOneEventPerOrigin() {
+        // given
+        crossfitBoxChangeCoalescer.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(1L));
+        crossfitBoxChangeCoalescer.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(2L));
+        crossfitBoxChangeCoalescer.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(1L));
+        crossfitBoxChangeCoalescer.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(3L, true));
+
+        // when
+        crossfitBoxChangeCoalescer.flush();
+
+        // then
+        ArgumentCaptor<CrossfitBoxesChangedEvent> captor = ArgumentCaptor.forClass(CrossfitBoxesChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isEqualTo(new CrossfitBoxesChangedEvent(Set.of(1L, 2L), false));
+        assertThat(captor.getAllValues().get(1)).isEqualTo(new CrossfitBoxesChangedEvent(Set.of(3L), true));
+    }
+
+    @Test
+    @DisplayName("모인 변경이 없으면 발행하지 않음")
+    void flush_empty() {
+        // when
+        crossfitBoxChangeCoalescer.flush();
+
+        // then
+        verifyNoInteractions(eventPublisher);
+    }
+}
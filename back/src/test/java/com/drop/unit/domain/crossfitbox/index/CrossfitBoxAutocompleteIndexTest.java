@@ -0,0 +1,106 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxAutocompleteIndex;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxAutocompleteIndexTest {
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @InjectMocks
+    private CrossfitBoxAutocompleteIndex crossfitBoxAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(crossfitBoxRepository.findAllViews()).thenReturn(List.of(
+                box(1L, "크로스핏 강남"),
+                box(2L, "강남 크로스핏"),
+                box(3L, "CrossFit Hongdae"),
+                box(4L, "크로스핏 홍대"),
+                box(5L, "강남")));
+        crossfitBoxAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 자동완성")
+    void suggest_chosung() {
+        // when
+        List<CrossfitBoxSuggestionDto> result = crossfitBoxAutocompleteIndex.suggest("ㅋㄹㅅㅍ", 10);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxSuggestionDto::getId).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(받침이 다음 초성이 될 글자)도 접두어로 일치")
+    void suggest_partialSyllable() {
+        // when
+        List<CrossfitBoxSuggestionDto> result = crossfitBoxAutocompleteIndex.suggest("크롯", 10);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxSuggestionDto::getId).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("두 번째 단어부터 입력해도 일치하며 짧은 이름이 먼저 옴")
+    void suggest_wordPrefix() {
+        // when
+        List<CrossfitBoxSuggestionDto> result = crossfitBoxAutocompleteIndex.suggest("강남", 2);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxSuggestionDto::getId).containsExactly(5L, 1L);
+        assertThat(crossfitBoxAutocompleteIndex.suggest("홍대", 10))
+                .extracting(CrossfitBoxSuggestionDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 편집 거리 이내이면 자동완성")
+    void suggest_typo() {
+        // when
+        List<CrossfitBoxSuggestionDto> korean = crossfitBoxAutocompleteIndex.suggest("크로스픽", 10);
+        List<CrossfitBoxSuggestionDto> english = crossfitBoxAutocompleteIndex.suggest("crosfit", 10);
+
+        // then
+        assertThat(korean).extracting(CrossfitBoxSuggestionDto::getId).containsExactly(1L, 2L, 4L);
+        assertThat(english).extracting(CrossfitBoxSuggestionDto::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("박스 변경 시 트라이를 다시 구성")
+    void onCrossfitBoxesChanged() {
+        // given
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(5L))).thenReturn(List.of(box(5L, "홍대 박스")));
+
+        // when
+        crossfitBoxAutocompleteIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(5L), false));
+
+        // then
+        assertThat(crossfitBoxAutocompleteIndex.suggest("ㅎㄷ", 10))
+                .extracting(CrossfitBoxSuggestionDto::getId).containsExactly(5L, 4L);
+        assertThat(crossfitBoxAutocompleteIndex.suggest("강남", 10))
+                .extracting(CrossfitBoxSuggestionDto::getId).containsExactly(1L, 2L);
+    }
+
+    private static CrossfitBoxView box(Long id, String name) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, name, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxClusterIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxClusterIndexTest {
+
+    @Mock
+    private CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    @InjectMocks
+    private CrossfitBoxClusterIndex crossfitBoxClusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(crossfitBoxSpatialIndex.getVersion()).thenReturn(1L);
+        when(crossfitBoxSpatialIndex.findAll()).thenReturn(List.of(
+                box(1L, 37.4979, 127.0276),
+                box(2L, 37.4985, 127.0280),
+                box(3L, 37.5563, 126.9220),
+                box(4L, 35.1796, 129.0756)));
+    }
+
+    @Test
+    @DisplayName("낮은 줌 레벨에서는 가까운 박스들이 하나의 클러스터로 합쳐짐")
+    void getClusters_lowZoom() {
+        // when
+        List<CrossfitBoxClusterDto> clusters = crossfitBoxClusterIndex.getClusters(33.0, 124.0, 39.0, 131.0, 5);
+
+        // then
+        assertThat(clusters).extracting(CrossfitBoxClusterDto::getCount).containsExactlyInAnyOrder(3, 1);
+        assertThat(clusters.stream().mapToInt(CrossfitBoxClusterDto::getCount).sum()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("최대 클러스터링 줌 레벨에서는 인접한 박스만 합쳐짐")
+    void getClusters_maxZoom() {
+        // when
+        List<CrossfitBoxClusterDto> clusters = crossfitBoxClusterIndex.getClusters(
+                37.4, 126.8, 37.7, 127.2, CrossfitBoxClusterIndex.MAX_CLUSTER_ZOOM);
+
+        // then
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters).extracting(CrossfitBoxClusterDto::getCount).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    @DisplayName("공간 인덱스 버전이 같으면 클러스터를 다시 계산하지 않음")
+    void getClusters_reusesLevelsForSameVersion() {
+        // when
+        crossfitBoxClusterIndex.getClusters(33.0, 124.0, 39.0, 131.0, 5);
+        crossfitBoxClusterIndex.getClusters(33.0, 124.0, 39.0, 131.0, 8);
+
+        // then
+        verify(crossfitBoxSpatialIndex, times(1)).findAll();
+    }
+
+    private static CrossfitBoxDto box(Long id, Double latitude, Double longitude) {
+        return CrossfitBoxDto.builder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
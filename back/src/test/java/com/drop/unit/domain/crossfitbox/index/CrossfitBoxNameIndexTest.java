@@ -0,0 +1,109 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxNameIndex;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxNameIndexTest {
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @InjectMocks
+    private CrossfitBoxNameIndex crossfitBoxNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(crossfitBoxRepository.findAllViews()).thenReturn(List.of(
+                box(1L, "크로스핏 강남"),
+                box(2L, "강남 크로스핏"),
+                box(3L, "CrossFit Hongdae"),
+                box(4L, "강남")));
+        crossfitBoxNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("공백과 대소문자를 무시하고 이름에 포함된 박스를 순위순으로 검색")
+    void search_ranked() {
+        // when
+        List<CrossfitBoxDto> result = crossfitBoxNameIndex.search("강 남", 10);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxDto::getId).containsExactly(4L, 2L, 1L);
+        assertThat(crossfitBoxNameIndex.search("crossfithong", 10))
+                .extracting(CrossfitBoxDto::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색과 조회 개수 제한")
+    void search_singleCharacterWithLimit() {
+        // when
+        List<CrossfitBoxDto> result = crossfitBoxNameIndex.search("핏", 1);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("검색어가 연속으로 포함된 박스만 검색")
+    void search_verifiesContainment() {
+        // when
+        List<CrossfitBoxDto> result = crossfitBoxNameIndex.search("강남크로스", 10);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("박스 변경 시 해당 박스의 색인만 갱신")
+    void onCrossfitBoxesChanged() {
+        // given
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(4L))).thenReturn(List.of(box(4L, "홍대 박스")));
+
+        // when
+        crossfitBoxNameIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(4L), false));
+
+        // then
+        assertThat(crossfitBoxNameIndex.search("강남", 10)).extracting(CrossfitBoxDto::getId).containsExactly(2L, 1L);
+        assertThat(crossfitBoxNameIndex.search("홍대", 10)).extracting(CrossfitBoxDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("재구축 중에 반영된 변경은 오래된 전체 조회 결과로 덮이지 않음")
+    void rebuild_replaysChangesDuringRebuild() {
+        // given
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(4L))).thenReturn(List.of(box(4L, "홍대 박스")));
+        when(crossfitBoxRepository.findAllViews()).thenAnswer(invocation -> {
+            crossfitBoxNameIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(4L), false));
+            return List.of(box(1L, "크로스핏 강남"), box(4L, "강남"));
+        });
+
+        // when
+        crossfitBoxNameIndex.rebuild();
+
+        // then
+        assertThat(crossfitBoxNameIndex.search("홍대", 10)).extracting(CrossfitBoxDto::getId).containsExactly(4L);
+        assertThat(crossfitBoxNameIndex.search("강남", 10)).extracting(CrossfitBoxDto::getId).containsExactly(1L);
+    }
+
+    private static CrossfitBoxView box(Long id, String name) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, name, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSearchIndex;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxSearchIndexTest {
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @InjectMocks
+    private CrossfitBoxSearchIndex crossfitBoxSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(crossfitBoxRepository.findAllViews()).thenReturn(List.of(
+                box(1L, "크로스핏 강남", "서울 강남구 테헤란로 1", null, 37.50, 127.03),
+                box(2L, "크로스핏 라이즈", "서울 강남구 역삼로 10", "서울특별시 강남구 역삼동 123", 37.49, 127.04),
+                box(3L, "크로스핏 홍대", "서울 마포구 양화로 5", null, 37.55, 126.92),
+                box(4L, "강남크로스핏", null, null, null, null),
+                box(5L, "바벨 클럽", "서울 강남구 도산대로 3", null, 37.52, 127.03)));
+        crossfitBoxSearchIndex.loadRegions();
+        crossfitBoxSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("이름과 행정구역을 함께 검색하며 전체 일치가 가장 앞에 옴")
+    void search_nameAndRegion() {
+        // when
+        List<CrossfitBoxSearchIndex.Hit> hits = crossfitBoxSearchIndex.search("강남 크로스핏", null, null);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.box().getId()).containsExactly(4L, 1L, 2L);
+        assertThat(hits.get(0).matchType()).isEqualTo(CrossfitBoxSearchIndex.MatchType.EXACT);
+        assertThat(hits.get(1).matchType()).isEqualTo(CrossfitBoxSearchIndex.MatchType.TOKEN);
+    }
+
+    @Test
+    @DisplayName("지번 주소의 동 이름 약칭으로 검색")
+    void search_regionAlias() {
+        // when
+        List<CrossfitBoxSearchIndex.Hit> hits = crossfitBoxSearchIndex.search("역삼", null, null);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.box().getId()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("붙여 쓴 이름의 뒷부분과 오타도 검색")
+    void search_infixAndFuzzy() {
+        // when
+        List<CrossfitBoxSearchIndex.Hit> infix = crossfitBoxSearchIndex.search("크로스핏 강남", null, null);
+        List<CrossfitBoxSearchIndex.Hit> fuzzy = crossfitBoxSearchIndex.search("크로스핏 홍데", null, null);
+
+        // then
+        assertThat(infix).extracting(hit -> hit.box().getId()).contains(1L, 4L);
+        assertThat(fuzzy).extracting(hit -> hit.box().getId()).containsExactly(3L);
+        assertThat(fuzzy.get(0).matchType()).isEqualTo(CrossfitBoxSearchIndex.MatchType.FUZZY);
+    }
+
+    @Test
+    @DisplayName("한 글자가 빠지거나 더해진 오타도 검색")
+    void search_fuzzyInsertionAndDeletion() {
+        // when
+        List<CrossfitBoxSearchIndex.Hit> missing = crossfitBoxSearchIndex.search("라즈", null, null);
+        List<CrossfitBoxSearchIndex.Hit> extra = crossfitBoxSearchIndex.search("라이이즈", null, null);
+
+        // then
+        assertThat(missing).extracting(hit -> hit.box().getId()).containsExactly(2L);
+        assertThat(extra).extracting(hit -> hit.box().getId()).containsExactly(2L);
+        assertThat(extra.get(0).matchType()).isEqualTo(CrossfitBoxSearchIndex.MatchType.FUZZY);
+    }
+
+    @Test
+    @DisplayName("좌표를 보내면 같은 유형 안에서 가까운 박스가 먼저 옴")
+    void search_proximityBoost() {
+        // when
+        List<CrossfitBoxSearchIndex.Hit> hits = crossfitBoxSearchIndex.search("크로스핏", 37.55, 126.92);
+
+        // then
+        assertThat(hits.get(0).box().getId()).isEqualTo(3L);
+        assertThat(hits.get(0).distanceKm()).isZero();
+    }
+
+    @Test
+    @DisplayName("박스 변경 시 색인을 다시 구성")
+    void onCrossfitBoxesChanged() {
+        // given
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(5L))).thenReturn(List.of());
+
+        // when
+        crossfitBoxSearchIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(5L), false));
+
+        // then
+        assertThat(crossfitBoxSearchIndex.search("바벨", null, null)).isEmpty();
+    }
+
+    private static CrossfitBoxView box(Long id, String name, String addressLine1, String jibunAddress,
+                                       Double latitude, Double longitude) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, name, null, null, null,
+                null, null, addressLine1, null, jibunAddress, null, null, latitude, longitude, null, null, null);
+    }
+}
@@ -0,0 +1,207 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxIndexedEvent;
+import com.drop.domain.crossfitbox.event.CrossfitBoxesChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxSpatialIndexTest {
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    private CrossfitBoxView gangnam;
+    private CrossfitBoxView hongdae;
+    private CrossfitBoxView busan;
+
+    @BeforeEach
+    void setUp() {
+        gangnam = box(1L, "강남 크로스핏", 37.4979, 127.0276);
+        hongdae = box(2L, "홍대 크로스핏", 37.5563, 126.9220);
+        busan = box(3L, "부산 크로스핏", 35.1796, 129.0756);
+    }
+
+    @Test
+    @DisplayName("인덱스 구축 전에는 준비되지 않은 상태")
+    void notReadyBeforeRebuild() {
+        assertThat(crossfitBoxSpatialIndex.isReady()).isFalse();
+        assertThat(crossfitBoxSpatialIndex.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경계 내 크로스핏박스만 조회")
+    void findByBounds() {
+        // given
+        givenIndexed(gangnam, hongdae, busan);
+
+        // when
+        List<CrossfitBoxDto> seoul = crossfitBoxSpatialIndex.findByBounds(37.4, 126.8, 37.7, 127.2);
+        List<CrossfitBoxDto> gangnamOnly = crossfitBoxSpatialIndex.findByBounds(37.49, 127.0, 37.51, 127.05);
+
+        // then
+        assertThat(crossfitBoxSpatialIndex.isReady()).isTrue();
+        assertThat(crossfitBoxSpatialIndex.findAll()).hasSize(3);
+        assertThat(seoul).extracting(CrossfitBoxDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(gangnamOnly).extracting(CrossfitBoxDto::getId).containsExactly(1L);
+        assertThat(crossfitBoxSpatialIndex.countByBounds(34.0, 125.0, 39.0, 130.0)).isEqualTo(3);
+        assertThat(crossfitBoxSpatialIndex.countByBounds(38.0, 126.0, 37.0, 128.0)).isZero();
+    }
+
+    @Test
+    @DisplayName("반경 집계는 경계 사각형이 아닌 대원 거리 기준")
+    void countWithinRadius() {
+        // given
+        CrossfitBoxView corner = box(4L, "모서리 크로스핏", 37.4979 + 0.04, 127.0276 + 0.05);
+        CrossfitBoxView near = box(5L, "역삼 크로스핏", 37.5006, 127.0364);
+        givenIndexed(gangnam, hongdae, corner, near);
+
+        // when
+        int count = crossfitBoxSpatialIndex.countWithinRadius(37.4979, 127.0276, 5.0);
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가까운 순으로 k개의 박스와 거리 반환")
+    void findNearest() {
+        // given
+        CrossfitBoxView yeoksam = box(4L, "역삼 크로스핏", 37.5006, 127.0364);
+        givenIndexed(gangnam, hongdae, busan, yeoksam);
+
+        // when
+        List<CrossfitBoxDistanceDto> nearest = crossfitBoxSpatialIndex.findNearest(37.4979, 127.0276, 3);
+
+        // then
+        assertThat(nearest).extracting(d -> d.getCrossfitBox().getId()).containsExactly(1L, 4L, 2L);
+        assertThat(nearest.get(0).getDistanceKm()).isZero();
+        assertThat(nearest).isSortedAccordingTo((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm()));
+    }
+
+    @Test
+    @DisplayName("반경 내 박스만 가까운 순으로 반환")
+    void findWithinRadius() {
+        // given
+        CrossfitBoxView yeoksam = box(4L, "역삼 크로스핏", 37.5006, 127.0364);
+        givenIndexed(hongdae, yeoksam, gangnam, busan);
+
+        // when
+        List<CrossfitBoxDistanceDto> within = crossfitBoxSpatialIndex.findWithinRadius(37.4979, 127.0276, 5);
+
+        // then
+        assertThat(within).extracting(d -> d.getCrossfitBox().getId()).containsExactly(1L, 4L);
+        assertThat(within.get(1).getDistanceKm()).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("박스 수보다 k가 크면 전체를 거리순으로 반환")
+    void findNearest_kLargerThanSize() {
+        // given
+        givenIndexed(gangnam, busan);
+
+        // when
+        List<CrossfitBoxDistanceDto> nearest = crossfitBoxSpatialIndex.findNearest(35.0, 129.0, 10);
+
+        // then
+        assertThat(nearest).extracting(d -> d.getCrossfitBox().getId()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 수신 시 좌표가 사라진 박스는 인덱스에서 제거")
+    void onCrossfitBoxesChanged_removesBoxWithoutLocation() {
+        // given
+        givenIndexed(gangnam, hongdae);
+        CrossfitBoxView movedOut = box(2L, "홍대 크로스핏", null, null);
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(2L))).thenReturn(List.of(movedOut));
+
+        // when
+        crossfitBoxSpatialIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(2L), false));
+
+        // then
+        assertThat(crossfitBoxSpatialIndex.findAll()).extracting(CrossfitBoxDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 수신 시 이동한 박스의 좌표 갱신")
+    void onCrossfitBoxesChanged_updatesCoordinates() {
+        // given
+        givenIndexed(gangnam);
+        CrossfitBoxView moved = box(1L, "강남 크로스핏", 35.18, 129.07);
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(1L))).thenReturn(List.of(moved));
+
+        // when
+        crossfitBoxSpatialIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(1L), false));
+
+        // then
+        assertThat(crossfitBoxSpatialIndex.countByBounds(37.4, 126.8, 37.7, 127.2)).isZero();
+        assertThat(crossfitBoxSpatialIndex.countByBounds(35.0, 129.0, 35.3, 129.2)).isEqualTo(1);
+
+        ArgumentCaptor<CrossfitBoxIndexedEvent> captor = ArgumentCaptor.forClass(CrossfitBoxIndexedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().changes()).hasSize(1);
+        assertThat(captor.getValue().changes().get(0).previous().getLatitude()).isEqualTo(37.4979);
+        assertThat(captor.getValue().changes().get(0).current().getLatitude()).isEqualTo(35.18);
+    }
+
+    @Test
+    @DisplayName("변경 묶음은 한 번에 조회해 추가/이동/제거를 함께 반영")
+    void onCrossfitBoxesChanged_appliesBatch() {
+        // given
+        givenIndexed(gangnam, hongdae, busan);
+        CrossfitBoxView created = box(4L, "판교 크로스핏", 37.3947, 127.1112);
+        CrossfitBoxView moved = box(3L, "부산 크로스핏", 37.5000, 127.0300);
+        when(crossfitBoxRepository.findViewsByIdIn(Set.of(2L, 3L, 4L))).thenReturn(List.of(created, moved));
+
+        // when
+        crossfitBoxSpatialIndex.onCrossfitBoxesChanged(new CrossfitBoxesChangedEvent(Set.of(2L, 3L, 4L), false));
+
+        // then
+        assertThat(crossfitBoxSpatialIndex.findAll()).extracting(CrossfitBoxDto::getId).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(crossfitBoxSpatialIndex.findByBounds(37.49, 127.0, 37.51, 127.05))
+                .extracting(CrossfitBoxDto::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(crossfitBoxSpatialIndex.findByBounds(37.3, 127.1, 37.4, 127.2))
+                .extracting(CrossfitBoxDto::getId).containsExactly(4L);
+        assertThat(crossfitBoxSpatialIndex.countByBounds(35.0, 129.0, 35.3, 129.2)).isZero();
+
+        ArgumentCaptor<CrossfitBoxIndexedEvent> captor = ArgumentCaptor.forClass(CrossfitBoxIndexedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().changes()).hasSize(3);
+        assertThat(captor.getValue().remote()).isFalse();
+    }
+
+    private void givenIndexed(CrossfitBoxView... boxes) {
+        when(crossfitBoxRepository.findAllViewsWithLocation()).thenReturn(List.of(boxes));
+        crossfitBoxSpatialIndex.rebuild();
+    }
+
+    private static CrossfitBoxView box(Long id, String name, Double latitude, Double longitude) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, name, null, null, null,
+                null, null, null, null, null, null, null, latitude, longitude, null, null, null);
+    }
+}
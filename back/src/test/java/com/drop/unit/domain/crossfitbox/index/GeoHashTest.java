@@ -0,0 +1,47 @@
+package com.drop.unit.domain.crossfitbox.index;
+
+import com.drop.domain.crossfitbox.index.GeoHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("위경도를 geohash로 인코딩")
+    void encode() {
+        // when
+        String geohash = GeoHash.encode(57.64911, 10.40744, 11);
+
+        // then
+        assertThat(geohash).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.4979, 127.0276)).hasSize(GeoHash.PRECISION).startsWith("wydm");
+    }
+
+    @Test
+    @DisplayName("경계 사각형을 덮는 셀은 최대 4개이며 모든 꼭짓점을 포함")
+    void coveringCells() {
+        // when
+        List<String> cells = GeoHash.coveringCells(37.49, 126.99, 37.51, 127.01);
+
+        // then
+        assertThat(cells).isNotEmpty().hasSizeLessThanOrEqualTo(4);
+        for (double[] corner : new double[][]{{37.49, 126.99}, {37.49, 127.01}, {37.51, 126.99}, {37.51, 127.01}}) {
+            String geohash = GeoHash.encode(corner[0], corner[1]);
+            assertThat(cells).anyMatch(geohash::startsWith);
+        }
+    }
+
+    @Test
+    @DisplayName("가장 큰 셀보다 넓은 경계는 빈 접두어 하나로 전체를 덮음")
+    void coveringCells_tooLarge() {
+        // when
+        List<String> cells = GeoHash.coveringCells(-60.0, -120.0, 60.0, 120.0);
+
+        // then
+        assertThat(cells).containsExactly("");
+    }
+}
@@ -0,0 +1,128 @@
+package com.drop.unit.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.data.CrossfitBoxChange;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxChangesDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxChangeRepository;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import com.drop.domain.crossfitbox.service.CrossfitBoxChangeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxChangeServiceTest {
+
+    @Mock
+    private CrossfitBoxChangeRepository crossfitBoxChangeRepository;
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @InjectMocks
+    private CrossfitBoxChangeService crossfitBoxChangeService;
+
+    @Test
+    @DisplayName("로컬 변경 이벤트는 변경 로그로 기록하고 다른 파드의 이벤트는 무시")
+    void onCrossfitBoxChanged() {
+        // when
+        crossfitBoxChangeService.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(1L));
+        crossfitBoxChangeService.onCrossfitBoxChanged(new CrossfitBoxChangedEvent(2L, true));
+
+        // then
+        verify(crossfitBoxChangeRepository, times(1)).save(any(CrossfitBoxChange.class));
+    }
+
+    @Test
+    @DisplayName("since 없이 요청하면 전체 목록과 현재 버전 반환")
+    void getChanges_fullSync() {
+        // given
+        when(crossfitBoxChangeRepository.findSettledVersion(any())).thenReturn(42L);
+        when(crossfitBoxChangeRepository.findIdsAfter(42L)).thenReturn(List.of());
+        when(crossfitBoxRepository.findAllViewsWithLocation()).thenReturn(List.of(view(1L, 37.5, 127.0)));
+
+        // when
+        CrossfitBoxChangesDto result = crossfitBoxChangeService.getChanges(null);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(42L);
+        assertThat(result.getFullSync()).isTrue();
+        assertThat(result.getUpserts()).hasSize(1);
+        assertThat(result.getDeletions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("since 이후 변경된 박스만 upsert/삭제로 구분해 반환")
+    void getChanges_delta() {
+        // given
+        CrossfitBoxView located = view(1L, 37.5, 127.0);
+        CrossfitBoxView unlocated = view(2L, null, null);
+
+        when(crossfitBoxChangeRepository.findSettledVersion(any())).thenReturn(12L);
+        when(crossfitBoxChangeRepository.findIdsAfter(12L)).thenReturn(List.of(13L, 14L, 15L));
+        when(crossfitBoxChangeRepository.findOldestVersion()).thenReturn(1L);
+        when(crossfitBoxChangeRepository.findChangedCrossfitBoxIds(10L, 15L)).thenReturn(List.of(1L, 2L, 3L));
+        when(crossfitBoxRepository.findViewsByIdIn(any())).thenReturn(List.of(located, unlocated));
+
+        // when
+        CrossfitBoxChangesDto result = crossfitBoxChangeService.getChanges(10L);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(15L);
+        assertThat(result.getFullSync()).isFalse();
+        assertThat(result.getUpserts()).extracting(CrossfitBoxDto::getId).containsExactly(1L);
+        assertThat(result.getDeletions()).containsExactlyInAnyOrder(2L, 3L);
+        verify(crossfitBoxRepository, never()).findAllViewsWithLocation();
+    }
+
+    @Test
+    @DisplayName("이미 정리된 구간의 버전을 요청하면 전체 동기화")
+    void getChanges_prunedVersion() {
+        // given
+        when(crossfitBoxChangeRepository.findSettledVersion(any())).thenReturn(500L);
+        when(crossfitBoxChangeRepository.findIdsAfter(500L)).thenReturn(List.of());
+        when(crossfitBoxChangeRepository.findOldestVersion()).thenReturn(300L);
+        when(crossfitBoxRepository.findAllViewsWithLocation()).thenReturn(List.of());
+
+        // when
+        CrossfitBoxChangesDto result = crossfitBoxChangeService.getChanges(100L);
+
+        // then
+        assertThat(result.getFullSync()).isTrue();
+        verify(crossfitBoxChangeRepository, never()).findChangedCrossfitBoxIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("아직 커밋되지 않았을 수 있는 빈 ID 앞까지만 버전으로 반환")
+    void getChanges_stopsBeforeRecentGap() {
+        // given
+        when(crossfitBoxChangeRepository.findSettledVersion(any())).thenReturn(10L);
+        when(crossfitBoxChangeRepository.findIdsAfter(10L)).thenReturn(List.of(11L, 12L, 14L, 15L));
+        when(crossfitBoxChangeRepository.findOldestVersion()).thenReturn(1L);
+        when(crossfitBoxChangeRepository.findChangedCrossfitBoxIds(10L, 12L)).thenReturn(List.of());
+
+        // when
+        CrossfitBoxChangesDto result = crossfitBoxChangeService.getChanges(10L);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(12L);
+        assertThat(result.getFullSync()).isFalse();
+        verify(crossfitBoxChangeRepository).findChangedCrossfitBoxIds(10L, 12L);
+    }
+
+    private static CrossfitBoxView view(Long id, Double latitude, Double longitude) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, null, null, null, null,
+                null, null, null, null, null, null, null, latitude, longitude, null, null, null);
+    }
+}
@@ -0,0 +1,152 @@
+package com.drop.unit.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.drop.domain.crossfitbox.service.CrossfitBoxMapPayloadService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxMapPayloadServiceTest {
+
+    @Mock
+    private CrossfitBoxService crossfitBoxService;
+
+    @Mock
+    private CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CrossfitBoxMapPayloadService crossfitBoxMapPayloadService;
+
+    private final List<CrossfitBoxDto> boxes = List.of(
+            box(7L, "강남 크로스핏", 37.4979, 127.0276),
+            box(3L, "홍대 크로스핏", 37.5563, 126.9220));
+
+    @BeforeEach
+    void setUp() {
+        crossfitBoxMapPayloadService = new CrossfitBoxMapPayloadService(crossfitBoxService, crossfitBoxSpatialIndex, objectMapper);
+    }
+
+    @Test
+    @DisplayName("columnar JSON은 병렬 배열로 인코딩")
+    void getColumnarJson() throws Exception {
+        // given
+        givenIndexVersion(1L);
+
+        // when
+        CrossfitBoxMapPayloadService.MapPayload payload = crossfitBoxMapPayloadService.getColumnarJson();
+
+        // then
+        JsonNode json = objectMapper.readTree(payload.body());
+        assertThat(json.get("ids")).hasSize(2);
+        assertThat(json.get("lat")).hasSize(2);
+        assertThat(json.get("lng")).hasSize(2);
+        assertThat(json.get("names")).hasSize(2);
+        assertThat(json.has("address")).isFalse();
+        assertThat(payload.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("binary는 델타/고정소수점으로 인코딩되어 복원 가능")
+    void getBinary_roundTrip() {
+        // given
+        givenIndexVersion(1L);
+
+        // when
+        ByteBuffer buffer = ByteBuffer.wrap(crossfitBoxMapPayloadService.getBinary().body());
+
+        // then
+        byte[] magic = new byte[4];
+        buffer.get(magic);
+        assertThat(new String(magic, StandardCharsets.US_ASCII)).isEqualTo("DRM1");
+        int count = (int) readVarint(buffer);
+        assertThat(count).isEqualTo(2);
+
+        long[] ids = new long[count];
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        long id = 0;
+        for (int i = 0; i < count; i++) {
+            ids[i] = id += unzigzag(readVarint(buffer));
+        }
+        long lat = 0;
+        for (int i = 0; i < count; i++) {
+            lats[i] = (lat += unzigzag(readVarint(buffer))) / 1_000_000.0;
+        }
+        long lng = 0;
+        for (int i = 0; i < count; i++) {
+            lngs[i] = (lng += unzigzag(readVarint(buffer))) / 1_000_000.0;
+        }
+        byte[] name = new byte[(int) readVarint(buffer)];
+        buffer.get(name);
+
+        assertThat(ids).containsExactlyInAnyOrder(7L, 3L);
+        int gangnam = ids[0] == 7L ? 0 : 1;
+        assertThat(lats[gangnam]).isEqualTo(37.4979);
+        assertThat(lngs[gangnam]).isEqualTo(127.0276);
+        assertThat(new String(name, StandardCharsets.UTF_8)).isIn("강남 크로스핏", "홍대 크로스핏");
+    }
+
+    @Test
+    @DisplayName("같은 데이터 버전에서는 한 번만 인코딩")
+    void encodesOncePerVersion() {
+        // given
+        givenIndexVersion(1L);
+
+        // when
+        CrossfitBoxMapPayloadService.MapPayload first = crossfitBoxMapPayloadService.getBinary();
+        CrossfitBoxMapPayloadService.MapPayload second = crossfitBoxMapPayloadService.getBinary();
+        crossfitBoxMapPayloadService.getColumnarJson();
+
+        // then
+        assertThat(second.body()).isSameAs(first.body());
+        verify(crossfitBoxSpatialIndex, times(1)).findAll();
+        verifyNoInteractions(crossfitBoxService);
+    }
+
+    private void givenIndexVersion(long version) {
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.getVersion()).thenReturn(version);
+        when(crossfitBoxSpatialIndex.findAll()).thenReturn(boxes);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static CrossfitBoxDto box(Long id, String name, Double latitude, Double longitude) {
+        return CrossfitBoxDto.builder()
+                .id(id)
+                .name(name)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.drop.unit.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchHitDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSearchPageDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSearchIndex;
+import com.drop.domain.crossfitbox.service.CrossfitBoxSearchService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.global.code.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxSearchServiceTest {
+
+    @Mock
+    private CrossfitBoxSearchIndex crossfitBoxSearchIndex;
+
+    @Mock
+    private CrossfitBoxService crossfitBoxService;
+
+    @InjectMocks
+    private CrossfitBoxSearchService crossfitBoxSearchService;
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 조회")
+    void search_cursorPagination() {
+        // given
+        List<CrossfitBoxSearchIndex.Hit> hits = List.of(
+                hit(4L, 107.0, CrossfitBoxSearchIndex.MatchType.EXACT),
+                hit(1L, 60.0, CrossfitBoxSearchIndex.MatchType.TOKEN),
+                hit(2L, 60.0, CrossfitBoxSearchIndex.MatchType.TOKEN),
+                hit(3L, 58.0, CrossfitBoxSearchIndex.MatchType.TOKEN));
+        when(crossfitBoxSearchIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSearchIndex.search("강남 크로스핏", null, null)).thenReturn(hits);
+
+        // when
+        CrossfitBoxSearchPageDto first = crossfitBoxSearchService.search("강남 크로스핏", null, null, null, 2);
+        CrossfitBoxSearchPageDto second = crossfitBoxSearchService.search("강남 크로스핏", null, null, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getResults()).extracting(result -> result.getCrossfitBox().getId()).containsExactly(4L, 1L);
+        assertThat(first.getResults().get(0).getMatchType()).isEqualTo("EXACT");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getResults()).extracting(result -> result.getCrossfitBox().getId()).containsExactly(2L, 3L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 항목이 사라져도 정렬 순서상 다음 항목부터 조회")
+    void search_cursorAfterRemovedHit() {
+        // given
+        List<CrossfitBoxSearchIndex.Hit> before = List.of(
+                hit(4L, 107.0, CrossfitBoxSearchIndex.MatchType.EXACT),
+                hit(1L, 60.0, CrossfitBoxSearchIndex.MatchType.TOKEN),
+                hit(2L, 60.0, CrossfitBoxSearchIndex.MatchType.TOKEN),
+                hit(3L, 58.0, CrossfitBoxSearchIndex.MatchType.TOKEN));
+        List<CrossfitBoxSearchIndex.Hit> after = List.of(
+                hit(4L, 107.0, CrossfitBoxSearchIndex.MatchType.EXACT),
+                hit(2L, 60.0, CrossfitBoxSearchIndex.MatchType.TOKEN),
+                hit(3L, 58.0, CrossfitBoxSearchIndex.MatchType.TOKEN));
+        when(crossfitBoxSearchIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSearchIndex.search("강남 크로스핏", null, null)).thenReturn(before, after);
+
+        // when
+        CrossfitBoxSearchPageDto first = crossfitBoxSearchService.search("강남 크로스핏", null, null, null, 2);
+        CrossfitBoxSearchPageDto second = crossfitBoxSearchService.search("강남 크로스핏", null, null, first.getNextCursor(), 2);
+
+        // then
+        assertThat(second.getResults()).extracting(result -> result.getCrossfitBox().getId()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외 발생")
+    void search_invalidCursor() {
+        // given
+        when(crossfitBoxSearchIndex.isReady()).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> crossfitBoxSearchService.search("강남", null, null, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 좌표가 올바르지 않으면 예외 발생")
+    void search_invalidParameters() {
+        // when & then
+        assertThatThrownBy(() -> crossfitBoxSearchService.search("강남", null, null, null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> crossfitBoxSearchService.search("강남", 37.5, null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("위도와 경도는 함께 입력해야 합니다.");
+        verifyNoInteractions(crossfitBoxSearchIndex);
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 이름 검색으로 대체")
+    void search_fallbackToNameSearch() {
+        // given
+        CrossfitBoxDto box = CrossfitBoxDto.builder().id(1L).name("크로스핏 강남").build();
+        when(crossfitBoxSearchIndex.isReady()).thenReturn(false);
+        when(crossfitBoxService.searchByName("강남", 20)).thenReturn(List.of(box));
+
+        // when
+        CrossfitBoxSearchPageDto page = crossfitBoxSearchService.search("강남", null, null, null, 20);
+
+        // then
+        assertThat(page.getResults()).extracting(CrossfitBoxSearchHitDto::getCrossfitBox).containsExactly(box);
+        assertThat(page.isHasNext()).isFalse();
+        verify(crossfitBoxService).searchByName("강남", 20);
+    }
+
+    private static CrossfitBoxSearchIndex.Hit hit(Long id, double score, CrossfitBoxSearchIndex.MatchType matchType) {
+        return new CrossfitBoxSearchIndex.Hit(CrossfitBoxDto.builder().id(id).build(), score, matchType, null);
+    }
+}
@@ -1,11 +1,22 @@
 package com.drop.unit.domain.crossfitbox.service;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.base.Address;
 import com.drop.domain.base.AddressDto;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxClusterListDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxCreateDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxSuggestionDto;
 import com.drop.domain.crossfitbox.dto.CrossfitBoxUpdateDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.crossfitbox.index.CrossfitBoxAutocompleteIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxClusterIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxNameIndex;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
 import com.drop.domain.crossfitbox.mapper.CrossfitBoxMapper;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.crossfitbox.service.CrossfitBoxService;
@@ -18,6 +29,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +54,27 @@ class CrossfitBoxServiceTest {
     @Mock
     private GeocodingService geocodingService;
 
+    @Mock
+    private CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    @Mock
+    private CrossfitBoxClusterIndex crossfitBoxClusterIndex;
+
+    @Mock
+    private CrossfitBoxNameIndex crossfitBoxNameIndex;
+
+    @Mock
+    private CrossfitBoxAutocompleteIndex crossfitBoxAutocompleteIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CrossfitBoxService crossfitBoxService;
 
     private CrossfitBox crossfitBox;
     private CrossfitBoxDto crossfitBoxDto;
+    private CrossfitBoxView crossfitBoxView;
 
     @BeforeEach
     void setUp() {
@@ -52,12 +82,16 @@ class CrossfitBoxServiceTest {
                 .id(1L)
                 .username("testBox")
                 .email("test@box.com")
-                .password("password")
+                .credential(Credential.of("password"))
                 .role(UserRole.GYM)
                 .name("Test CrossfitBox")
                 .phoneNumber("010-1234-5678")
                 .build();
 
+        crossfitBoxView = new CrossfitBoxView(1L, "testBox", "test@box.com", UserRole.GYM,
+                "Test CrossfitBox", "010-1234-5678", null, null,
+                null, null, null, null, null, null, null, 37.5, 127.0, null, null, null);
+
         crossfitBoxDto = CrossfitBoxDto.builder()
                 .id(1L)
                 .username("testBox")
@@ -90,6 +124,7 @@ class CrossfitBoxServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getEmail()).isEqualTo("test@box.com");
         verify(geocodingService, never()).getCoordinates(anyString());
+        verify(eventPublisher).publishEvent(any(CrossfitBoxChangedEvent.class));
     }
 
     @Test
@@ -149,8 +184,7 @@ class CrossfitBoxServiceTest {
     @DisplayName("위치 정보가 있는 모든 크로스핏박스 조회")
     void getAllCrossfitBoxesWithLocation() {
         // given
-        when(crossfitBoxRepository.findAllWithLocation()).thenReturn(List.of(crossfitBox));
-        when(crossfitBoxMapper.toDto(crossfitBox)).thenReturn(crossfitBoxDto);
+        when(crossfitBoxRepository.findAllViewsWithLocation()).thenReturn(List.of(crossfitBoxView));
 
         // when
         List<CrossfitBoxDto> result = crossfitBoxService.getAllCrossfitBoxesWithLocation();
@@ -164,9 +198,24 @@ class CrossfitBoxServiceTest {
     @DisplayName("경계 좌표로 크로스핏박스 조회")
     void getCrossfitBoxesByBounds() {
         // given
-        when(crossfitBoxRepository.findByBounds(37.0, 126.0, 38.0, 128.0))
-                .thenReturn(List.of(crossfitBox));
-        when(crossfitBoxMapper.toDto(crossfitBox)).thenReturn(crossfitBoxDto);
+        when(crossfitBoxRepository.findViewsByBounds("wy%", "wy%", "wy%", "wy%", 37.0, 126.0, 38.0, 128.0))
+                .thenReturn(List.of(crossfitBoxView));
+
+        // when
+        List<CrossfitBoxDto> result = crossfitBoxService.getCrossfitBoxesByBounds(
+                37.0, 126.0, 38.0, 128.0);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("경계 좌표로 크로스핏박스 조회 - 공간 인덱스 사용")
+    void getCrossfitBoxesByBounds_fromSpatialIndex() {
+        // given
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.findByBounds(37.0, 126.0, 38.0, 128.0))
+                .thenReturn(List.of(crossfitBoxDto));
 
         // when
         List<CrossfitBoxDto> result = crossfitBoxService.getCrossfitBoxesByBounds(
@@ -174,14 +223,53 @@ class CrossfitBoxServiceTest {
 
         // then
         assertThat(result).hasSize(1);
+        verify(crossfitBoxRepository, never()).findViewsByBounds(anyString(), anyString(), anyString(), anyString(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("클러스터 조회 - 클러스터링 줌 레벨 이하")
+    void getCrossfitBoxClusters_lowZoom() {
+        // given
+        CrossfitBoxClusterDto cluster = CrossfitBoxClusterDto.builder()
+                .latitude(37.5)
+                .longitude(127.0)
+                .count(5)
+                .crossfitBoxIds(List.of(1L))
+                .build();
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxClusterIndex.getClusters(37.0, 126.0, 38.0, 128.0, 10)).thenReturn(List.of(cluster));
+
+        // when
+        CrossfitBoxClusterListDto result = crossfitBoxService.getCrossfitBoxClusters(37.0, 126.0, 38.0, 128.0, 10);
+
+        // then
+        assertThat(result.getClusters()).hasSize(1);
+        assertThat(result.getCrossfitBoxes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("클러스터 조회 - 높은 줌 레벨에서는 개별 박스 반환")
+    void getCrossfitBoxClusters_highZoom() {
+        // given
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.findByBounds(37.0, 126.0, 38.0, 128.0)).thenReturn(List.of(crossfitBoxDto));
+
+        // when
+        CrossfitBoxClusterListDto result = crossfitBoxService.getCrossfitBoxClusters(
+                37.0, 126.0, 38.0, 128.0, CrossfitBoxClusterIndex.MAX_CLUSTER_ZOOM + 1);
+
+        // then
+        assertThat(result.getClusters()).isEmpty();
+        assertThat(result.getCrossfitBoxes()).hasSize(1);
+        verify(crossfitBoxClusterIndex, never()).getClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
     }
 
     @Test
     @DisplayName("ID로 크로스핏박스 조회 - 성공")
     void getCrossfitBoxById_success() {
         // given
-        when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(crossfitBoxMapper.toDto(crossfitBox)).thenReturn(crossfitBoxDto);
+        when(crossfitBoxRepository.findViewById(1L)).thenReturn(Optional.of(crossfitBoxView));
 
         // when
         CrossfitBoxDto result = crossfitBoxService.getCrossfitBoxById(1L);
@@ -189,13 +277,16 @@ class CrossfitBoxServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getPassword()).isNull();
+        assertThat(result.getAddress()).isNull();
+        verify(crossfitBoxRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("ID로 크로스핏박스 조회 - 존재하지 않음")
     void getCrossfitBoxById_notFound() {
         // given
-        when(crossfitBoxRepository.findById(999L)).thenReturn(Optional.empty());
+        when(crossfitBoxRepository.findViewById(999L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> crossfitBoxService.getCrossfitBoxById(999L))
@@ -207,29 +298,80 @@ class CrossfitBoxServiceTest {
     @DisplayName("이름으로 크로스핏박스 검색 - 결과 있음")
     void searchByName_withResults() {
         // given
-        when(crossfitBoxRepository.searchByName("Test")).thenReturn(List.of(crossfitBox));
-        when(crossfitBoxMapper.toDto(crossfitBox)).thenReturn(crossfitBoxDto);
+        when(crossfitBoxRepository.searchViewsByName(eq("Test"), any(Pageable.class))).thenReturn(List.of(crossfitBoxView));
 
         // when
-        List<CrossfitBoxDto> result = crossfitBoxService.searchByName("Test");
+        List<CrossfitBoxDto> result = crossfitBoxService.searchByName("Test", 20);
 
         // then
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    @DisplayName("이름으로 크로스핏박스 검색 - 이름 색인 사용")
+    void searchByName_fromNameIndex() {
+        // given
+        when(crossfitBoxNameIndex.isReady()).thenReturn(true);
+        when(crossfitBoxNameIndex.search("Test", 20)).thenReturn(List.of(crossfitBoxDto));
+
+        // when
+        List<CrossfitBoxDto> result = crossfitBoxService.searchByName("Test", 20);
+
+        // then
+        assertThat(result).containsExactly(crossfitBoxDto);
+        verify(crossfitBoxRepository, never()).searchViewsByName(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("이름 자동완성 - 자동완성 색인 사용")
+    void autocomplete_fromIndex() {
+        // given
+        CrossfitBoxSuggestionDto suggestion = CrossfitBoxSuggestionDto.builder().id(1L).name("Test CrossfitBox").build();
+        when(crossfitBoxAutocompleteIndex.isReady()).thenReturn(true);
+        when(crossfitBoxAutocompleteIndex.suggest("ㅌㅅㅌ", 10)).thenReturn(List.of(suggestion));
+
+        // when
+        List<CrossfitBoxSuggestionDto> result = crossfitBoxService.autocomplete("ㅌㅅㅌ", 10);
+
+        // then
+        assertThat(result).containsExactly(suggestion);
+    }
+
+    @Test
+    @DisplayName("이름 자동완성 - 색인 준비 전에는 이름 검색 결과 사용")
+    void autocomplete_fallbackToSearch() {
+        // given
+        when(crossfitBoxRepository.searchViewsByName(eq("Test"), any(Pageable.class))).thenReturn(List.of(crossfitBoxView));
+
+        // when
+        List<CrossfitBoxSuggestionDto> result = crossfitBoxService.autocomplete("Test", 10);
+
+        // then
+        assertThat(result).extracting(CrossfitBoxSuggestionDto::getName).containsExactly("Test CrossfitBox");
+    }
+
+    @Test
+    @DisplayName("이름으로 크로스핏박스 검색 - 조회 개수 범위 초과")
+    void searchByName_invalidLimit() {
+        // when & then
+        assertThatThrownBy(() -> crossfitBoxService.searchByName("Test", 51))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("조회 개수");
+    }
+
     @Test
     @DisplayName("이름으로 크로스핏박스 검색 - 빈 키워드")
     void searchByName_emptyKeyword() {
         // when
-        List<CrossfitBoxDto> result1 = crossfitBoxService.searchByName(null);
-        List<CrossfitBoxDto> result2 = crossfitBoxService.searchByName("");
-        List<CrossfitBoxDto> result3 = crossfitBoxService.searchByName("   ");
+        List<CrossfitBoxDto> result1 = crossfitBoxService.searchByName(null, 20);
+        List<CrossfitBoxDto> result2 = crossfitBoxService.searchByName("", 20);
+        List<CrossfitBoxDto> result3 = crossfitBoxService.searchByName("   ", 20);
 
         // then
         assertThat(result1).isEmpty();
         assertThat(result2).isEmpty();
         assertThat(result3).isEmpty();
-        verify(crossfitBoxRepository, never()).searchByName(anyString());
+        verify(crossfitBoxRepository, never()).searchViewsByName(anyString(), any(Pageable.class));
     }
 
     @Test
@@ -250,6 +392,7 @@ class CrossfitBoxServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(crossfitBoxRepository).findById(1L);
+        verify(eventPublisher).publishEvent(any(CrossfitBoxChangedEvent.class));
     }
 
     @Test
@@ -272,14 +415,33 @@ class CrossfitBoxServiceTest {
     @DisplayName("주변 크로스핏박스 수 조회 - 좌표 있음")
     void countNearbyCrossfitBoxes_withCoordinates() {
         // given
-        when(crossfitBoxRepository.findByBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
-                .thenReturn(List.of(crossfitBox));
+        when(crossfitBoxRepository.countWithinRadius(anyString(), anyString(), anyString(), anyString(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(1L);
 
         // when
         int count = crossfitBoxService.countNearbyCrossfitBoxes(37.5, 127.0);
 
         // then
         assertThat(count).isEqualTo(1);
+        verify(crossfitBoxRepository, never()).findViewsByBounds(anyString(), anyString(), anyString(), anyString(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("주변 크로스핏박스 수 조회 - 공간 인덱스의 반경 집계 사용")
+    void countNearbyCrossfitBoxes_fromSpatialIndex() {
+        // given
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.countWithinRadius(37.5, 127.0, 5.0)).thenReturn(7);
+
+        // when
+        int count = crossfitBoxService.countNearbyCrossfitBoxes(37.5, 127.0);
+
+        // then
+        assertThat(count).isEqualTo(7);
+        verifyNoInteractions(crossfitBoxRepository);
     }
 
     @Test
@@ -294,4 +456,51 @@ class CrossfitBoxServiceTest {
         // then
         assertThat(count).isEqualTo(10);
     }
+
+    @Test
+    @DisplayName("가까운 크로스핏박스 조회 - 공간 인덱스 사용")
+    void getNearestCrossfitBoxes_fromSpatialIndex() {
+        // given
+        CrossfitBoxDistanceDto nearest = CrossfitBoxDistanceDto.builder()
+                .crossfitBox(crossfitBoxDto)
+                .distanceKm(0.8)
+                .build();
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.findNearest(37.5, 127.0, 3)).thenReturn(List.of(nearest));
+
+        // when
+        List<CrossfitBoxDistanceDto> result = crossfitBoxService.getNearestCrossfitBoxes(37.5, 127.0, 3);
+
+        // then
+        assertThat(result).containsExactly(nearest);
+        verifyNoInteractions(crossfitBoxRepository);
+    }
+
+    @Test
+    @DisplayName("가까운 크로스핏박스 조회 - 인덱스 준비 전에는 DB 목록을 거리순 정렬")
+    void getNearestCrossfitBoxes_beforeIndexReady() {
+        // given
+        CrossfitBoxView far = new CrossfitBoxView(2L, null, "far@box.com", null, null, null, null, null,
+                null, null, null, null, null, null, null, 35.18, 129.07, null, null, null);
+        CrossfitBoxView near = new CrossfitBoxView(3L, null, "near@box.com", null, null, null, null, null,
+                null, null, null, null, null, null, null, 37.51, 127.01, null, null, null);
+        when(crossfitBoxRepository.findAllViewsWithLocation()).thenReturn(List.of(far, near));
+
+        // when
+        List<CrossfitBoxDistanceDto> result = crossfitBoxService.getNearestCrossfitBoxes(37.5, 127.0, 1);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCrossfitBox().getId()).isEqualTo(3L);
+        assertThat(result.get(0).getDistanceKm()).isLessThan(2.0);
+    }
+
+    @Test
+    @DisplayName("가까운 크로스핏박스 조회 - 조회 개수 범위 초과")
+    void getNearestCrossfitBoxes_invalidK() {
+        assertThatThrownBy(() -> crossfitBoxService.getNearestCrossfitBoxes(37.5, 127.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> crossfitBoxService.getNearestCrossfitBoxes(37.5, 127.0, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,127 @@
+package com.drop.unit.domain.crossfitbox.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxTileDto;
+import com.drop.domain.crossfitbox.event.CrossfitBoxIndexedEvent;
+import com.drop.domain.crossfitbox.index.SlippyTile;
+import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.crossfitbox.service.CrossfitBoxTileService;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossfitBoxTileServiceTest {
+
+    @Mock
+    private CrossfitBoxService crossfitBoxService;
+
+    @Mock
+    private TwoLevelCacheManager twoLevelCacheManager;
+
+    @Mock
+    private TwoLevelCache<CrossfitBoxTileDto> tileCache;
+
+    private CrossfitBoxTileService crossfitBoxTileService;
+
+    @BeforeEach
+    void setUp() {
+        when(twoLevelCacheManager.getCache(eq("crossfitBoxTiles"), eq(CrossfitBoxTileDto.class), anyInt(), any(Duration.class)))
+                .thenReturn(tileCache);
+        crossfitBoxTileService = new CrossfitBoxTileService(crossfitBoxService, twoLevelCacheManager);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 타일 영역으로 조회해 타일 키로 캐싱")
+    @SuppressWarnings("unchecked")
+    void getTile_loadsTileBounds() {
+        // given
+        SlippyTile tile = SlippyTile.containing(37.4979, 127.0276, 14);
+        CrossfitBoxDto gangnam = box(1L, 37.4979, 127.0276);
+        when(tileCache.get(eq(tile.key()), any())).thenAnswer(invocation ->
+                ((Supplier<CrossfitBoxTileDto>) invocation.getArgument(1)).get());
+        when(crossfitBoxService.getCrossfitBoxesByBounds(tile.southLat(), tile.westLng(), tile.northLat(), tile.eastLng()))
+                .thenReturn(List.of(gangnam));
+
+        // when
+        CrossfitBoxTileDto result = crossfitBoxTileService.getTile(tile.z(), tile.x(), tile.y());
+
+        // then
+        assertThat(result.getZ()).isEqualTo(14);
+        assertThat(result.getX()).isEqualTo(tile.x());
+        assertThat(result.getCrossfitBoxes()).extracting(CrossfitBoxDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 타일 좌표는 예외")
+    void getTile_invalidCoordinates() {
+        assertThatThrownBy(() -> crossfitBoxTileService.getTile(3, 8, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> crossfitBoxTileService.getTile(CrossfitBoxTileService.MAX_TILE_ZOOM + 1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(tileCache, crossfitBoxService);
+    }
+
+    @Test
+    @DisplayName("박스 이동 시 이동 전후 좌표를 포함하는 타일만 무효화")
+    @SuppressWarnings("unchecked")
+    void onCrossfitBoxIndexed_evictsPreviousAndCurrentTiles() {
+        // given
+        CrossfitBoxDto before = box(1L, 37.4979, 127.0276);
+        CrossfitBoxDto after = box(1L, 35.1796, 129.0756);
+
+        // when
+        crossfitBoxTileService.onCrossfitBoxIndexed(new CrossfitBoxIndexedEvent(List.of(new CrossfitBoxIndexedEvent.Change(before, after)), false));
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(tileCache).evictAll(captor.capture());
+        assertThat(captor.getValue())
+                .contains(SlippyTile.containing(37.4979, 127.0276, 14).key())
+                .contains(SlippyTile.containing(35.1796, 129.0756, 14).key())
+                .contains("0/0/0")
+                .doesNotContain(SlippyTile.containing(37.5563, 126.9220, 14).key());
+    }
+
+    @Test
+    @DisplayName("다른 파드에서 전달된 변경은 L1만 비우고 L2 삭제/전파는 하지 않음")
+    @SuppressWarnings("unchecked")
+    void onCrossfitBoxIndexed_remoteEvictsLocalOnly() {
+        // given
+        CrossfitBoxDto created = box(2L, 37.5563, 126.9220);
+
+        // when
+        crossfitBoxTileService.onCrossfitBoxIndexed(
+                new CrossfitBoxIndexedEvent(List.of(new CrossfitBoxIndexedEvent.Change(null, created)), true));
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(tileCache).evictAllLocal(captor.capture());
+        assertThat(captor.getValue()).hasSize(CrossfitBoxTileService.MAX_TILE_ZOOM + 1);
+        verify(tileCache, never()).evictAll(any());
+    }
+
+    private static CrossfitBoxDto box(Long id, Double latitude, Double longitude) {
+        return CrossfitBoxDto.builder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
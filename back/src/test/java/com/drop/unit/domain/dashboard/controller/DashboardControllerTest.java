@@ -2,6 +2,7 @@ package com.drop.unit.domain.dashboard.controller;
 
 import com.drop.domain.dashboard.controller.DashboardController;
 import com.drop.domain.dashboard.dto.DashboardSummaryDto;
+import com.drop.domain.dashboard.dto.DashboardSummaryResult;
 import com.drop.domain.dashboard.service.DashboardService;
 import com.drop.global.enums.LocationMode;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +16,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,11 +52,13 @@ class DashboardControllerTest {
                 .hasMoreMyCrossfitBoxes(false)
                 .build();
 
-        when(dashboardService.getDashboardSummary(any(), any(), any(), any())).thenReturn(dto);
+        when(dashboardService.getDashboardSummaryWithTimings(any(), any(), any(), any()))
+                .thenReturn(new DashboardSummaryResult(dto, Map.of("total", 1.25)));
 
         // when & then
         mockMvc.perform(get("/dashboard/summary"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", "total;dur=1.3"))
                 .andExpect(jsonPath("$.data.nearbyCrossfitBoxCount").value(10));
     }
 
@@ -68,7 +73,8 @@ class DashboardControllerTest {
                 .hasMoreMyCrossfitBoxes(false)
                 .build();
 
-        when(dashboardService.getDashboardSummary(any(), any(), any(), any())).thenReturn(dto);
+        when(dashboardService.getDashboardSummaryWithTimings(any(), any(), any(), any()))
+                .thenReturn(new DashboardSummaryResult(dto, Map.of()));
 
         // when & then
         mockMvc.perform(get("/dashboard/summary")
@@ -1,27 +1,41 @@
 package com.drop.unit.domain.dashboard.service;
 
-import com.drop.domain.base.Address;
-import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.dashboard.dto.DashboardMemberSummary;
+import com.drop.domain.dashboard.dto.DashboardMemberView;
 import com.drop.domain.dashboard.dto.DashboardSummaryDto;
+import com.drop.domain.dashboard.dto.DashboardSummaryResult;
+import com.drop.domain.dashboard.repository.DashboardRepository;
 import com.drop.domain.dashboard.service.DashboardService;
-import com.drop.domain.member.data.Member;
-import com.drop.domain.member.repository.MemberRepository;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewDto;
-import com.drop.domain.membercrossfitbox.service.MemberCrossfitBoxService;
+import com.drop.domain.membercrossfitbox.event.MyCrossfitBoxesChangedEvent;
+import com.drop.domain.mypage.event.HomeBoxChangedEvent;
 import com.drop.global.enums.LocationMode;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,31 +45,22 @@ class DashboardServiceTest {
     private CrossfitBoxService crossfitBoxService;
 
     @Mock
-    private MemberCrossfitBoxService memberCrossfitBoxService;
+    private DashboardRepository dashboardRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private TwoLevelCacheManager twoLevelCacheManager;
 
-    @InjectMocks
-    private DashboardService dashboardService;
+    @Mock
+    private TwoLevelCache<DashboardMemberSummary> memberSummaryCache;
 
-    private Member member;
-    private CrossfitBox homeBox;
+    private DashboardService dashboardService;
 
     @BeforeEach
     void setUp() {
-        homeBox = CrossfitBox.builder()
-                .id(1L)
-                .name("Home Box")
-                .address(Address.builder().addressLine1("서울시 강남구").build())
-                .build();
-
-        member = Member.builder()
-                .id(1L)
-                .username("testUser")
-                .email("test@email.com")
-                .homeBox(homeBox)
-                .build();
+        when(twoLevelCacheManager.getCache(eq("dashboardMembers"), eq(DashboardMemberSummary.class), anyInt(), any(Duration.class)))
+                .thenReturn(memberSummaryCache);
+        dashboardService = new DashboardService(crossfitBoxService, dashboardRepository,
+                Runnable::run, twoLevelCacheManager);
     }
 
     @Test
@@ -67,18 +72,10 @@ class DashboardServiceTest {
         Double latGrid = 37.5;
         Double lngGrid = 127.0;
 
-        List<MemberCrossfitBoxPreviewDto> previewList = List.of(
-                MemberCrossfitBoxPreviewDto.builder()
-                        .crossfitBoxId(1L)
-                        .name("Test Box")
-                        .isFavorite(true)
-                        .build()
-        );
-
         when(crossfitBoxService.countNearbyCrossfitBoxes(latGrid, lngGrid)).thenReturn(10);
-        when(memberCrossfitBoxService.getMyCrossfitBoxesPreview(memberId)).thenReturn(previewList);
-        when(memberCrossfitBoxService.countMyCrossfitBoxes(memberId)).thenReturn(3);
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        givenCacheMiss(memberId);
+        when(dashboardRepository.findMemberViews(memberId, PageRequest.of(0, 6)))
+                .thenReturn(List.of(new DashboardMemberView(memberId, 1L, "Home Box", "서울시 강남구", 11L, 1L, "Test Box", true)));
 
         // when
         DashboardSummaryDto result = dashboardService.getDashboardSummary(memberId, locationMode, latGrid, lngGrid);
@@ -87,10 +84,11 @@ class DashboardServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getNearbyCrossfitBoxCount()).isEqualTo(10);
         assertThat(result.getNearbyBasis()).isEqualTo(LocationMode.CURRENT);
-        assertThat(result.getMyCrossfitBoxesPreview()).hasSize(1);
+        assertThat(result.getMyCrossfitBoxesPreview()).extracting(MemberCrossfitBoxPreviewDto::getName).containsExactly("Test Box");
         assertThat(result.getHasMoreMyCrossfitBoxes()).isFalse();
         assertThat(result.getHomeBox()).isNotNull();
         assertThat(result.getHomeBox().getName()).isEqualTo("Home Box");
+        assertThat(result.getHomeBox().getAddressLine1()).isEqualTo("서울시 강남구");
     }
 
     @Test
@@ -98,16 +96,11 @@ class DashboardServiceTest {
     void getDashboardSummary_withoutHomeBox() {
         // given
         Long memberId = 1L;
-        Member memberWithoutHomeBox = Member.builder()
-                .id(1L)
-                .username("testUser")
-                .email("test@email.com")
-                .build();
 
         when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenReturn(100);
-        when(memberCrossfitBoxService.getMyCrossfitBoxesPreview(memberId)).thenReturn(List.of());
-        when(memberCrossfitBoxService.countMyCrossfitBoxes(memberId)).thenReturn(0);
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(memberWithoutHomeBox));
+        givenCacheMiss(memberId);
+        when(dashboardRepository.findMemberViews(memberId, PageRequest.of(0, 6)))
+                .thenReturn(List.of(new DashboardMemberView(memberId, null, null, null, null, null, null, null)));
 
         // when
         DashboardSummaryDto result = dashboardService.getDashboardSummary(memberId, null, null, null);
@@ -115,6 +108,7 @@ class DashboardServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getHomeBox()).isNull();
+        assertThat(result.getMyCrossfitBoxesPreview()).isEmpty();
         assertThat(result.getNearbyBasis()).isEqualTo(LocationMode.CURRENT); // 기본값
     }
 
@@ -125,9 +119,8 @@ class DashboardServiceTest {
         Long memberId = 999L;
 
         when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenReturn(10);
-        when(memberCrossfitBoxService.getMyCrossfitBoxesPreview(memberId)).thenReturn(List.of());
-        when(memberCrossfitBoxService.countMyCrossfitBoxes(memberId)).thenReturn(0);
-        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+        givenCacheMiss(memberId);
+        when(dashboardRepository.findMemberViews(memberId, PageRequest.of(0, 6))).thenReturn(List.of());
 
         // when
         DashboardSummaryDto result = dashboardService.getDashboardSummary(memberId, null, null, null);
@@ -144,15 +137,131 @@ class DashboardServiceTest {
         Long memberId = 1L;
 
         when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenReturn(10);
-        when(memberCrossfitBoxService.getMyCrossfitBoxesPreview(memberId)).thenReturn(List.of());
-        when(memberCrossfitBoxService.countMyCrossfitBoxes(memberId)).thenReturn(10); // 5개 초과
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        givenCacheMiss(memberId);
+        List<DashboardMemberView> views = LongStream.rangeClosed(1, 6)
+                .mapToObj(id -> new DashboardMemberView(memberId, 1L, "Home Box", null, 10 + id, id, "Box " + id, false))
+                .collect(Collectors.toList()); // 5개 초과
+        when(dashboardRepository.findMemberViews(memberId, PageRequest.of(0, 6))).thenReturn(views);
 
         // when
         DashboardSummaryDto result = dashboardService.getDashboardSummary(memberId, LocationMode.LAST, null, null);
 
         // then
         assertThat(result.getHasMoreMyCrossfitBoxes()).isTrue();
+        assertThat(result.getMyCrossfitBoxesPreview()).hasSize(5);
+        assertThat(result.getHomeBox().getName()).isEqualTo("Home Box");
         assertThat(result.getNearbyBasis()).isEqualTo(LocationMode.LAST);
     }
+
+    @Test
+    @DisplayName("대시보드 요약 조회 - 비로그인이면 회원 조회 없이 근처 박스 수만 조회")
+    void getDashboardSummary_anonymous() {
+        // given
+        when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenReturn(10);
+
+        // when
+        DashboardSummaryResult result = dashboardService.getDashboardSummaryWithTimings(null, null, null, null);
+
+        // then
+        assertThat(result.summary().getMyCrossfitBoxesPreview()).isEmpty();
+        assertThat(result.summary().getHasMoreMyCrossfitBoxes()).isFalse();
+        assertThat(result.timings()).containsOnlyKeys("nearby", "total");
+        verifyNoInteractions(dashboardRepository);
+    }
+
+    @Test
+    @DisplayName("구성 요소를 별도 스레드에서 동시에 조회하고 구성 요소별 소요 시간을 반환")
+    void getDashboardSummaryWithTimings_parallel() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        DashboardService parallelService = new DashboardService(crossfitBoxService, dashboardRepository,
+                executor, twoLevelCacheManager);
+        givenCacheMiss(1L);
+        when(crossfitBoxService.countNearbyCrossfitBoxes(37.5, 127.0)).thenReturn(7);
+        when(dashboardRepository.findMemberViews(1L, PageRequest.of(0, 6)))
+                .thenReturn(List.of(new DashboardMemberView(1L, null, null, null, 11L, 1L, "Box 1", true)));
+
+        try {
+            // when
+            DashboardSummaryResult result = parallelService.getDashboardSummaryWithTimings(1L, LocationMode.CURRENT, 37.5, 127.0);
+
+            // then
+            assertThat(result.summary().getNearbyCrossfitBoxCount()).isEqualTo(7);
+            assertThat(result.summary().getMyCrossfitBoxesPreview()).hasSize(1);
+            assertThat(result.timings()).containsOnlyKeys("nearby", "memberCache", "member", "total");
+            assertThat(result.toServerTiming()).startsWith("nearby;dur=").contains(", total;dur=");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("구성 요소 조회 중 예외가 발생하면 원래 예외를 그대로 전달")
+    void getDashboardSummary_propagatesPartFailure() {
+        // given
+        when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenThrow(new IllegalArgumentException("좌표 범위가 올바르지 않습니다."));
+        givenCacheMiss(1L);
+        when(dashboardRepository.findMemberViews(1L, PageRequest.of(0, 6))).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> dashboardService.getDashboardSummary(1L, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌표 범위가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("풀에서 제한 시간 안에 끝나지 않은 구성 요소는 다시 조회하지 않고 비운 채 응답")
+    void getDashboardSummary_omitsTimedOutPart() {
+        // given
+        DashboardService stalledService = new DashboardService(crossfitBoxService, dashboardRepository,
+                task -> { }, twoLevelCacheManager);
+
+        // when
+        DashboardSummaryResult result = stalledService.getDashboardSummaryWithTimings(null, null, null, null);
+
+        // then
+        assertThat(result.summary().getNearbyCrossfitBoxCount()).isNull();
+        assertThat(result.timedOut()).containsExactly("nearby");
+        assertThat(result.toServerTiming()).startsWith("nearby;desc=\"timeout\";dur=1000.0");
+        verifyNoInteractions(crossfitBoxService);
+    }
+
+    @Test
+    @DisplayName("회원별 부분이 캐시에 있으면 미리보기와 회원 정보를 조회하지 않음")
+    void getDashboardSummary_memberCacheHit() {
+        // given
+        DashboardSummaryDto.DashboardBoxDto homeBox = DashboardSummaryDto.DashboardBoxDto.builder()
+                .crossfitBoxId(1L)
+                .name("Home Box")
+                .build();
+        when(crossfitBoxService.countNearbyCrossfitBoxes(null, null)).thenReturn(10);
+        when(memberSummaryCache.get(eq("1"), any())).thenReturn(new DashboardMemberSummary(homeBox, List.of(), true));
+
+        // when
+        DashboardSummaryResult result = dashboardService.getDashboardSummaryWithTimings(1L, null, null, null);
+
+        // then
+        assertThat(result.summary().getHomeBox().getName()).isEqualTo("Home Box");
+        assertThat(result.summary().getHasMoreMyCrossfitBoxes()).isTrue();
+        assertThat(result.timings()).containsOnlyKeys("nearby", "memberCache", "total");
+        verifyNoInteractions(dashboardRepository);
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 목록이나 홈박스가 바뀌면 해당 회원 캐시만 무효화")
+    void onMemberChanged_evictsMemberSummary() {
+        // when
+        dashboardService.onMyCrossfitBoxesChanged(new MyCrossfitBoxesChangedEvent(1L));
+        dashboardService.onHomeBoxChanged(new HomeBoxChangedEvent(2L));
+
+        // then
+        verify(memberSummaryCache).evict("1");
+        verify(memberSummaryCache).evict("2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCacheMiss(Long memberId) {
+        when(memberSummaryCache.get(eq(String.valueOf(memberId)), any())).thenAnswer(invocation ->
+                ((Supplier<DashboardMemberSummary>) invocation.getArgument(1)).get());
+    }
 }
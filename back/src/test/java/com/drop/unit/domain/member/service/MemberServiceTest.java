@@ -1,5 +1,6 @@
 package com.drop.unit.domain.member.service;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.member.data.Member;
 import com.drop.domain.member.dto.MemberCreateDto;
 import com.drop.domain.member.dto.MemberDto;
@@ -68,7 +69,7 @@ class MemberServiceTest {
                 .id(1L)
                 .username(dto.getUsername())
                 .email(dto.getEmail())
-                .password(dto.getPassword())
+                .credential(Credential.of(dto.getPassword()))
                 .role(UserRole.MEMBER)
                 .build();
 
@@ -1,6 +1,9 @@
 package com.drop.unit.domain.membercrossfitbox.controller;
 
 import com.drop.domain.membercrossfitbox.controller.MemberCrossfitBoxController;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkResultDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxCursorResponseDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxRequestDto;
 import com.drop.domain.membercrossfitbox.service.MemberCrossfitBoxService;
@@ -69,6 +72,26 @@ class MemberCrossfitBoxControllerTest {
                 .andExpect(jsonPath("$.data[0].name").value("Test Box"));
     }
 
+    @Test
+    @DisplayName("내 크로스핏박스 목록 커서 조회")
+    void getMyCrossfitBoxesByCursor() throws Exception {
+        // given
+        MemberCrossfitBoxCursorResponseDto result = MemberCrossfitBoxCursorResponseDto.builder()
+                .crossfitBoxes(List.of(MemberCrossfitBoxDto.builder().crossfitBoxId(1L).name("Test Box").isFavorite(true).build()))
+                .nextCursor("next")
+                .hasNext(true)
+                .build();
+
+        when(memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, null, 20)).thenReturn(result);
+
+        // when & then
+        mockMvc.perform(get("/member-crossfit-box/scroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.crossfitBoxes[0].name").value("Test Box"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("내 크로스핏박스에 추가")
     void addCrossfitBoxToMyList() throws Exception {
@@ -117,4 +140,29 @@ class MemberCrossfitBoxControllerTest {
 
         verify(memberCrossfitBoxService).removeCrossfitBoxFromMyList(1L, 1L);
     }
+
+    @Test
+    @DisplayName("내 크로스핏박스 일괄 동기화")
+    void syncMyCrossfitBoxes() throws Exception {
+        // given
+        MemberCrossfitBoxBulkRequestDto request = new MemberCrossfitBoxBulkRequestDto(
+                List.of(new MemberCrossfitBoxRequestDto(1L, true)), List.of(2L));
+        MemberCrossfitBoxBulkResultDto result = MemberCrossfitBoxBulkResultDto.builder()
+                .added(1)
+                .updated(0)
+                .removed(1)
+                .notFoundCrossfitBoxIds(List.of())
+                .build();
+
+        when(memberCrossfitBoxService.syncMyCrossfitBoxes(eq(1L), any())).thenReturn(result);
+
+        // when & then
+        mockMvc.perform(post("/member-crossfit-box/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("F005"))
+                .andExpect(jsonPath("$.data.added").value(1))
+                .andExpect(jsonPath("$.data.removed").value(1));
+    }
 }
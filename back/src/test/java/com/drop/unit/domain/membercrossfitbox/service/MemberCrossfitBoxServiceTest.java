@@ -6,11 +6,19 @@ import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.member.data.Member;
 import com.drop.domain.member.repository.MemberRepository;
 import com.drop.domain.membercrossfitbox.data.MemberCrossfitBox;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxBulkResultDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxCursorResponseDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxDto;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxPreviewView;
 import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxRequestDto;
+import com.drop.domain.membercrossfitbox.dto.MemberCrossfitBoxView;
+import com.drop.domain.membercrossfitbox.dto.MyCrossfitBoxesPreview;
+import com.drop.domain.membercrossfitbox.event.MyCrossfitBoxesChangedEvent;
 import com.drop.domain.membercrossfitbox.repository.MemberCrossfitBoxRepository;
 import com.drop.domain.membercrossfitbox.service.MemberCrossfitBoxService;
+import com.drop.global.code.error.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,13 +26,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +54,9 @@ class MemberCrossfitBoxServiceTest {
     @Mock
     private CrossfitBoxRepository crossfitBoxRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberCrossfitBoxService memberCrossfitBoxService;
 
@@ -73,8 +91,8 @@ class MemberCrossfitBoxServiceTest {
     @DisplayName("내 크로스핏박스 목록 조회")
     void getMyCrossfitBoxes() {
         // given
-        when(memberCrossfitBoxRepository.findByMemberIdWithCrossfitBox(1L))
-                .thenReturn(List.of(memberCrossfitBox));
+        when(memberCrossfitBoxRepository.findViewsByMemberId(1L, Pageable.unpaged()))
+                .thenReturn(List.of(new MemberCrossfitBoxView(1L, 1L, "Test Box", "서울시 강남구", false, LocalDateTime.now())));
 
         // when
         List<MemberCrossfitBoxDto> result = memberCrossfitBoxService.getMyCrossfitBoxes(1L);
@@ -86,53 +104,106 @@ class MemberCrossfitBoxServiceTest {
     }
 
     @Test
-    @DisplayName("내 크로스핏박스 프리뷰 조회 - memberId가 null")
-    void getMyCrossfitBoxesPreview_nullMemberId() {
+    @DisplayName("내 크로스핏박스 커서 조회 - 다음 페이지가 있으면 마지막 행으로 커서 생성")
+    void getMyCrossfitBoxesByCursor_firstPage() {
+        // given
+        when(memberCrossfitBoxRepository.findViewsByMemberId(1L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(view(1L, 11L, true, 5), view(2L, 12L, true, 4), view(3L, 13L, false, 3)));
+
         // when
-        List<MemberCrossfitBoxPreviewDto> result = memberCrossfitBoxService.getMyCrossfitBoxesPreview(null);
+        MemberCrossfitBoxCursorResponseDto result = memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, null, 2);
 
         // then
-        assertThat(result).isEmpty();
-        verify(memberCrossfitBoxRepository, never()).findByMemberIdWithCrossfitBoxIncludeDeleted(any());
+        assertThat(result.getCrossfitBoxes()).extracting(MemberCrossfitBoxDto::getCrossfitBoxId).containsExactly(11L, 12L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isNotNull();
     }
 
     @Test
-    @DisplayName("내 크로스핏박스 프리뷰 조회 - 정상")
-    void getMyCrossfitBoxesPreview_success() {
+    @DisplayName("내 크로스핏박스 커서 조회 - 즐겨찾기 그룹이 끝나면 나머지 그룹을 이어서 조회")
+    void getMyCrossfitBoxesByCursor_crossesFavoriteGroup() {
         // given
-        when(memberCrossfitBoxRepository.findByMemberIdWithCrossfitBoxIncludeDeleted(1L))
-                .thenReturn(List.of(memberCrossfitBox));
+        MemberCrossfitBoxView lastFavorite = view(2L, 12L, true, 4);
+        when(memberCrossfitBoxRepository.findViewsByMemberId(1L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(view(1L, 11L, true, 5), lastFavorite, view(3L, 13L, false, 3)));
+        String cursor = memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, null, 2).getNextCursor();
+
+        when(memberCrossfitBoxRepository.findViewsByMemberIdAndFavoriteAfter(
+                1L, true, lastFavorite.createdAt(), 2L, PageRequest.of(0, 3))).thenReturn(List.of());
+        when(memberCrossfitBoxRepository.findViewsByMemberIdAndFavorite(1L, false, PageRequest.of(0, 3)))
+                .thenReturn(List.of(view(3L, 13L, false, 3)));
 
         // when
-        List<MemberCrossfitBoxPreviewDto> result = memberCrossfitBoxService.getMyCrossfitBoxesPreview(1L);
+        MemberCrossfitBoxCursorResponseDto result = memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, cursor, 2);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getName()).isEqualTo("Test Box");
-        assertThat(result.get(0).getIsDeleted()).isFalse();
+        assertThat(result.getCrossfitBoxes()).extracting(MemberCrossfitBoxDto::getCrossfitBoxId).containsExactly(13L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 커서 조회 - 잘못된 커서나 개수는 예외 발생")
+    void getMyCrossfitBoxesByCursor_invalid() {
+        // when & then
+        assertThatThrownBy(() -> memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> memberCrossfitBoxService.getMyCrossfitBoxesByCursor(1L, null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(memberCrossfitBoxRepository);
     }
 
     @Test
-    @DisplayName("내 크로스핏박스 수 조회 - memberId가 null")
-    void countMyCrossfitBoxes_nullMemberId() {
+    @DisplayName("내 크로스핏박스 프리뷰 조회 - memberId가 null")
+    void getMyCrossfitBoxesPreview_nullMemberId() {
         // when
-        int result = memberCrossfitBoxService.countMyCrossfitBoxes(null);
+        MyCrossfitBoxesPreview result = memberCrossfitBoxService.getMyCrossfitBoxesPreview(null);
 
         // then
-        assertThat(result).isZero();
+        assertThat(result.crossfitBoxes()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        verify(memberCrossfitBoxRepository, never()).findPreviewByMemberId(any(), any());
     }
 
     @Test
-    @DisplayName("내 크로스핏박스 수 조회 - 정상")
-    void countMyCrossfitBoxes_success() {
+    @DisplayName("내 크로스핏박스 프리뷰 조회 - 정상")
+    void getMyCrossfitBoxesPreview_success() {
         // given
-        when(memberCrossfitBoxRepository.countByMemberId(1L)).thenReturn(5);
+        when(memberCrossfitBoxRepository.findPreviewByMemberId(1L, PageRequest.of(0, 6)))
+                .thenReturn(List.of(
+                        new MemberCrossfitBoxPreviewView(1L, 1L, "Test Box", true),
+                        new MemberCrossfitBoxPreviewView(2L, null, null, false)));
 
         // when
-        int result = memberCrossfitBoxService.countMyCrossfitBoxes(1L);
+        MyCrossfitBoxesPreview result = memberCrossfitBoxService.getMyCrossfitBoxesPreview(1L);
 
         // then
-        assertThat(result).isEqualTo(5);
+        assertThat(result.crossfitBoxes()).hasSize(2);
+        assertThat(result.crossfitBoxes().get(0).getName()).isEqualTo("Test Box");
+        assertThat(result.crossfitBoxes().get(0).getIsDeleted()).isFalse();
+        assertThat(result.crossfitBoxes().get(1).getCrossfitBoxId()).isEqualTo(2L);
+        assertThat(result.crossfitBoxes().get(1).getName()).isEqualTo("삭제된 크로스핏박스");
+        assertThat(result.crossfitBoxes().get(1).getIsDeleted()).isTrue();
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 프리뷰 조회 - 6개가 조회되면 5개만 반환하고 더 보기 표시")
+    void getMyCrossfitBoxesPreview_hasMore() {
+        // given
+        List<MemberCrossfitBoxPreviewView> views = LongStream.rangeClosed(1, 6)
+                .mapToObj(id -> new MemberCrossfitBoxPreviewView(id, id, "Box " + id, false))
+                .toList();
+        when(memberCrossfitBoxRepository.findPreviewByMemberId(1L, PageRequest.of(0, 6))).thenReturn(views);
+
+        // when
+        MyCrossfitBoxesPreview result = memberCrossfitBoxService.getMyCrossfitBoxesPreview(1L);
+
+        // then
+        assertThat(result.crossfitBoxes()).extracting(MemberCrossfitBoxPreviewDto::getCrossfitBoxId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(result.hasMore()).isTrue();
     }
 
     @Test
@@ -152,6 +223,7 @@ class MemberCrossfitBoxServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(memberCrossfitBoxRepository).save(any(MemberCrossfitBox.class));
+        verify(eventPublisher).publishEvent(new MyCrossfitBoxesChangedEvent(1L));
     }
 
     @Test
@@ -188,57 +260,122 @@ class MemberCrossfitBoxServiceTest {
     @DisplayName("즐겨찾기 토글 - 성공")
     void toggleFavorite_success() {
         // given
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-        when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(memberCrossfitBoxRepository.findByMemberAndCrossfitBox(member, crossfitBox))
-                .thenReturn(Optional.of(memberCrossfitBox));
+        MemberCrossfitBoxDto toggled = new MemberCrossfitBoxDto(1L, "Test Box", "서울시 강남구", true);
+        when(memberCrossfitBoxRepository.toggleFavoriteByMemberIdAndCrossfitBoxId(1L, 1L)).thenReturn(1);
+        when(memberCrossfitBoxRepository.findDtoByMemberIdAndCrossfitBoxId(1L, 1L)).thenReturn(Optional.of(toggled));
 
         // when
         MemberCrossfitBoxDto result = memberCrossfitBoxService.toggleFavorite(1L, 1L);
 
         // then
-        assertThat(result).isNotNull();
+        assertThat(result.getIsFavorite()).isTrue();
+        verify(eventPublisher).publishEvent(new MyCrossfitBoxesChangedEvent(1L));
+        verifyNoInteractions(memberRepository, crossfitBoxRepository);
     }
 
     @Test
     @DisplayName("즐겨찾기 토글 - 목록에 없음")
     void toggleFavorite_notInList() {
         // given
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-        when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(memberCrossfitBoxRepository.findByMemberAndCrossfitBox(member, crossfitBox))
-                .thenReturn(Optional.empty());
+        when(memberCrossfitBoxRepository.toggleFavoriteByMemberIdAndCrossfitBoxId(1L, 1L)).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> memberCrossfitBoxService.toggleFavorite(1L, 1L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("내 크로스핏박스 목록에 없습니다");
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("내 목록에서 크로스핏박스 제거 - 성공")
     void removeCrossfitBoxFromMyList_success() {
         // given
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-        when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
+        when(memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxId(1L, 1L)).thenReturn(1);
 
         // when
         memberCrossfitBoxService.removeCrossfitBoxFromMyList(1L, 1L);
 
         // then
-        verify(memberCrossfitBoxRepository).deleteByMemberAndCrossfitBox(member, crossfitBox);
+        verify(eventPublisher).publishEvent(new MyCrossfitBoxesChangedEvent(1L));
+        verifyNoInteractions(memberRepository, crossfitBoxRepository);
     }
 
     @Test
-    @DisplayName("내 목록에서 크로스핏박스 제거 - 크로스핏박스 없음")
-    void removeCrossfitBoxFromMyList_crossfitBoxNotFound() {
+    @DisplayName("내 목록에서 크로스핏박스 제거 - 목록에 없음")
+    void removeCrossfitBoxFromMyList_notInList() {
         // given
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
-        when(crossfitBoxRepository.findById(999L)).thenReturn(Optional.empty());
+        when(memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxId(1L, 999L)).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> memberCrossfitBoxService.removeCrossfitBoxFromMyList(1L, 999L))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("크로스핏박스를 찾을 수 없습니다");
+                .hasMessageContaining("내 크로스핏박스 목록에 없습니다");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 일괄 동기화 - 제거, 즐겨찾기 변경, 추가를 한 번에 반영")
+    void syncMyCrossfitBoxes_success() {
+        // given
+        MemberCrossfitBoxBulkRequestDto request = new MemberCrossfitBoxBulkRequestDto(
+                List.of(new MemberCrossfitBoxRequestDto(1L, true),
+                        new MemberCrossfitBoxRequestDto(2L, null),
+                        new MemberCrossfitBoxRequestDto(3L, null)),
+                List.of(7L, 8L));
+        when(memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxIdIn(1L, Set.of(7L, 8L))).thenReturn(1);
+        when(memberCrossfitBoxRepository.findCrossfitBoxIdsByMemberIdAndCrossfitBoxIdIn(1L, Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(1L));
+        when(memberCrossfitBoxRepository.updateFavoriteByMemberIdAndCrossfitBoxIdIn(1L, List.of(1L), true)).thenReturn(1);
+        when(crossfitBoxRepository.findExistingIds(List.of(2L, 3L))).thenReturn(List.of(2L));
+        when(memberRepository.getReferenceById(1L)).thenReturn(member);
+        when(crossfitBoxRepository.getReferenceById(2L)).thenReturn(crossfitBox);
+
+        // when
+        MemberCrossfitBoxBulkResultDto result = memberCrossfitBoxService.syncMyCrossfitBoxes(1L, request);
+
+        // then
+        assertThat(result.getAdded()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getRemoved()).isEqualTo(1);
+        assertThat(result.getNotFoundCrossfitBoxIds()).containsExactly(3L);
+        verify(memberCrossfitBoxRepository).saveAll(argThat(rows -> rows instanceof List<?> list && list.size() == 1));
+        verify(eventPublisher).publishEvent(new MyCrossfitBoxesChangedEvent(1L));
+        verify(memberRepository, never()).findById(any());
+        verify(crossfitBoxRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 일괄 동기화 - 같은 박스를 추가하고 제거하면 예외")
+    void syncMyCrossfitBoxes_overlap() {
+        // given
+        MemberCrossfitBoxBulkRequestDto request = new MemberCrossfitBoxBulkRequestDto(
+                List.of(new MemberCrossfitBoxRequestDto(1L, true)), List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> memberCrossfitBoxService.syncMyCrossfitBoxes(1L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 크로스핏박스를 동시에 추가하고 제거할 수 없습니다.");
+        verifyNoInteractions(memberCrossfitBoxRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("내 크로스핏박스 일괄 동기화 - 변경된 행이 없으면 이벤트를 발행하지 않음")
+    void syncMyCrossfitBoxes_noChanges() {
+        // given
+        MemberCrossfitBoxBulkRequestDto request = new MemberCrossfitBoxBulkRequestDto(null, List.of(9L));
+        when(memberCrossfitBoxRepository.deleteByMemberIdAndCrossfitBoxIdIn(1L, Set.of(9L))).thenReturn(0);
+
+        // when
+        MemberCrossfitBoxBulkResultDto result = memberCrossfitBoxService.syncMyCrossfitBoxes(1L, request);
+
+        // then
+        assertThat(result.getRemoved()).isZero();
+        assertThat(result.getAdded()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static MemberCrossfitBoxView view(Long id, Long crossfitBoxId, boolean isFavorite, int daysAgo) {
+        return new MemberCrossfitBoxView(id, crossfitBoxId, "Box " + crossfitBoxId, "서울시 강남구", isFavorite,
+                LocalDateTime.of(2024, 1, 10, 9, 0).minusDays(daysAgo));
     }
 }
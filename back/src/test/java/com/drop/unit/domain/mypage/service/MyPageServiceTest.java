@@ -1,5 +1,6 @@
 package com.drop.unit.domain.mypage.service;
 
+import com.drop.domain.auth.data.Credential;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.member.data.Member;
@@ -8,6 +9,7 @@ import com.drop.domain.mypage.dto.MyPageProfileDto;
 import com.drop.domain.mypage.dto.NotificationSettingDto;
 import com.drop.domain.mypage.dto.PasswordChangeRequestDto;
 import com.drop.domain.mypage.dto.ProfileUpdateRequestDto;
+import com.drop.domain.mypage.event.HomeBoxChangedEvent;
 import com.drop.domain.mypage.service.MyPageService;
 import com.drop.global.code.error.exception.BusinessException;
 import com.drop.global.enums.UserRole;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -45,6 +48,9 @@ class MyPageServiceTest {
     @Mock
     private RedisUtils redisUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MyPageService myPageService;
 
@@ -59,7 +65,7 @@ class MyPageServiceTest {
                 .id(1L)
                 .username("testUser")
                 .email("test@email.com")
-                .password("encodedPassword")
+                .credential(Credential.of("encodedPassword"))
                 .role(UserRole.MEMBER)
                 .notificationEnabled(true)
                 .build();
@@ -148,6 +154,7 @@ class MyPageServiceTest {
 
         // then
         verify(passwordEncoder).encode("newPassword");
+        assertThat(member.getPassword()).isEqualTo("newEncodedPassword");
     }
 
     @Test
@@ -221,6 +228,7 @@ class MyPageServiceTest {
         // then
         verify(memberRepository).findById(1L);
         verify(crossfitBoxRepository).findById(1L);
+        verify(eventPublisher).publishEvent(new HomeBoxChangedEvent(1L));
     }
 
     @Test
@@ -235,6 +243,7 @@ class MyPageServiceTest {
         // then
         verify(memberRepository).findById(1L);
         verify(crossfitBoxRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new HomeBoxChangedEvent(1L));
     }
 
     @Test
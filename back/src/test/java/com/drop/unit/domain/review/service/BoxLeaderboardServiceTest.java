@@ -0,0 +1,221 @@
+package com.drop.unit.domain.review.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxView;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import com.drop.domain.review.data.BoxRatingStats;
+import com.drop.domain.review.dto.TopCrossfitBoxDto;
+import com.drop.domain.review.event.ReviewChangedEvent;
+import com.drop.domain.review.repository.BoxRatingStatsRepository;
+import com.drop.domain.review.repository.ReviewRepository;
+import com.drop.domain.review.service.BoxLeaderboardService;
+import com.drop.global.redis.RedisLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BoxLeaderboardServiceTest {
+
+    private static final List<String> REFRESH_KEYS = List.of("leaderboard:crossfit-boxes:all", "leaderboard:crossfit-boxes:regions");
+    private static final String REGION_KEY_PREFIX = "leaderboard:crossfit-boxes:region:";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private BoxRatingStatsRepository boxRatingStatsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @InjectMocks
+    private BoxLeaderboardService boxLeaderboardService;
+
+    @Test
+    @DisplayName("지역 랭킹을 점수순으로 조회하고 박스 정보와 평점 통계를 함께 반환")
+    void getTopBoxes_region() {
+        // given
+        Set<TypedTuple<Object>> ranked = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("2", 4.6), new DefaultTypedTuple<>("1", 4.2)));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.reverseRangeWithScores("leaderboard:crossfit-boxes:region:서울", 0, 1)).thenReturn(ranked);
+        when(crossfitBoxRepository.findViewsByIdIn(List.of(2L, 1L))).thenReturn(List.of(box(1L, "서울 강남구"), box(2L, "서울특별시 마포구")));
+        when(boxRatingStatsRepository.findAllById(List.of(2L, 1L)))
+                .thenReturn(List.of(BoxRatingStats.of(1L, 10, 42), BoxRatingStats.of(2L, 20, 94)));
+        when(hashOperations.multiGet("leaderboard:crossfit-boxes:recent", List.of("2", "1"))).thenReturn(Arrays.asList("3", null));
+
+        // when
+        List<TopCrossfitBoxDto> top = boxLeaderboardService.getTopBoxes("서울특별시", 2);
+
+        // then
+        assertThat(top).extracting(dto -> dto.getCrossfitBox().getId()).containsExactly(2L, 1L);
+        assertThat(top).extracting(TopCrossfitBoxDto::getRank).containsExactly(1, 2);
+        assertThat(top.get(0).getAverageRating()).isEqualTo(4.7);
+        assertThat(top.get(0).getRecentReviewCount()).isEqualTo(3L);
+        assertThat(top.get(1).getRecentReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 지역이나 조회 개수는 예외 발생")
+    void getTopBoxes_invalidParameters() {
+        // when & then
+        assertThatThrownBy(() -> boxLeaderboardService.getTopBoxes("강남", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지원하지 않는 지역입니다.");
+        assertThatThrownBy(() -> boxLeaderboardService.getTopBoxes(null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 최근 리뷰 수를 늘리고 베이지안 평균 점수와 지역을 한 스크립트로 전국/지역 랭킹에 반영")
+    void onReviewChanged_updatesScore() {
+        // given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("leaderboard:crossfit-boxes:prior-mean")).thenReturn("3.5");
+        when(hashOperations.get("leaderboard:crossfit-boxes:recent", "1")).thenReturn("2");
+        when(boxRatingStatsRepository.findById(1L)).thenReturn(Optional.of(BoxRatingStats.of(1L, 4, 18)));
+        when(crossfitBoxRepository.findViewById(1L)).thenReturn(Optional.of(box(1L, "서울 강남구 테헤란로 1")));
+
+        // when
+        boxLeaderboardService.onReviewChanged(new ReviewChangedEvent(1L, 1, LocalDateTime.now()));
+
+        // then
+        double expected = (5 * 3.5 + 18) / (5 + 4) + 0.5 * 2 / (2 + 5);
+        verify(hashOperations).increment("leaderboard:crossfit-boxes:recent", "1", 1L);
+        verify(hashOperations).increment("leaderboard:crossfit-boxes:changed", "1", 1L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(REFRESH_KEYS), eq("1"), eq(REGION_KEY_PREFIX),
+                argThat((String score) -> Math.abs(Double.parseDouble(score) - expected) < 1e-9), eq("서울"));
+    }
+
+    @Test
+    @DisplayName("오래된 리뷰 삭제로 리뷰가 모두 사라지면 최근 리뷰 수는 그대로 두고 랭킹에서 제거")
+    void onReviewChanged_removesBoxWithoutReviews() {
+        // given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(boxRatingStatsRepository.findById(1L)).thenReturn(Optional.of(BoxRatingStats.of(1L, 0, 0)));
+
+        // when
+        boxLeaderboardService.onReviewChanged(new ReviewChangedEvent(1L, -1, LocalDateTime.now().minusDays(60)));
+
+        // then
+        verify(hashOperations, never()).increment(eq("leaderboard:crossfit-boxes:recent"), eq("1"), anyLong());
+        verify(hashOperations).increment("leaderboard:crossfit-boxes:changed", "1", 0L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(REFRESH_KEYS), eq("1"), eq(REGION_KEY_PREFIX), eq(""), eq(""));
+    }
+
+    @Test
+    @DisplayName("재구성으로 랭킹을 교체한 뒤 재구성 중 바뀐 박스의 최근 리뷰 수와 점수를 다시 반영")
+    void rebuild_replaysChangesDuringRebuild() {
+        // given
+        when(redisLock.runExclusively(eq("leaderboard:crossfit-boxes:rebuild"), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(boxRatingStatsRepository.findAll()).thenReturn(List.of(BoxRatingStats.of(1L, 4, 18)));
+        when(reviewRepository.countRecentReviewsByCrossfitBox(any())).thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+        when(crossfitBoxRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(box(1L, "서울 강남구")));
+        when(redisTemplate.hasKey("leaderboard:crossfit-boxes:changed")).thenReturn(true);
+        when(hashOperations.entries(startsWith("leaderboard:crossfit-boxes:changed:rebuild:"))).thenReturn(Map.of("2", "1"));
+        when(boxRatingStatsRepository.findById(2L)).thenReturn(Optional.of(BoxRatingStats.of(2L, 1, 5)));
+        when(crossfitBoxRepository.findViewById(2L)).thenReturn(Optional.of(box(2L, "부산 해운대구")));
+        when(valueOperations.get("leaderboard:crossfit-boxes:prior-mean")).thenReturn("4.5");
+
+        // when
+        boxLeaderboardService.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(redisTemplate, boxRatingStatsRepository, hashOperations, zSetOperations);
+        inOrder.verify(redisTemplate).delete("leaderboard:crossfit-boxes:changed");
+        inOrder.verify(boxRatingStatsRepository).findAll();
+        inOrder.verify(redisTemplate).rename(startsWith("leaderboard:crossfit-boxes:recent:rebuild:"), eq("leaderboard:crossfit-boxes:recent"));
+        inOrder.verify(hashOperations).increment("leaderboard:crossfit-boxes:recent", "2", 1L);
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(REFRESH_KEYS), eq("2"), eq(REGION_KEY_PREFIX),
+                anyString(), eq("부산"));
+        verify(valueOperations).set("leaderboard:crossfit-boxes:prior-mean", "4.5");
+    }
+
+    @Test
+    @DisplayName("다른 파드가 재구성 중이면 재구성하지 않음")
+    void rebuild_skipsWhenLocked() {
+        // given
+        when(redisLock.runExclusively(eq("leaderboard:crossfit-boxes:rebuild"), any(), any())).thenReturn(false);
+
+        // when
+        boxLeaderboardService.rebuild();
+
+        // then
+        verifyNoInteractions(boxRatingStatsRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("기동 시 다른 파드가 만든 랭킹이 있으면 재구성하지 않음")
+    void rebuildIfMissing_skipsExistingRanking() {
+        // given
+        when(redisTemplate.hasKey("leaderboard:crossfit-boxes:prior-mean")).thenReturn(true);
+
+        // when
+        boxLeaderboardService.rebuildIfMissing();
+
+        // then
+        verifyNoInteractions(redisLock, boxRatingStatsRepository);
+    }
+
+    private static CrossfitBoxView box(Long id, String addressLine1) {
+        return new CrossfitBoxView(id, null, id + "@box.com", null, "박스" + id, null, null, null,
+                null, null, addressLine1, null, null, null, null, 37.5, 127.0, null, null, null);
+    }
+}
@@ -0,0 +1,191 @@
+package com.drop.unit.domain.review.service;
+
+import com.drop.domain.crossfitbox.data.CrossfitBox;
+import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
+import com.drop.domain.member.data.Member;
+import com.drop.domain.member.repository.MemberRepository;
+import com.drop.domain.review.data.BoxRatingStats;
+import com.drop.domain.review.data.Review;
+import com.drop.domain.review.dto.MyReviewCursorResponseDto;
+import com.drop.domain.review.dto.ReviewCursorResponseDto;
+import com.drop.domain.review.dto.ReviewListResponseDto;
+import com.drop.domain.review.dto.ReviewRequestDto;
+import com.drop.domain.review.event.ReviewChangedEvent;
+import com.drop.domain.review.repository.BoxRatingStatsRepository;
+import com.drop.domain.review.repository.ReviewRepository;
+import com.drop.domain.review.service.ReviewService;
+import com.drop.global.code.error.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CrossfitBoxRepository crossfitBoxRepository;
+
+    @Mock
+    private BoxRatingStatsRepository boxRatingStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private Member member;
+    private CrossfitBox crossfitBox;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder().id(1L).username("testUser").email("test@email.com").build();
+        crossfitBox = CrossfitBox.builder().id(10L).name("Test Box").email("box@email.com").build();
+    }
+
+    @Test
+    @DisplayName("리뷰 목록은 비정규화된 통계로 평균과 전체 페이지 수를 계산")
+    void getReviewsByCrossfitBoxId_usesStats() {
+        // given
+        Review review = Review.builder().id(100L).member(member).crossfitBox(crossfitBox).rating(5).build();
+        when(reviewRepository.findSliceByCrossfitBoxIdWithMember(10L, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(List.of(review), PageRequest.of(0, 2), true));
+        when(boxRatingStatsRepository.findById(10L)).thenReturn(Optional.of(BoxRatingStats.of(10L, 3, 13)));
+
+        // when
+        ReviewListResponseDto result = reviewService.getReviewsByCrossfitBoxId(10L, 0, 2);
+
+        // then
+        assertThat(result.getAverageRating()).isEqualTo(4.3);
+        assertThat(result.getReviewCount()).isEqualTo(3L);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.isHasNext()).isTrue();
+        verify(reviewRepository, never()).countByCrossfitBoxId(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 통계를 증가시키고, 통계 행이 없으면 증감값으로 생성")
+    void createReview_insertsStatsWhenMissing() {
+        // given
+        ReviewRequestDto request = new ReviewRequestDto(4, "좋아요");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(crossfitBoxRepository.findById(10L)).thenReturn(Optional.of(crossfitBox));
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(boxRatingStatsRepository.increment(10L, 1, 4)).thenReturn(0);
+
+        // when
+        reviewService.createReview(1L, 10L, request);
+
+        // then
+        verify(boxRatingStatsRepository).insertOrIncrement(10L, 1, 4);
+        verify(reviewRepository, never()).countByCrossfitBoxId(any());
+        verify(eventPublisher).publishEvent(new ReviewChangedEvent(10L, 1, null));
+    }
+
+    @Test
+    @DisplayName("리뷰 수정/삭제 시 평점 차이만큼 통계를 증감")
+    void updateAndDeleteReview_applyDelta() {
+        // given
+        Review review = Review.builder().id(100L).member(member).crossfitBox(crossfitBox).rating(2).build();
+        when(reviewRepository.findById(100L)).thenReturn(Optional.of(review));
+        when(boxRatingStatsRepository.increment(10L, 0, 3)).thenReturn(1);
+        when(boxRatingStatsRepository.increment(10L, -1, -5)).thenReturn(1);
+
+        // when
+        reviewService.updateReview(1L, 100L, new ReviewRequestDto(5, "수정"));
+        reviewService.deleteReview(1L, 100L);
+
+        // then
+        verify(boxRatingStatsRepository).increment(10L, 0, 3);
+        verify(boxRatingStatsRepository).increment(10L, -1, -5);
+        verify(boxRatingStatsRepository, never()).insertOrIncrement(any(), anyLong(), anyLong());
+        verify(eventPublisher).publishEvent(new ReviewChangedEvent(10L, 0, null));
+        verify(eventPublisher).publishEvent(new ReviewChangedEvent(10L, -1, null));
+    }
+
+    @Test
+    @DisplayName("커서로 다음 리뷰 페이지를 count 쿼리 없이 이어서 조회")
+    void getReviewsByCursor_keyset() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Review newest = review(103L, now);
+        Review sameTime = review(102L, now.minusMinutes(1));
+        Review older = review(101L, now.minusMinutes(1));
+        when(reviewRepository.findFirstByCrossfitBoxIdWithMember(10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, sameTime, older));
+        when(reviewRepository.findByCrossfitBoxIdWithMemberAfter(10L, now.minusMinutes(1), 102L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(older));
+        when(boxRatingStatsRepository.findById(10L)).thenReturn(Optional.of(BoxRatingStats.of(10L, 3, 12)));
+
+        // when
+        ReviewCursorResponseDto first = reviewService.getReviewsByCursor(10L, null, 2);
+        ReviewCursorResponseDto second = reviewService.getReviewsByCursor(10L, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getReviews()).extracting("reviewId").containsExactly(103L, 102L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getReviewCount()).isEqualTo(3L);
+        assertThat(second.getReviews()).extracting("reviewId").containsExactly(101L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        verify(reviewRepository, never()).countByCrossfitBoxId(any());
+    }
+
+    @Test
+    @DisplayName("내 리뷰 커서 조회 - 마지막 페이지면 다음 커서가 없음")
+    void getMyReviewsByCursor_lastPage() {
+        // given
+        when(reviewRepository.findFirstByMemberIdWithCrossfitBox(1L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(review(100L, LocalDateTime.of(2024, 5, 1, 12, 0))));
+
+        // when
+        MyReviewCursorResponseDto result = reviewService.getMyReviewsByCursor(1L, "", 10);
+
+        // then
+        assertThat(result.getReviews()).extracting("crossfitBoxName").containsExactly("Test Box");
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 조회 개수는 예외 발생")
+    void getReviewsByCursor_invalidParameters() {
+        // when & then
+        assertThatThrownBy(() -> reviewService.getReviewsByCursor(10L, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> reviewService.getMyReviewsByCursor(1L, null, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    private Review review(Long id, LocalDateTime createdAt) {
+        return Review.builder().id(id).member(member).crossfitBox(crossfitBox).rating(4).createdAt(createdAt).build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.drop.unit.domain.schedule.index;
+
+import com.drop.domain.schedule.dto.TimeSlotView;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.domain.schedule.index.ScheduleTimeSlotIndex;
+import com.drop.domain.schedule.repository.CrossfitBoxScheduleRepository;
+import com.drop.global.enums.DayOfWeek;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleTimeSlotIndexTest {
+
+    // 2026-10-18은 일요일, 2026-10-19는 월요일
+    private static final LocalDateTime SUNDAY_2245 = LocalDateTime.of(2026, 10, 18, 22, 45, 30);
+    private static final LocalDateTime SUNDAY_2340 = LocalDateTime.of(2026, 10, 18, 23, 40);
+    private static final LocalDateTime MONDAY_0500 = LocalDateTime.of(2026, 10, 19, 5, 0);
+
+    @Mock
+    private CrossfitBoxScheduleRepository scheduleRepository;
+
+    @InjectMocks
+    private ScheduleTimeSlotIndex scheduleTimeSlotIndex;
+
+    private void givenIndexed() {
+        when(scheduleRepository.findAllTimeSlotViews()).thenReturn(List.of(
+                slot(1L, DayOfWeek.MONDAY, 19, 0, "저녁 WOD"),
+                slot(1L, DayOfWeek.SUNDAY, 23, 30, "야간 WOD"),
+                slot(1L, DayOfWeek.MONDAY, 6, 0, "새벽 WOD"),
+                slot(2L, DayOfWeek.SUNDAY, 22, 0, "오픈짐")));
+        scheduleTimeSlotIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("범위 안에 시작하는 수업만 남은 시간과 함께 반환")
+    void findUpcoming_withinWindow() {
+        // given
+        givenIndexed();
+
+        // when
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> result =
+                scheduleTimeSlotIndex.findUpcoming(List.of(1L, 2L, 3L), SUNDAY_2245, 90, 3);
+
+        // then
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L)).extracting(ScheduleTimeSlotIndex.UpcomingSlot::className).containsExactly("야간 WOD");
+        assertThat(result.get(1L).get(0).minutesUntil()).isEqualTo(45);
+        assertThat(result.get(1L).get(0).startsAt()).isEqualTo(LocalDateTime.of(2026, 10, 18, 23, 30));
+    }
+
+    @Test
+    @DisplayName("일요일 밤에는 다음 주 월요일 수업까지 이어서 탐색")
+    void findUpcoming_wrapsWeek() {
+        // given
+        givenIndexed();
+
+        // when
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> result =
+                scheduleTimeSlotIndex.findUpcoming(List.of(1L, 2L), SUNDAY_2340, 400, 3);
+
+        // then
+        assertThat(result).containsOnlyKeys(1L);
+        ScheduleTimeSlotIndex.UpcomingSlot first = result.get(1L).get(0);
+        assertThat(first.dayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(first.minutesUntil()).isEqualTo(380);
+        assertThat(first.startsAt()).isEqualTo(LocalDateTime.of(2026, 10, 19, 6, 0));
+    }
+
+    @Test
+    @DisplayName("박스별 최대 개수만큼 시작 순서대로 반환")
+    void findUpcoming_limitPerBox() {
+        // given
+        givenIndexed();
+
+        // when
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> all =
+                scheduleTimeSlotIndex.findUpcoming(List.of(1L), MONDAY_0500, 24 * 60, 3);
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> limited =
+                scheduleTimeSlotIndex.findUpcoming(List.of(1L), MONDAY_0500, 24 * 60, 1);
+
+        // then
+        assertThat(all.get(1L)).extracting(ScheduleTimeSlotIndex.UpcomingSlot::className)
+                .containsExactly("새벽 WOD", "저녁 WOD");
+        assertThat(limited.get(1L)).extracting(ScheduleTimeSlotIndex.UpcomingSlot::className)
+                .containsExactly("새벽 WOD");
+    }
+
+    @Test
+    @DisplayName("시간표 변경 시 해당 박스의 슬롯만 다시 읽음")
+    void onScheduleChanged() {
+        // given
+        givenIndexed();
+        when(scheduleRepository.findTimeSlotViewsByCrossfitBoxIdIn(List.of(2L)))
+                .thenReturn(List.of(slot(2L, DayOfWeek.MONDAY, 5, 30, "오픈짐")));
+        when(scheduleRepository.findTimeSlotViewsByCrossfitBoxIdIn(List.of(1L))).thenReturn(List.of());
+
+        // when
+        scheduleTimeSlotIndex.onScheduleChanged(new ScheduleChangedEvent(2L));
+        scheduleTimeSlotIndex.onScheduleChanged(new ScheduleChangedEvent(1L, true));
+
+        // then
+        assertThat(scheduleTimeSlotIndex.findUpcoming(List.of(1L, 2L), MONDAY_0500, 60, 3))
+                .containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 후보 박스의 슬롯을 한 번에 조회")
+    void findUpcoming_notReady() {
+        // given
+        when(scheduleRepository.findTimeSlotViewsByCrossfitBoxIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(slot(2L, DayOfWeek.MONDAY, 5, 30, "오픈짐")));
+
+        // when
+        Map<Long, List<ScheduleTimeSlotIndex.UpcomingSlot>> result =
+                scheduleTimeSlotIndex.findUpcoming(List.of(1L, 2L), MONDAY_0500, 60, 3);
+
+        // then
+        assertThat(scheduleTimeSlotIndex.isReady()).isFalse();
+        assertThat(result.get(2L)).extracting(ScheduleTimeSlotIndex.UpcomingSlot::minutesUntil).containsExactly(30);
+    }
+
+    private static TimeSlotView slot(Long crossfitBoxId, DayOfWeek dayOfWeek, int hour, int minute, String className) {
+        LocalTime start = LocalTime.of(hour, minute);
+        return new TimeSlotView(crossfitBoxId, dayOfWeek, start, start.plusHours(1), className);
+    }
+}
@@ -0,0 +1,100 @@
+package com.drop.unit.domain.schedule.service;
+
+import com.drop.domain.schedule.dto.ScheduleListDto;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.domain.schedule.service.ScheduleCacheService;
+import com.drop.domain.schedule.service.ScheduleService;
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCacheServiceTest {
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private TwoLevelCacheManager twoLevelCacheManager;
+
+    @Mock
+    private TwoLevelCache<String> scheduleCache;
+
+    private ScheduleCacheService scheduleCacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(twoLevelCacheManager.getCache(eq("crossfitBoxSchedules"), eq(String.class), anyInt(), any(Duration.class)))
+                .thenReturn(scheduleCache);
+        scheduleCacheService = new ScheduleCacheService(scheduleService, new ObjectMapper(), twoLevelCacheManager);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 시간표를 조회해 응답 전체를 JSON으로 직렬화")
+    @SuppressWarnings("unchecked")
+    void getScheduleResponse_serializesOnMiss() {
+        // given
+        when(scheduleCache.get(eq("1"), any())).thenAnswer(invocation ->
+                ((Supplier<String>) invocation.getArgument(1)).get());
+        when(scheduleService.getSchedule(1L)).thenReturn(ScheduleListDto.builder()
+                .crossfitBoxId(1L)
+                .schedules(List.of())
+                .build());
+
+        // when
+        String result = scheduleCacheService.getScheduleResponse(1L);
+
+        // then
+        assertThat(result)
+                .startsWith("{\"status\":200,\"code\":\"S001\"")
+                .endsWith("\"data\":{\"crossfitBoxId\":1,\"schedules\":[]}}");
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB를 조회하지 않음")
+    void getScheduleResponse_hit() {
+        // given
+        when(scheduleCache.get(eq("1"), any())).thenReturn("{\"cached\":true}");
+
+        // when
+        String result = scheduleCacheService.getScheduleResponse(1L);
+
+        // then
+        assertThat(result).isEqualTo("{\"cached\":true}");
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    @DisplayName("시간표 변경 시 해당 박스 캐시만 무효화")
+    void onScheduleChanged_evictsBox() {
+        // when
+        scheduleCacheService.onScheduleChanged(new ScheduleChangedEvent(1L));
+
+        // then
+        verify(scheduleCache).evict("1");
+    }
+
+    @Test
+    @DisplayName("다른 파드에서 전달된 변경은 다시 무효화하지 않음")
+    void onScheduleChanged_ignoresRemote() {
+        // when
+        scheduleCacheService.onScheduleChanged(new ScheduleChangedEvent(1L, true));
+
+        // then
+        verify(scheduleCache, never()).evict(anyString());
+    }
+}
@@ -3,10 +3,12 @@ package com.drop.unit.domain.schedule.service;
 import com.drop.domain.crossfitbox.data.CrossfitBox;
 import com.drop.domain.crossfitbox.repository.CrossfitBoxRepository;
 import com.drop.domain.schedule.data.CrossfitBoxSchedule;
+import com.drop.domain.schedule.data.CrossfitBoxTimeSlot;
 import com.drop.domain.schedule.dto.ScheduleDto;
 import com.drop.domain.schedule.dto.ScheduleListDto;
 import com.drop.domain.schedule.dto.ScheduleUpdateDto;
 import com.drop.domain.schedule.dto.TimeSlotDto;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
 import com.drop.domain.schedule.mapper.ScheduleMapper;
 import com.drop.domain.schedule.repository.CrossfitBoxScheduleRepository;
 import com.drop.domain.schedule.service.ScheduleService;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -41,6 +44,9 @@ class ScheduleServiceTest {
     @Mock
     private ScheduleMapper scheduleMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -108,6 +114,56 @@ class ScheduleServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("여러 박스 시간표 일괄 조회 - 한 번의 쿼리로 요청 순서대로 반환")
+    void getSchedules_batch() {
+        // given
+        when(scheduleRepository.findByCrossfitBoxIdInWithTimeSlots(List.of(2L, 1L), List.of(DayOfWeek.values())))
+                .thenReturn(List.of(schedule));
+        when(scheduleMapper.toScheduleDto(schedule)).thenReturn(scheduleDto);
+
+        // when
+        List<ScheduleListDto> result = scheduleService.getSchedules(List.of(2L, 1L, 2L), null);
+
+        // then
+        assertThat(result).extracting(ScheduleListDto::getCrossfitBoxId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getSchedules()).hasSize(7)
+                .allSatisfy(s -> assertThat(s.getTimeSlots()).isEmpty());
+        assertThat(result.get(1).getSchedules()).hasSize(7).contains(scheduleDto);
+        verify(scheduleRepository, never()).findByCrossfitBoxIdWithTimeSlots(any());
+    }
+
+    @Test
+    @DisplayName("여러 박스 시간표 일괄 조회 - 요일 지정 시 해당 요일만 반환")
+    void getSchedules_singleDay() {
+        // given
+        when(scheduleRepository.findByCrossfitBoxIdInWithTimeSlots(List.of(1L), List.of(DayOfWeek.MONDAY)))
+                .thenReturn(List.of(schedule));
+        when(scheduleMapper.toScheduleDto(schedule)).thenReturn(scheduleDto);
+
+        // when
+        List<ScheduleListDto> result = scheduleService.getSchedules(List.of(1L), DayOfWeek.MONDAY);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSchedules()).containsExactly(scheduleDto);
+    }
+
+    @Test
+    @DisplayName("여러 박스 시간표 일괄 조회 - 개수 초과")
+    void getSchedules_tooMany() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 51; id++) {
+            ids.add(id);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.getSchedules(ids, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(scheduleRepository);
+    }
+
     @Test
     @DisplayName("시간표 전체 업데이트 - 성공")
     void updateSchedule_success() {
@@ -127,8 +183,6 @@ class ScheduleServiceTest {
         );
 
         when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(scheduleRepository.findByCrossfitBoxId(1L)).thenReturn(List.of());
-        when(scheduleRepository.save(any(CrossfitBoxSchedule.class))).thenReturn(schedule);
         when(scheduleRepository.findByCrossfitBoxIdWithTimeSlots(1L)).thenReturn(List.of(schedule));
         when(scheduleMapper.toScheduleDto(any())).thenReturn(scheduleDto);
         when(scheduleMapper.parseTime("09:00")).thenReturn(LocalTime.of(9, 0));
@@ -139,7 +193,47 @@ class ScheduleServiceTest {
 
         // then
         assertThat(result).isNotNull();
+        assertThat(schedule.getTimeSlots()).extracting(CrossfitBoxTimeSlot::getClassName).containsExactly("WOD");
         verify(crossfitBoxRepository).findById(1L);
+        verify(scheduleRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("시간표 업데이트 - 기존 슬롯과 비교해 바뀐 슬롯만 추가/삭제")
+    void updateSchedule_diffsTimeSlots() {
+        // given
+        CrossfitBoxTimeSlot morning = timeSlot(10L, 9, "WOD");
+        CrossfitBoxTimeSlot lunch = timeSlot(11L, 12, "오픈짐");
+        CrossfitBoxTimeSlot evening = timeSlot(12L, 19, "WOD");
+        List.of(morning, lunch, evening).forEach(schedule::addTimeSlot);
+
+        List<ScheduleDto> scheduleDtos = List.of(ScheduleDto.builder()
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .isClosed(false)
+                .timeSlots(List.of(
+                        slotDto(10L, "09:00", "10:00", "WOD", "#000000"),
+                        slotDto(null, "19:00", "20:00", "WOD", null),
+                        slotDto(null, "21:00", "22:00", "야간 WOD", null)))
+                .build());
+
+        when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
+        when(scheduleRepository.findByCrossfitBoxIdWithTimeSlots(1L)).thenReturn(List.of(schedule));
+        when(scheduleMapper.toScheduleDto(any())).thenReturn(scheduleDto);
+        for (int hour : new int[]{9, 10, 19, 20, 21, 22}) {
+            when(scheduleMapper.parseTime(String.format("%02d:00", hour))).thenReturn(LocalTime.of(hour, 0));
+        }
+
+        // when
+        scheduleService.updateSchedule(1L, scheduleDtos);
+
+        // then
+        assertThat(schedule.getTimeSlots()).hasSize(3)
+                .contains(morning, evening)
+                .doesNotContain(lunch);
+        assertThat(morning.getColor()).isEqualTo("#000000");
+        assertThat(schedule.getTimeSlots().get(2).getId()).isNull();
+        assertThat(schedule.getTimeSlots().get(2).getClassName()).isEqualTo("야간 WOD");
     }
 
     @Test
@@ -153,6 +247,7 @@ class ScheduleServiceTest {
         assertThatThrownBy(() -> scheduleService.updateSchedule(999L, scheduleDtos))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("CrossfitBox를 찾을 수 없습니다");
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -172,7 +267,6 @@ class ScheduleServiceTest {
                 .build();
 
         when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(scheduleRepository.findByCrossfitBoxId(1L)).thenReturn(List.of());
         when(scheduleRepository.save(any(CrossfitBoxSchedule.class))).thenReturn(schedule);
         when(scheduleRepository.findByCrossfitBoxIdWithTimeSlots(1L)).thenReturn(List.of(schedule));
         when(scheduleMapper.toScheduleDto(any())).thenReturn(scheduleDto);
@@ -184,6 +278,7 @@ class ScheduleServiceTest {
 
         // then
         assertThat(result).isNotNull();
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(1L));
     }
 
     @Test
@@ -196,7 +291,6 @@ class ScheduleServiceTest {
                 .build();
 
         when(crossfitBoxRepository.findById(1L)).thenReturn(Optional.of(crossfitBox));
-        when(scheduleRepository.findByCrossfitBoxId(1L)).thenReturn(List.of(schedule));
         when(scheduleRepository.findByCrossfitBoxIdWithTimeSlots(1L)).thenReturn(List.of(schedule));
         when(scheduleMapper.toScheduleDto(any())).thenReturn(scheduleDto);
 
@@ -219,4 +313,23 @@ class ScheduleServiceTest {
         // then
         verify(scheduleRepository, times(7)).save(any(CrossfitBoxSchedule.class));
     }
+
+    private static CrossfitBoxTimeSlot timeSlot(Long id, int hour, String className) {
+        return CrossfitBoxTimeSlot.builder()
+                .id(id)
+                .startTime(LocalTime.of(hour, 0))
+                .endTime(LocalTime.of(hour + 1, 0))
+                .className(className)
+                .build();
+    }
+
+    private static TimeSlotDto slotDto(Long id, String startTime, String endTime, String className, String color) {
+        return TimeSlotDto.builder()
+                .id(id)
+                .startTime(startTime)
+                .endTime(endTime)
+                .className(className)
+                .color(color)
+                .build();
+    }
 }
@@ -0,0 +1,93 @@
+package com.drop.unit.domain.schedule.service;
+
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDistanceDto;
+import com.drop.domain.crossfitbox.dto.CrossfitBoxDto;
+import com.drop.domain.crossfitbox.index.CrossfitBoxSpatialIndex;
+import com.drop.domain.crossfitbox.service.CrossfitBoxService;
+import com.drop.domain.schedule.dto.UpcomingClassDto;
+import com.drop.domain.schedule.index.ScheduleTimeSlotIndex;
+import com.drop.domain.schedule.service.UpcomingClassService;
+import com.drop.global.enums.DayOfWeek;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpcomingClassServiceTest {
+
+    @Mock
+    private CrossfitBoxSpatialIndex crossfitBoxSpatialIndex;
+
+    @Mock
+    private ScheduleTimeSlotIndex scheduleTimeSlotIndex;
+
+    @Mock
+    private CrossfitBoxService crossfitBoxService;
+
+    @InjectMocks
+    private UpcomingClassService upcomingClassService;
+
+    @Test
+    @DisplayName("반경 내 박스 중 곧 수업이 있는 박스만 첫 수업 시작 순으로 반환")
+    void getUpcomingClasses() {
+        // given
+        when(crossfitBoxSpatialIndex.isReady()).thenReturn(true);
+        when(crossfitBoxSpatialIndex.findWithinRadius(37.5, 127.0, 5.0)).thenReturn(List.of(
+                distance(1L, 0.5), distance(2L, 1.5), distance(3L, 3.0)));
+        when(scheduleTimeSlotIndex.findUpcoming(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class), eq(90), eq(3)))
+                .thenReturn(Map.of(
+                        1L, List.of(slot("저녁 WOD", 60)),
+                        3L, List.of(slot("오픈짐", 15), slot("저녁 WOD", 75))));
+
+        // when
+        List<UpcomingClassDto> result = upcomingClassService.getUpcomingClasses(37.5, 127.0, 5.0, 90);
+
+        // then
+        assertThat(result).extracting(dto -> dto.getCrossfitBox().getId()).containsExactly(3L, 1L);
+        assertThat(result.get(0).getDistanceKm()).isEqualTo(3.0);
+        assertThat(result.get(0).getClasses()).extracting("className").containsExactly("오픈짐", "저녁 WOD");
+        assertThat(result.get(0).getClasses().get(0).getStartTime()).isEqualTo("19:00");
+        assertThat(result.get(0).getClasses().get(0).getMinutesUntil()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("반경 또는 시간 범위가 올바르지 않으면 예외 발생")
+    void getUpcomingClasses_invalidParameters() {
+        // when & then
+        assertThatThrownBy(() -> upcomingClassService.getUpcomingClasses(37.5, 127.0, 51.0, 90))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> upcomingClassService.getUpcomingClasses(37.5, 127.0, 5.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> upcomingClassService.getUpcomingClasses(91.0, 127.0, 5.0, 90))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌표 범위가 올바르지 않습니다.");
+        verifyNoInteractions(crossfitBoxSpatialIndex, scheduleTimeSlotIndex);
+    }
+
+    private static CrossfitBoxDistanceDto distance(Long id, double distanceKm) {
+        return CrossfitBoxDistanceDto.builder()
+                .crossfitBox(CrossfitBoxDto.builder().id(id).build())
+                .distanceKm(distanceKm)
+                .build();
+    }
+
+    private static ScheduleTimeSlotIndex.UpcomingSlot slot(String className, int minutesUntil) {
+        return new ScheduleTimeSlotIndex.UpcomingSlot(DayOfWeek.MONDAY, LocalTime.of(19, 0), LocalTime.of(20, 0),
+                className, LocalDateTime.of(2026, 10, 19, 19, 0), minutesUntil);
+    }
+}
@@ -0,0 +1,94 @@
+package com.drop.unit.global.migration;
+
+import com.drop.global.migration.DataMigration;
+import com.drop.global.migration.DataMigrationRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataMigrationRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DataMigration installed;
+
+    @Mock
+    private DataMigration pending;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+        doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(installed.version()).thenReturn(1);
+        when(pending.version()).thenReturn(2);
+        when(jdbcTemplate.queryForList("SELECT version FROM data_migration_history", Integer.class))
+                .thenReturn(List.of(1));
+    }
+
+    @Test
+    @DisplayName("이력에 없는 이관만 실행하고 이력에 기록")
+    void runsPendingMigrationsOnly() {
+        // given
+        when(pending.description()).thenReturn("pending");
+        DataMigrationRunner runner = new DataMigrationRunner(List.of(pending, installed), dataSource, jdbcTemplate, transactionTemplate);
+
+        // when
+        runner.afterSingletonsInstantiated();
+
+        // then
+        verify(installed, never()).migrate();
+        verify(pending).migrate();
+        verify(jdbcTemplate).update(startsWith("INSERT INTO data_migration_history"), eq(2), eq("pending"), any());
+    }
+
+    @Test
+    @DisplayName("이관이 실패하면 기동을 중단")
+    void failsStartupOnError() {
+        // given
+        doThrow(new IllegalStateException("boom")).when(pending).migrate();
+        when(pending.description()).thenReturn("pending");
+        DataMigrationRunner runner = new DataMigrationRunner(List.of(installed, pending), dataSource, jdbcTemplate, transactionTemplate);
+
+        // when & then
+        assertThatThrownBy(runner::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version: 2");
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO data_migration_history"), any(), any(), any());
+    }
+}
@@ -0,0 +1,67 @@
+package com.drop.unit.global.redis;
+
+import com.drop.domain.crossfitbox.event.CrossfitBoxChangedEvent;
+import com.drop.domain.schedule.event.ScheduleChangedEvent;
+import com.drop.global.redis.RedisEventRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisEventRelayTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RedisEventRelay<CrossfitBoxChangedEvent> relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisEventRelay<>("crossfit-box:changed", CrossfitBoxChangedEvent.class,
+                id -> new CrossfitBoxChangedEvent(id, true), redisTemplate, redisMessageListenerContainer, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("로컬 이벤트만 전파하고 remote 이벤트와 다른 종류의 이벤트는 무시")
+    void onEvent_relaysLocalEventsOfItsType() {
+        // when
+        relay.onEvent(new CrossfitBoxChangedEvent(1L));
+        relay.onEvent(new CrossfitBoxChangedEvent(2L, true));
+        relay.onEvent(new ScheduleChangedEvent(3L));
+
+        // then
+        verify(redisTemplate, times(1)).convertAndSend(eq("crossfit-box:changed"), anyString());
+        verify(redisTemplate).convertAndSend(eq("crossfit-box:changed"), endsWith(":1"));
+    }
+
+    @Test
+    @DisplayName("다른 파드의 메시지는 remote 이벤트로 다시 발행")
+    void onMessage_publishesRemoteEvent() {
+        // when
+        relay.onMessage(new DefaultMessage("crossfit-box:changed".getBytes(StandardCharsets.UTF_8),
+                "other-instance:7".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(eventPublisher).publishEvent(new CrossfitBoxChangedEvent(7L, true));
+    }
+}
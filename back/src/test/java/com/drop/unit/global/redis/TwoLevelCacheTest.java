@@ -0,0 +1,108 @@
+package com.drop.unit.global.redis;
+
+import com.drop.global.redis.TwoLevelCache;
+import com.drop.global.redis.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String VALUE_KEY = "cache:test:1";
+    private static final String GENERATION_KEY = "cache:test:1:generation";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private TwoLevelCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisTemplate, redisMessageListenerContainer, new ObjectMapper());
+        cache = manager.getCache("test", String.class, 10, Duration.ofMinutes(10));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 조회 전에 읽은 세대와 함께 L2에 저장하고 L1에 보관")
+    void get_storesWithGenerationReadBeforeLoading() {
+        // given
+        when(valueOperations.multiGet(List.of(VALUE_KEY, GENERATION_KEY))).thenReturn(Arrays.asList(null, "3"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = cache.get("1", () -> "fresh" + loads.incrementAndGet());
+        String second = cache.get("1", () -> "fresh" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("fresh1");
+        assertThat(second).isEqualTo("fresh1");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(VALUE_KEY, GENERATION_KEY)),
+                eq("3"), eq("fresh1"), eq("600000"));
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 읽어 온 값은 응답에만 쓰고 L1/L2에 저장하지 않음")
+    void get_skipsPutWhenEvictedDuringLoad() {
+        // given
+        when(valueOperations.multiGet(List.of(VALUE_KEY, GENERATION_KEY))).thenReturn(Arrays.asList(null, null));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String stale = cache.get("1", () -> {
+            loads.incrementAndGet();
+            cache.evict("1");
+            return "stale";
+        });
+        String next = cache.get("1", () -> "fresh" + loads.incrementAndGet());
+
+        // then
+        assertThat(stale).isEqualTo("stale");
+        assertThat(next).isEqualTo("fresh2");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(VALUE_KEY, GENERATION_KEY)),
+                eq(""), eq("stale"), anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(VALUE_KEY, GENERATION_KEY)), eq("600000"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 세대를 알 수 없으면 L2에 저장하지 않고 L1에만 보관")
+    void get_skipsRemotePutWhenRedisUnavailable() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        String value = cache.get("1", () -> "fresh");
+        String cached = cache.get("1", () -> "other");
+
+        // then
+        assertThat(value).isEqualTo("fresh");
+        assertThat(cached).isEqualTo("fresh");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+}
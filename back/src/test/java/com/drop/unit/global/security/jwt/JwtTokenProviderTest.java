@@ -0,0 +1,92 @@
+package com.drop.unit.global.security.jwt;
+
+import com.drop.global.security.CustomUserDetails;
+import com.drop.global.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "test-secret-key-for-jwt-token-provider-must-be-long-enough-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = newProvider(3_600_000L);
+        userDetails = CustomUserDetails.of(1L, "test@email.com", "ROLE_MEMBER");
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐싱된 Claims를 반환")
+    void parseClaims_cachesVerifiedClaims() {
+        // given
+        String accessToken = jwtTokenProvider.generateTokenDto(userDetails).getAccessToken();
+
+        // when
+        Claims first = jwtTokenProvider.parseClaims(accessToken);
+        Claims second = jwtTokenProvider.parseClaims(accessToken);
+        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("test@email.com");
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("캐싱된 Claims는 공유되므로 변경할 수 없음")
+    void parseClaims_readOnly() {
+        // given
+        String accessToken = jwtTokenProvider.generateTokenDto(userDetails).getAccessToken();
+        Claims claims = jwtTokenProvider.parseClaims(accessToken);
+
+        // when & then
+        assertThatThrownBy(() -> claims.put("userRole", "ROLE_ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.setSubject("other@email.com")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(jwtTokenProvider.parseClaims(accessToken).get("userRole")).isEqualTo("ROLE_MEMBER");
+    }
+
+    @Test
+    @DisplayName("위조된 토큰은 캐싱되지 않고 매번 예외 발생")
+    void parseClaims_tamperedToken() {
+        // given
+        String accessToken = jwtTokenProvider.generateTokenDto(userDetails).getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시를 거쳐도 만료 예외 발생")
+    void parseClaims_expiredToken() {
+        // given
+        String expired = newProvider(-1_000L).generateTokenDto(userDetails).getAccessToken();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    private static JwtTokenProvider newProvider(long accessTokenExpirationMillis) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(provider, "accessTokenExpirationMillis", accessTokenExpirationMillis);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpirationMillis", 259_200_000L);
+        provider.init();
+        return provider;
+    }
+}